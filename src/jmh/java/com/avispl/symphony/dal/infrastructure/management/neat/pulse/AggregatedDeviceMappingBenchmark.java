@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateStore;
+
+/**
+ * AggregatedDeviceMappingBenchmark
+ * Throughput of mapping the cached endpoints to aggregated devices: the whole list as published to Symphony,
+ * and the config and sensor mapping of a single device, cycling through the fleet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AggregatedDeviceMappingBenchmark {
+	private static final MethodHandle CLONE_AND_POPULATE = findMethod("cloneAndPopulateAggregatedDeviceList");
+	private static final MethodHandle POPULATE_DEVICE_SETTINGS = findMethod("populateDeviceSettings", int.class, Map.class, List.class);
+	private static final MethodHandle POPULATE_DEVICE_SENSOR = findMethod("populateDeviceSensor", int.class, Map.class, Map.class);
+
+	@Param({ "100", "1000", "10000", "50000" })
+	private int endpoints;
+
+	private NeatPulseCommunicator communicator;
+	private int nextOrdinal;
+
+	/**
+	 * Creates a communicator whose cache holds the synthetic fleet
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		communicator = new NeatPulseCommunicator();
+		Field store = NeatPulseCommunicator.class.getDeclaredField("cachedMonitoringDevice");
+		store.setAccessible(true);
+		SyntheticFleet.populate((DeviceStateStore) store.get(communicator), endpoints);
+	}
+
+	/**
+	 * Releases the mapping pool
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		communicator.destroy();
+	}
+
+	/**
+	 * Maps the whole fleet, once per {@code retrieveMultipleStatistics()}
+	 */
+	@Benchmark
+	public Object cloneAndPopulateAggregatedDeviceList() throws Throwable {
+		return CLONE_AND_POPULATE.invoke(communicator);
+	}
+
+	/**
+	 * Maps the config of one device, with its controllable properties
+	 */
+	@Benchmark
+	public Object populateDeviceSettings() throws Throwable {
+		Map<String, String> stats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		POPULATE_DEVICE_SETTINGS.invoke(communicator, nextOrdinal(), stats, advancedControllableProperties);
+		return advancedControllableProperties;
+	}
+
+	/**
+	 * Maps the sensors of one device
+	 */
+	@Benchmark
+	public Object populateDeviceSensor() throws Throwable {
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> dynamicStats = new HashMap<>();
+		POPULATE_DEVICE_SENSOR.invoke(communicator, nextOrdinal(), stats, dynamicStats);
+		return stats;
+	}
+
+	/**
+	 * Retrieves the ordinal of the next device of the fleet
+	 */
+	private int nextOrdinal() {
+		int ordinal = nextOrdinal;
+		nextOrdinal = ordinal + 1 == endpoints ? 0 : ordinal + 1;
+		return ordinal;
+	}
+
+	/**
+	 * Retrieves a handle on a private method of the communicator
+	 */
+	static MethodHandle findMethod(String name, Class<?>... parameterTypes) {
+		try {
+			Method method = NeatPulseCommunicator.class.getDeclaredMethod(name, parameterTypes);
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Method " + name + " is not found in NeatPulseCommunicator", e);
+		}
+	}
+}
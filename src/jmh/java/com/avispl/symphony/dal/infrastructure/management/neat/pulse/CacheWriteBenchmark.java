@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateApplier;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateStore;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateUpdate;
+
+/**
+ * CacheWriteBenchmark
+ * Throughput of writing a full sweep of poll results into the cache, which replaced putMapIntoCachedData:
+ * directly into the store, and through the applier as the polling threads do.
+ * One operation is the refresh of the info, config and sensors of every endpoint of the fleet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheWriteBenchmark {
+	@Param({ "100", "1000", "10000", "50000" })
+	private int endpoints;
+
+	private String[] deviceIds;
+	private String[][] info;
+	private String[][] settings;
+	private double[][][] sensors;
+	private DeviceStateStore store;
+	private DeviceStateApplier applier;
+
+	/**
+	 * Creates the poll results of the synthetic fleet and a store already holding it
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		deviceIds = new String[endpoints];
+		info = new String[endpoints][];
+		settings = new String[endpoints][];
+		sensors = new double[endpoints][][];
+		for (int i = 0; i < endpoints; i++) {
+			deviceIds[i] = SyntheticFleet.getDeviceId(i);
+			info[i] = SyntheticFleet.createInfo(i);
+			settings[i] = SyntheticFleet.createSettings(i);
+			sensors[i] = SyntheticFleet.createSensors(i);
+		}
+		store = new DeviceStateStore();
+		SyntheticFleet.populate(store, endpoints);
+		applier = new DeviceStateApplier(store);
+		applier.start();
+	}
+
+	/**
+	 * Stops the applier thread
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		applier.stop();
+	}
+
+	/**
+	 * Writes a sweep directly into the store
+	 */
+	@Benchmark
+	public int putIntoStore() {
+		for (int i = 0; i < endpoints; i++) {
+			store.putInfo(deviceIds[i], info[i]);
+			store.putSettings(deviceIds[i], settings[i]);
+			store.putSensors(deviceIds[i], sensors[i]);
+		}
+		return store.size();
+	}
+
+	/**
+	 * Writes a sweep through the applier and waits until it is applied
+	 */
+	@Benchmark
+	public boolean submitToApplier() throws InterruptedException {
+		int last = endpoints - 1;
+		for (int i = 0; i < last; i++) {
+			applier.submit(DeviceStateUpdate.info(deviceIds[i], info[i]));
+			applier.submit(DeviceStateUpdate.roomSettings(deviceIds[i], settings[i]));
+			applier.submit(DeviceStateUpdate.sensors(deviceIds[i], sensors[i]));
+		}
+		applier.submit(DeviceStateUpdate.info(deviceIds[last], info[last]));
+		applier.submit(DeviceStateUpdate.roomSettings(deviceIds[last], settings[last]));
+		return applier.submitAndWait(DeviceStateUpdate.sensors(deviceIds[last], sensors[last]), NeatPulseConstant.CACHE_APPLY_TIMEOUT);
+	}
+}
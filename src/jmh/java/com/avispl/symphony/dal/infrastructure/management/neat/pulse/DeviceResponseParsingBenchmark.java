@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * DeviceResponseParsingBenchmark
+ * Parse time of the per-device info and config responses, typed records against the generic JsonNode mapping they replaced.
+ * The gc profiler of the benchmark profile compares the bytes allocated per response.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeviceResponseParsingBenchmark {
+	private static final byte[] DEVICE_INFO_RESPONSE = ("{\"id\":\"58fdaf7d-beb6-4d5c-ad35-aa28e84e4358\",\"serial\":\"NA12225002340\",\"connected\":true,"
+			+ "\"model\":\"NF19A1\",\"firmwareVersion\":\"NFA1.20240312.0503\",\"latestVersion\":\"NFA1.20240312.0503\",\"roomId\":1022,"
+			+ "\"roomName\":\"Symphony Lab\",\"controllerMode\":\"Room Controller\",\"localIpAddress\":\"10.10.2.11\",\"inCallStatus\":\"IDLE\","
+			+ "\"otaChannel\":\"stable\",\"connectionTime\":\"2024-05-03T05:04:12.345Z\",\"primaryMode\":\"msteams\",\"regionId\":\"us\","
+			+ "\"macAddresses\":[\"aa:bb:cc:dd:ee:ff\",\"aa:bb:cc:dd:ee:00\"],\"capabilities\":{\"sensor\":true,\"camera\":false,\"audio\":[\"usb\",\"hdmi\"]}}")
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] DEVICE_SETTINGS_RESPONSE = ("{\"screenStandby\":300000,\"autoWakeup\":true,\"nightMode\":false,\"brightness\":0.5,"
+			+ "\"hdmiCecControl\":true,\"screenStayOn\":false,\"frameRatePreferred\":true,\"bluetooth\":true,\"byodMode\":false,\"time24h\":true,"
+			+ "\"dateFormat\":\"MM/dd/yyyy\",\"ntpServer\":\"time.google.com\",\"timezone\":\"America/New_York\",\"language\":\"en-US\","
+			+ "\"usbAudio\":false,\"highContrast\":false,\"screenReader\":false,\"fontSize\":\"default\",\"colorCorrection\":\"disabled\","
+			+ "\"profileId\":\"p-1\",\"locked\":[\"timezone\",\"language\"],\"wifi\":{\"ssid\":\"lab\",\"band\":5}}").getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectReader deviceInfoReader = objectMapper.readerFor(DeviceInfoResponse.class);
+	private final ObjectReader deviceSettingsReader = objectMapper.readerFor(DeviceSettingsResponse.class);
+
+	/**
+	 * Info response bound to its typed record
+	 */
+	@Benchmark
+	public DeviceInfoResponse deviceInfoTypedRecord() throws Exception {
+		return deviceInfoReader.readValue(DEVICE_INFO_RESPONSE);
+	}
+
+	/**
+	 * Info response mapped the way the communicator did before the typed records
+	 */
+	@Benchmark
+	public Map<DeviceInfo, String> deviceInfoJsonNode() throws Exception {
+		JsonNode response = objectMapper.readTree(DEVICE_INFO_RESPONSE);
+		Map<DeviceInfo, String> mappingValue = new EnumMap<>(DeviceInfo.class);
+		for (DeviceInfo item : DeviceInfo.values()) {
+			String value = NeatPulseConstant.EMPTY;
+			JsonNode itemValueNode = response.get(item.getValue());
+			if (itemValueNode != null) {
+				value = itemValueNode.isArray() ? itemValueNode.toString() : itemValueNode.asText();
+			}
+			mappingValue.put(item, value);
+		}
+		return mappingValue;
+	}
+
+	/**
+	 * Config response bound to its typed record
+	 */
+	@Benchmark
+	public DeviceSettingsResponse deviceSettingsTypedRecord() throws Exception {
+		return deviceSettingsReader.readValue(DEVICE_SETTINGS_RESPONSE);
+	}
+
+	/**
+	 * Config response mapped the way the communicator did before the typed records
+	 */
+	@Benchmark
+	public Map<DeviceSettings, String> deviceSettingsJsonNode() throws Exception {
+		JsonNode response = objectMapper.readTree(DEVICE_SETTINGS_RESPONSE);
+		Map<DeviceSettings, String> mappingValue = new EnumMap<>(DeviceSettings.class);
+		for (DeviceSettings item : DeviceSettings.values()) {
+			String value = NeatPulseConstant.EMPTY;
+			if (response.has(item.getValue())) {
+				value = response.get(item.getValue()).asText();
+			}
+			mappingValue.put(item, value);
+		}
+		return mappingValue;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.EnumTypeHandler;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metric.LanguageEnum;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metric.TimeZoneEnum;
+
+/**
+ * LookupBenchmark
+ * Throughput of the per-property lookups done while mapping a device: {@link EnumTypeHandler} conversions and the date converters.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+	private static final MethodHandle CONVERT_DATE_TIME_FORMAT = AggregatedDeviceMappingBenchmark.findMethod("convertDateTimeFormat", String.class);
+	private static final MethodHandle CONVERT_TIMESTAMP = AggregatedDeviceMappingBenchmark.findMethod("convertTimestampToFormattedDate", String.class);
+
+	private NeatPulseCommunicator communicator;
+	private String connectionTime = "2024-05-03T05:04:12.345Z";
+	private String sensorTimestamp = "1717400000";
+	private String languageName = "German";
+	private String languageValue = "fr";
+
+	/**
+	 * Creates the communicator owning the converters
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		communicator = new NeatPulseCommunicator();
+	}
+
+	/**
+	 * Destroys the communicator
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		communicator.destroy();
+	}
+
+	/**
+	 * Name of a config value, as done for every enum setting of every device
+	 */
+	@Benchmark
+	public String enumGetNameByValue() {
+		return EnumTypeHandler.getNameByValue(LanguageEnum.class, languageValue);
+	}
+
+	/**
+	 * Config value of a name, as done for every enum control
+	 */
+	@Benchmark
+	public String enumGetValueByName() {
+		return EnumTypeHandler.getValueByName(LanguageEnum.class, languageName);
+	}
+
+	/**
+	 * Dropdown options of the largest enum, built for every device
+	 */
+	@Benchmark
+	public String[] enumGetEnumNames() {
+		return EnumTypeHandler.getEnumNames(TimeZoneEnum.class);
+	}
+
+	/**
+	 * Connection time conversion of the device info
+	 */
+	@Benchmark
+	public Object convertDateTimeFormat() throws Throwable {
+		return CONVERT_DATE_TIME_FORMAT.invoke(communicator, connectionTime);
+	}
+
+	/**
+	 * Timestamp conversion of the sensor readings
+	 */
+	@Benchmark
+	public Object convertTimestampToFormattedDate() throws Throwable {
+		return CONVERT_TIMESTAMP.invoke(communicator, sensorTimestamp);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.util.Arrays;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseModel;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateStore;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * Synthetic endpoint data for the benchmarks: every model of {@link NeatPulseModel}, two devices per room,
+ * two sensors on every third device, one device in ten offline.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+final class SyntheticFleet {
+	private static final NeatPulseModel[] MODELS = NeatPulseModel.values();
+	private static final String[] TIME_ZONES = { "America/New_York", "Europe/Berlin", "Asia/Tokyo", "America/Los_Angeles" };
+	private static final String[] LANGUAGES = { "en-US", "de", "ja", "fr" };
+
+	private SyntheticFleet() {
+	}
+
+	/**
+	 * Retrieves the id of a synthetic device
+	 *
+	 * @param index index of the device
+	 * @return the device id
+	 */
+	static String getDeviceId(int index) {
+		return String.format("58fdaf7d-beb6-4d5c-%04x-%012x", index % 0xffff, index);
+	}
+
+	/**
+	 * Populates the store with synthetic devices
+	 *
+	 * @param store the store
+	 * @param numberOfDevices number of devices
+	 */
+	static void populate(DeviceStateStore store, int numberOfDevices) {
+		for (int i = 0; i < numberOfDevices; i++) {
+			String deviceId = getDeviceId(i);
+			store.putInfo(deviceId, createInfo(i));
+			store.putSettings(deviceId, createSettings(i));
+			store.putSensors(deviceId, createSensors(i));
+		}
+	}
+
+	/**
+	 * Creates the info values of a device, indexed by {@link DeviceInfo#ordinal()}
+	 *
+	 * @param index index of the device
+	 * @return the info values
+	 */
+	static String[] createInfo(int index) {
+		String[] info = new String[DeviceInfo.values().length];
+		info[DeviceInfo.SERIAL.ordinal()] = String.format("NA%011d", index);
+		info[DeviceInfo.CONNECTED.ordinal()] = index % 10 == 9 ? "false" : "true";
+		info[DeviceInfo.MODEL.ordinal()] = MODELS[index % MODELS.length].getValue();
+		info[DeviceInfo.FIRMWARE_CURRENT_VERSION.ordinal()] = "NFA1.20240312.0503";
+		info[DeviceInfo.FIRMWARE_UPDATE_VERSION.ordinal()] = "NFA1.20240512.0101";
+		info[DeviceInfo.ROOM_ID.ordinal()] = String.valueOf(index / 2);
+		info[DeviceInfo.ROOM_NAME.ordinal()] = "Room " + index / 2;
+		info[DeviceInfo.CONTROLLER_MODE.ordinal()] = "Room Controller";
+		info[DeviceInfo.LOCAL_IP_ADDRESS.ordinal()] = "10." + index / 62500 + "." + index / 250 % 250 + "." + index % 250;
+		info[DeviceInfo.IN_CALL_STATUS.ordinal()] = index % 7 == 0 ? "TEAMS" : "IDLE";
+		info[DeviceInfo.OTA_CHANNEL.ordinal()] = "stable";
+		info[DeviceInfo.CONNECTION_TIME.ordinal()] = "2024-05-03T05:04:12.345Z";
+		info[DeviceInfo.PRIMARY_MODE.ordinal()] = "msteams";
+		return info;
+	}
+
+	/**
+	 * Creates the config values of a device, indexed by {@link DeviceSettings#ordinal()}
+	 *
+	 * @param index index of the device
+	 * @return the config values
+	 */
+	static String[] createSettings(int index) {
+		String[] settings = new String[DeviceSettings.values().length];
+		for (DeviceSettings item : DeviceSettings.values()) {
+			settings[item.ordinal()] = index % 3 == 1 ? "false" : "true";
+		}
+		settings[DeviceSettings.SCREEN_STANDBY.ordinal()] = "300000";
+		settings[DeviceSettings.SCREEN_BRIGHTNESS.ordinal()] = "0.5";
+		settings[DeviceSettings.DATE_FORMAT.ordinal()] = "MM/dd/yyyy";
+		settings[DeviceSettings.NTP_SERVER.ordinal()] = "time.google.com";
+		settings[DeviceSettings.TIME_ZONE.ordinal()] = TIME_ZONES[index % TIME_ZONES.length];
+		settings[DeviceSettings.LANGUAGE.ordinal()] = LANGUAGES[index % LANGUAGES.length];
+		settings[DeviceSettings.FONT_SIZE.ordinal()] = "default";
+		settings[DeviceSettings.COLOR_CORRECTION.ordinal()] = "disabled";
+		settings[DeviceSettings.REBOOT.ordinal()] = null;
+		return settings;
+	}
+
+	/**
+	 * Creates the sensor readings of a device
+	 *
+	 * @param index index of the device
+	 * @return readings of every sensor, indexed by {@link DeviceSensor#ordinal()}
+	 */
+	static double[][] createSensors(int index) {
+		double[][] sensors = new double[index % 3 == 0 ? 2 : 1][DeviceSensor.values().length];
+		for (int i = 0; i < sensors.length; i++) {
+			double[] sensor = sensors[i];
+			Arrays.fill(sensor, Double.NaN);
+			sensor[DeviceSensor.CO2.ordinal()] = 415 + i * 5;
+			sensor[DeviceSensor.HUMIDITY.ordinal()] = 41.2;
+			sensor[DeviceSensor.ILLUMINATION.ordinal()] = 312;
+			sensor[DeviceSensor.PEOPLE_COUNT.ordinal()] = index % 4;
+			sensor[DeviceSensor.TEMPERATURE.ordinal()] = 22.4;
+			sensor[DeviceSensor.VOC_INDEX.ordinal()] = 87;
+			sensor[DeviceSensor.TIMESTAMP.ordinal()] = 1717400000;
+		}
+		return sensors;
+	}
+}
@@ -9,6 +9,9 @@ import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -20,26 +23,45 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Striped;
 import javax.security.auth.login.FailedLoginException;
 
+import com.avispl.symphony.api.common.error.NotModifiedException;
 import com.avispl.symphony.api.dal.control.Controller;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
@@ -53,10 +75,29 @@ import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.EnumTypeHandler;
-import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseModel;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.PingMode;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateApplier;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateStore;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache.DeviceStateUpdate;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.RequestBulkhead;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.RequestLane;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.ResponseChangeDetector;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture.CapturingNeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture.ReplayNeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture.TrafficCaptureWriter;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock.PollingClock;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control.AsyncControlReconciler;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control.BulkControlExecutor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control.ConfigChange;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control.RollingRebootOrchestrator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control.WriteCoalescer;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSensorResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
@@ -69,6 +110,10 @@ import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metri
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metric.PrimaryModeEnum;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metric.ScreenStandbyEnum;
 import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.metric.TimeZoneEnum;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.LatencyMetric;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.LatencyMetrics;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -179,7 +224,7 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 			loop:
 			while (inProgress) {
 				try {
-					TimeUnit.MILLISECONDS.sleep(500);
+					clock.sleep(500);
 				} catch (InterruptedException e) {
 					logger.info("Ignore for now");
 				}
@@ -196,15 +241,20 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 				if (logger.isDebugEnabled()) {
 					logger.debug("Fetching other than aggregated device list");
 				}
-				long currentTimestamp = System.currentTimeMillis();
+				long currentTimestamp = clock.currentTimeMillis();
 				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
+					if (firstSweepPending) {
+						populateFirstSweep();
+					}
 					populateDeviceDetails();
+					updateFirstCompleteDeviceList();
+					writeCacheSnapshotIfDue();
 					flag = true;
 				}
 
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
+				while (nextDevicesCollectionIterationTimestamp > clock.currentTimeMillis()) {
 					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
+						clock.sleep(1000);
 					} catch (InterruptedException e) {
 						logger.info("Ignore for now");
 					}
@@ -214,7 +264,7 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 					break loop;
 				}
 				if (flag) {
-					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 60000L * devicePollingInterval;
+					nextDevicesCollectionIterationTimestamp = clock.currentTimeMillis() + 60000L * devicePollingInterval;
 					flag = false;
 				}
 
@@ -262,20 +312,25 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private static final long retrieveStatisticsTimeOut = 3 * 60 * 1000;
 
+	/**
+	 * Whether some config settings differ between the devices of a room pair, in which case every device fetches its own config
+	 */
+	private static final boolean HAS_DEVICE_LEVEL_SETTINGS = Arrays.stream(DeviceSettings.values()).anyMatch(item -> !item.getValue().isEmpty() && !item.isRoomLevel());
+
 	/**
 	 * Update the status of the device.
 	 * The device is considered as paused if did not receive any retrieveMultipleStatistics()
 	 * calls during {@link NeatPulseCommunicator}
 	 */
 	private synchronized void updateAggregatorStatus() {
-		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+		devicePaused = validRetrieveStatisticsTimestamp < clock.currentTimeMillis();
 	}
 
 	/**
 	 * Uptime time stamp to valid one
 	 */
 	private synchronized void updateValidRetrieveStatisticsTimestamp() {
-		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
+		validRetrieveStatisticsTimestamp = clock.currentTimeMillis() + retrieveStatisticsTimeOut;
 		updateAggregatorStatus();
 	}
 
@@ -286,6 +341,26 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	ObjectMapper objectMapper = new ObjectMapper();
 
+	/**
+	 * Handler of the streamed GET request in progress on the calling thread, see {@link #doGetStreaming}
+	 */
+	private final ThreadLocal<JsonStreamHandler<?>> streamHandler = new ThreadLocal<>();
+
+	/**
+	 * Validators of the conditional GET request in progress on the calling thread, see {@link #doGetIfChanged}
+	 */
+	private final ThreadLocal<HttpHeaders> conditionalHeaders = new ThreadLocal<>();
+
+	/**
+	 * Client of the Neat Pulse API, sending requests through the REST stack of this communicator by default
+	 */
+	private volatile NeatPulseApiClient apiClient = new NeatPulseRestApiClient(this);
+
+	/**
+	 * Time and sleeps of the polling scheduler, the wall clock by default
+	 */
+	private volatile PollingClock clock = PollingClock.SYSTEM;
+
 	/**
 	 * Executor that runs all the async operations, that is posting and
 	 */
@@ -297,16 +372,21 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	private NeatPulseDataLoader deviceDataLoader;
 
 	/**
-	 * A private final ReentrantLock instance used to provide exclusive access to a shared resource
-	 * that can be accessed by multiple threads concurrently. This lock allows multiple reentrant
-	 * locks on the same shared resource by the same thread.
+	 * Striped locks serializing control actions per room, or per device when its room is unknown,
+	 * so that actions on different rooms do not wait for each other.
+	 */
+	private final Striped<Lock> controlLocks = Striped.lock(NeatPulseConstant.CONTROL_LOCK_STRIPES);
+
+	/**
+	 * Lock guarding the refresh of the aggregator statistics, never held by control actions.
+	 * A caller finding it busy gets the last published statistics instead of waiting.
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private final ReentrantLock statisticsLock = new ReentrantLock();
 
 	/**
 	 * Private variable representing the local extended statistics.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private volatile ExtendedStatistics localExtendedStatistics;
 
 	/**
 	 * List of aggregated device
@@ -314,9 +394,14 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * Cached data
+	 * Cached data, stored by device ordinal and property ordinal
+	 */
+	private final DeviceStateStore cachedMonitoringDevice = new DeviceStateStore();
+
+	/**
+	 * Single writer of {@link #cachedMonitoringDevice}, polling workers and control actions queue their results to it
 	 */
-	private Map<String, Map<String, String>> cachedMonitoringDevice = Collections.synchronizedMap(new HashMap<>());
+	private final DeviceStateApplier cacheApplier = new DeviceStateApplier(cachedMonitoringDevice);
 
 	/**
 	 * list of all devices
@@ -358,6 +443,54 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private Integer numberDeviceInInterval;
 
+	/**
+	 * Minimum number of devices for which aggregated devices are mapped in parallel
+	 */
+	private Integer parallelMappingThreshold;
+
+	/**
+	 * Fork-join pool mapping aggregated devices of large fleets, created on first use
+	 */
+	private ForkJoinPool mappingPool;
+
+	/**
+	 * Priority lane re-fetching the state of devices right after a control action, outside of the polling sweep.
+	 * Created on first use.
+	 */
+	private ScheduledExecutorService refreshExecutor;
+
+	/**
+	 * Keys of the targeted refreshes scheduled and not started yet, used to collapse repeated requests
+	 */
+	private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Priority bulkhead isolating interactive control and targeted refreshes from the polling sweep
+	 */
+	private final RequestBulkhead requestBulkhead = new RequestBulkhead(NeatPulseConstant.DEFAULT_NUMBER_THREAD, NeatPulseConstant.RESERVED_INTERACTIVE_REQUESTS,
+			NeatPulseConstant.RESERVED_REFRESH_REQUESTS);
+
+	/**
+	 * Validators and body hashes of the info and config last applied to the cache, to poll them with conditional requests
+	 */
+	private final ResponseChangeDetector responseChangeDetector = new ResponseChangeDetector();
+
+	/**
+	 * Cache version of every device when its aggregated device was last mapped, devices whose version did not change
+	 * since are published again without mapping
+	 */
+	private final Map<String, Long> mappedVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of aggregated devices mapped
+	 */
+	private final LongAdder mappedDevices = new LongAdder();
+
+	/**
+	 * Number of aggregated devices published again without mapping
+	 */
+	private final LongAdder reusedDevices = new LongAdder();
+
 	/**
 	 * Configurable property for historical properties, comma separated values kept as set locally
 	 */
@@ -382,6 +515,7 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
 			this.historicalProperties.add(propertyName.trim());
 		});
+		mappedVersions.clear();
 	}
 
 	/**
@@ -443,6 +577,346 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		this.numberThreads = numberThreads;
 	}
 
+	/**
+	 * Retrieves {@link #parallelMappingThreshold}
+	 *
+	 * @return value of {@link #parallelMappingThreshold}
+	 */
+	public Integer getParallelMappingThreshold() {
+		return parallelMappingThreshold;
+	}
+
+	/**
+	 * Sets {@link #parallelMappingThreshold} value
+	 *
+	 * @param parallelMappingThreshold new value of {@link #parallelMappingThreshold}
+	 */
+	public void setParallelMappingThreshold(Integer parallelMappingThreshold) {
+		this.parallelMappingThreshold = parallelMappingThreshold;
+	}
+
+	/**
+	 * Configurable property for the maximum number of devices a bulk control changes at the same time
+	 */
+	private Integer bulkControlParallelism = NeatPulseConstant.DEFAULT_BULK_CONTROL_PARALLELISM;
+
+	/**
+	 * Retrieves {@link #bulkControlParallelism}
+	 *
+	 * @return value of {@link #bulkControlParallelism}
+	 */
+	public Integer getBulkControlParallelism() {
+		return bulkControlParallelism;
+	}
+
+	/**
+	 * Sets {@link #bulkControlParallelism} value
+	 *
+	 * @param bulkControlParallelism new value of {@link #bulkControlParallelism}
+	 */
+	public void setBulkControlParallelism(Integer bulkControlParallelism) {
+		this.bulkControlParallelism = bulkControlParallelism;
+	}
+
+	/**
+	 * Configurable property for the maximum rate of control requests sent by bulk operations
+	 */
+	private Integer controlRequestsPerSecond = NeatPulseConstant.DEFAULT_CONTROL_REQUESTS_PER_SECOND;
+
+	/**
+	 * Rate limiter shared by the control requests of bulk operations
+	 */
+	private final RateLimiter controlRateLimiter = RateLimiter.create(NeatPulseConstant.DEFAULT_CONTROL_REQUESTS_PER_SECOND);
+
+	/**
+	 * Retrieves {@link #controlRequestsPerSecond}
+	 *
+	 * @return value of {@link #controlRequestsPerSecond}
+	 */
+	public Integer getControlRequestsPerSecond() {
+		return controlRequestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #controlRequestsPerSecond} value
+	 *
+	 * @param controlRequestsPerSecond new value of {@link #controlRequestsPerSecond}
+	 */
+	public void setControlRequestsPerSecond(Integer controlRequestsPerSecond) {
+		this.controlRequestsPerSecond = controlRequestsPerSecond;
+		if (controlRequestsPerSecond != null && controlRequestsPerSecond > 0) {
+			controlRateLimiter.setRate(controlRequestsPerSecond);
+		}
+	}
+
+	/**
+	 * Configurable property for the debounce window of control writes in milliseconds, 0 sends every write
+	 */
+	private Integer controlDebounceWindow = NeatPulseConstant.DEFAULT_CONTROL_DEBOUNCE_WINDOW;
+
+	/**
+	 * Retrieves {@link #controlDebounceWindow}
+	 *
+	 * @return value of {@link #controlDebounceWindow}
+	 */
+	public Integer getControlDebounceWindow() {
+		return controlDebounceWindow;
+	}
+
+	/**
+	 * Sets {@link #controlDebounceWindow} value
+	 *
+	 * @param controlDebounceWindow new value of {@link #controlDebounceWindow}
+	 */
+	public void setControlDebounceWindow(Integer controlDebounceWindow) {
+		this.controlDebounceWindow = controlDebounceWindow;
+	}
+
+	/**
+	 * Suppresses no-op control writes and debounces rapid writes to the same device property
+	 */
+	private final WriteCoalescer writeCoalescer = new WriteCoalescer();
+
+	/**
+	 * Configurable property enabling asynchronous control: config changes are applied to the cache immediately
+	 * and sent in the background, the cache is restored if the device does not confirm them
+	 */
+	private boolean asyncControl;
+
+	/**
+	 * Retrieves {@link #asyncControl}
+	 *
+	 * @return value of {@link #asyncControl}
+	 */
+	public boolean isAsyncControl() {
+		return asyncControl;
+	}
+
+	/**
+	 * Sets {@link #asyncControl} value
+	 *
+	 * @param asyncControl new value of {@link #asyncControl}
+	 */
+	public void setAsyncControl(boolean asyncControl) {
+		this.asyncControl = asyncControl;
+	}
+
+	/**
+	 * Configurable property enabling the fast first sweep: on startup the info of every endpoint is fetched first,
+	 * at the full concurrency of the sweep, so that the whole device list is published before the sensor data and config,
+	 * which follow in the regular polling cycles
+	 */
+	private boolean fastFirstSweep;
+
+	/**
+	 * Whether the fast first sweep is still to run
+	 */
+	private volatile boolean firstSweepPending;
+
+	/**
+	 * Time the fast first sweep started in milliseconds, devices whose info it refreshed are not asked for it again
+	 * until the regular cycles have covered the device list once
+	 */
+	private long firstSweepTimestamp;
+
+	/**
+	 * Time the communicator was initialized in milliseconds
+	 */
+	private volatile long initTimestamp;
+
+	/**
+	 * Time from init until every endpoint had its info in milliseconds, -1 until then
+	 */
+	private volatile long firstCompleteDeviceListMillis = -1;
+
+	/**
+	 * Retrieves {@link #fastFirstSweep}
+	 *
+	 * @return value of {@link #fastFirstSweep}
+	 */
+	public boolean isFastFirstSweep() {
+		return fastFirstSweep;
+	}
+
+	/**
+	 * Sets {@link #fastFirstSweep} value, taken into account on init
+	 *
+	 * @param fastFirstSweep new value of {@link #fastFirstSweep}
+	 */
+	public void setFastFirstSweep(boolean fastFirstSweep) {
+		this.fastFirstSweep = fastFirstSweep;
+	}
+
+	/**
+	 * Sends the asynchronous config changes and reconciles the cache with their outcome
+	 */
+	private final AsyncControlReconciler asyncControlReconciler = new AsyncControlReconciler("NeatPulse-async-control", NeatPulseConstant.ASYNC_CONTROL_LANES);
+
+	/**
+	 * Latency histograms of the API endpoints and of the mapping phases
+	 */
+	private final LatencyMetrics latencyMetrics = new LatencyMetrics();
+
+	/**
+	 * Last refresh of every device per endpoint class, polling cycles and fleet staleness
+	 */
+	private final FreshnessTracker freshnessTracker = new FreshnessTracker();
+
+	/**
+	 * Formats the last refresh times of the devices
+	 */
+	private final DateTimeFormatter refreshTimeFormatter = DateTimeFormatter.ofPattern(NeatPulseConstant.TARGET_FORMAT_DATETIME).withZone(ZoneId.of("GMT"));
+
+	/**
+	 * Configurable property for the staleness objective in minutes: devices whose oldest data is older are reported
+	 */
+	private Integer stalenessSlo = NeatPulseConstant.DEFAULT_STALENESS_SLO;
+
+	/**
+	 * Retrieves {@link #stalenessSlo}
+	 *
+	 * @return value of {@link #stalenessSlo}
+	 */
+	public Integer getStalenessSlo() {
+		return stalenessSlo;
+	}
+
+	/**
+	 * Sets {@link #stalenessSlo} value
+	 *
+	 * @param stalenessSlo new value of {@link #stalenessSlo}
+	 */
+	public void setStalenessSlo(Integer stalenessSlo) {
+		this.stalenessSlo = stalenessSlo;
+	}
+
+	/**
+	 * Retrieves {@link #apiClient}
+	 *
+	 * @return value of {@link #apiClient}
+	 */
+	public NeatPulseApiClient getApiClient() {
+		return apiClient;
+	}
+
+	/**
+	 * Sets {@link #apiClient} value, to poll and control through another transport than the REST stack of this communicator
+	 *
+	 * @param apiClient new value of {@link #apiClient}
+	 */
+	public void setApiClient(NeatPulseApiClient apiClient) {
+		if (apiClient == null) {
+			throw new IllegalArgumentException("The API client must not be null");
+		}
+		this.apiClient = apiClient;
+	}
+
+	/**
+	 * Configurable property for the file the API traffic is captured to, for replay by {@link ReplayNeatPulseApiClient}.
+	 * Capture is off when empty, records are appended to the file when it already exists.
+	 */
+	private String apiTrafficCaptureFile;
+
+	/**
+	 * Retrieves {@link #apiTrafficCaptureFile}
+	 *
+	 * @return value of {@link #apiTrafficCaptureFile}
+	 */
+	public String getApiTrafficCaptureFile() {
+		return apiTrafficCaptureFile;
+	}
+
+	/**
+	 * Sets {@link #apiTrafficCaptureFile} value, taken into account on init
+	 *
+	 * @param apiTrafficCaptureFile new value of {@link #apiTrafficCaptureFile}
+	 */
+	public void setApiTrafficCaptureFile(String apiTrafficCaptureFile) {
+		this.apiTrafficCaptureFile = apiTrafficCaptureFile;
+	}
+
+	/**
+	 * Configurable property for the file the device cache is snapshotted to, every few minutes and on destroy.
+	 * The snapshot is published on init until the first polling cycles refresh it. Snapshots are off when empty.
+	 */
+	private String cacheSnapshotFile;
+
+	/**
+	 * Time the restored cache snapshot was taken in milliseconds, 0 if none was restored
+	 */
+	private volatile long restoredSnapshotTime;
+
+	/**
+	 * Time the next cache snapshot is due in milliseconds
+	 */
+	private long nextCacheSnapshotTimestamp;
+
+	/**
+	 * Retrieves {@link #cacheSnapshotFile}
+	 *
+	 * @return value of {@link #cacheSnapshotFile}
+	 */
+	public String getCacheSnapshotFile() {
+		return cacheSnapshotFile;
+	}
+
+	/**
+	 * Sets {@link #cacheSnapshotFile} value, taken into account on init
+	 *
+	 * @param cacheSnapshotFile new value of {@link #cacheSnapshotFile}
+	 */
+	public void setCacheSnapshotFile(String cacheSnapshotFile) {
+		this.cacheSnapshotFile = cacheSnapshotFile;
+	}
+
+	/**
+	 * Retrieves {@link #clock}
+	 *
+	 * @return value of {@link #clock}
+	 */
+	public PollingClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Sets {@link #clock} value, e.g. a virtual clock to simulate long polling periods in little time
+	 *
+	 * @param clock new value of {@link #clock}
+	 */
+	public void setClock(PollingClock clock) {
+		if (clock == null) {
+			throw new IllegalArgumentException("The clock must not be null");
+		}
+		this.clock = clock;
+	}
+
+	/**
+	 * Executor of the org-wide config changes requested through the BulkControl group
+	 */
+	private final BulkControlExecutor bulkControlExecutor = new BulkControlExecutor("NeatPulse-bulk-control", controlRateLimiter);
+
+	/**
+	 * Current inputs of the BulkControl group
+	 */
+	private volatile String bulkControlSetting = DeviceSettings.NTP_SERVER.getPropertyName();
+	private volatile String bulkControlValue = NeatPulseConstant.EMPTY;
+	private volatile String bulkControlTargetRooms = NeatPulseConstant.EMPTY;
+	private volatile String bulkControlTargetModels = NeatPulseConstant.EMPTY;
+
+	/**
+	 * Orchestrator of the wave reboots requested through the RollingReboot group
+	 */
+	private final RollingRebootOrchestrator rollingRebootOrchestrator = new RollingRebootOrchestrator("NeatPulse-rolling-reboot", controlRateLimiter,
+			NeatPulseConstant.REBOOT_GRACE_PERIOD, NeatPulseConstant.REBOOT_POLL_INTERVAL, NeatPulseConstant.REBOOT_WAVE_TIMEOUT);
+
+	/**
+	 * Current inputs of the RollingReboot group
+	 */
+	private volatile String rollingRebootTargetRooms = NeatPulseConstant.EMPTY;
+	private volatile String rollingRebootTargetModels = NeatPulseConstant.EMPTY;
+	private volatile String rollingRebootTargetFirmware = NeatPulseConstant.EMPTY;
+	private volatile String rollingRebootWaveSize = String.valueOf(NeatPulseConstant.DEFAULT_REBOOT_WAVE_SIZE);
+
 	/**
 	 * Constructs a new instance of NeatPulseCommunicator.
 	 *
@@ -512,11 +986,17 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			if (StringUtils.isNullOrEmpty(this.getLogin())) {
-				throw new ResourceNotReachableException("Please check Organization Id in Username field");
+		if (StringUtils.isNullOrEmpty(this.getLogin())) {
+			throw new ResourceNotReachableException("Please check Organization Id in Username field");
+		}
+		if (!statisticsLock.tryLock()) {
+			ExtendedStatistics lastStatistics = localExtendedStatistics;
+			if (lastStatistics != null) {
+				return Collections.singletonList(lastStatistics);
 			}
+			statisticsLock.lock();
+		}
+		try {
 			Map<String, String> statistics = new HashMap<>();
 			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 			if (frequentlySystem == 0) {
@@ -528,12 +1008,29 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 				frequentlySystem = 0;
 			}
 			populateSystemInfo(statistics);
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			populateBulkControl(statistics, advancedControllableProperties);
+			populateRollingReboot(statistics, advancedControllableProperties);
+			requestBulkhead.populateStatistics(statistics, NeatPulseConstant.REQUEST_LANES_GROUP);
+			writeCoalescer.populateStatistics(statistics, NeatPulseConstant.CONTROL_WRITES_GROUP);
+			asyncControlReconciler.populateStatistics(statistics, NeatPulseConstant.ASYNC_CONTROL_GROUP);
+			latencyMetrics.populateStatistics(statistics, NeatPulseConstant.LATENCY_GROUP);
+			populateChangeDetection(statistics);
+			freshnessTracker.populateStatistics(statistics, NeatPulseConstant.POLLING_GROUP, TimeUnit.MINUTES.toMillis(getDefaultStalenessSlo()),
+					clock.currentTimeMillis());
+			long firstCompleteDeviceList = firstCompleteDeviceListMillis;
+			statistics.put(NeatPulseConstant.FIRST_COMPLETE_DEVICE_LIST,
+					firstCompleteDeviceList < 0 ? NeatPulseConstant.NONE : String.valueOf(Math.round(firstCompleteDeviceList / 100.0) / 10.0));
+			if (restoredSnapshotTime > 0) {
+				statistics.put(NeatPulseConstant.RESTORED_SNAPSHOT, refreshTimeFormatter.format(Instant.ofEpochMilli(restoredSnapshotTime)));
+			}
 			extendedStatistics.setStatistics(statistics);
+			extendedStatistics.setControllableProperties(advancedControllableProperties);
 			localExtendedStatistics = extendedStatistics;
+			return Collections.singletonList(extendedStatistics);
 		} finally {
-			reentrantLock.unlock();
+			statisticsLock.unlock();
 		}
-		return Collections.singletonList(localExtendedStatistics);
 	}
 
 	/**
@@ -541,109 +1038,524 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			String property = controllableProperty.getProperty();
-			String deviceId = controllableProperty.getDeviceId();
-			String value = String.valueOf(controllableProperty.getValue());
-
-			String[] propertyList = property.split(NeatPulseConstant.HASH);
-			String propertyName = property;
-			if (property.contains(NeatPulseConstant.HASH)) {
-				propertyName = propertyList[1];
+		requestBulkhead.callInLane(RequestLane.INTERACTIVE, () -> {
+			controlSingleProperty(controllableProperty);
+			return null;
+		});
+	}
+
+	/**
+	 * Applies a single controllable property, in the lane of the calling thread
+	 *
+	 * @param controllableProperty the controllable property
+	 * @throws Exception if the control failed
+	 */
+	private void controlSingleProperty(ControllableProperty controllableProperty) throws Exception {
+		String property = controllableProperty.getProperty();
+		String deviceId = controllableProperty.getDeviceId();
+		String value = String.valueOf(controllableProperty.getValue());
+		if (property.startsWith(NeatPulseConstant.BULK_CONTROL_GROUP)) {
+			controlBulkProperty(property, value);
+			return;
+		}
+		if (property.startsWith(NeatPulseConstant.ROLLING_REBOOT_GROUP)) {
+			controlRollingRebootProperty(property, value);
+			return;
+		}
+		if (!isAggregatedDevice(deviceId)) {
+			throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+		}
+		String propertyName = getControlPropertyName(property);
+		DeviceSettings item = DeviceSettings.getByDefaultName(propertyName);
+		if (item == DeviceSettings.REBOOT) {
+			rebootDevice(deviceId, true);
+			return;
+		}
+		ConfigChange change = createConfigChange(item, propertyName, value);
+		if (change == null) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", property, deviceId));
 			}
-			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-			if (aggregatedDevice.isPresent()) {
-				DeviceSettings item = DeviceSettings.getByDefaultName(propertyName);
-				switch (item) {
-					case AUTO_WAKEUP:
-					case KEEP_SCREEN_ON:
-					case HDMI_CEC_CONTROL:
-					case BLUETOOTH:
-					case BYOD_MODE:
-					case HOUR_TIME:
-					case HIGH_CONTRAST_MODE:
-					case SCREEN_READER:
-					case USB_AUDIO:
-					case NIGHT_MODE:
-					case DISPLAY_PREFERENCE:
-						boolean status = "1".equalsIgnoreCase(value);
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), status);
-						updateCacheValue(deviceId, property, String.valueOf(status));
-						break;
-					case NTP_SERVER:
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), value);
-						updateCacheValue(deviceId, property, value);
-						break;
-					case SCREEN_BRIGHTNESS:
-						float percentValue = Float.parseFloat(value) / 100;
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), percentValue);
-						updateCacheValue(deviceId, property, String.valueOf(percentValue));
-						break;
-					case SCREEN_STANDBY:
-						String bodyValue = EnumTypeHandler.getValueByName(ScreenStandbyEnum.class, value);
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), Long.parseLong(bodyValue));
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case DATE_FORMAT:
-						bodyValue = EnumTypeHandler.getValueByName(DateFormatEnum.class, value);
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), bodyValue);
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case LANGUAGE:
-						bodyValue = EnumTypeHandler.getValueByName(LanguageEnum.class, value);
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), bodyValue);
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case COLOR_CORRECTION:
-						bodyValue = EnumTypeHandler.getValueByName(ColorCorrectionEnum.class, value);
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), bodyValue);
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case TIME_ZONE:
-						bodyValue = value.replace(" ", "_");
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), bodyValue);
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case FONT_SIZE:
-						bodyValue = value.toLowerCase();
-						sendCommandToControlDevice(deviceId, propertyName, item.getValue(), bodyValue);
-						updateCacheValue(deviceId, property, bodyValue);
-						break;
-					case REBOOT:
-						controlRebootDevice(deviceId);
-						break;
-					default:
-						if (logger.isWarnEnabled()) {
-							logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", property, deviceId));
-						}
-						break;
-				}
-			} else {
-				throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+			return;
+		}
+		if (asyncControl) {
+			if (isCachedValue(deviceId, change)) {
+				writeCoalescer.recordSuppressed();
+				return;
+			}
+			submitConfigChange(deviceId, change);
+			return;
+		}
+		// the cache is checked after the debounce window: a write of the cached value still supersedes an earlier pending write
+		if (!writeCoalescer.awaitLatest(deviceId + NeatPulseConstant.HASH + change.getFieldName(), getDefaultControlDebounceWindow())) {
+			return;
+		}
+		if (isCachedValue(deviceId, change)) {
+			writeCoalescer.recordSuppressed();
+			return;
+		}
+		sendConfigChange(deviceId, change, true);
+	}
+
+	/**
+	 * Applies a config change to the cache and submits it to be sent in the background.
+	 * Changes superseded within the debounce window are dropped; if the device does not confirm the change,
+	 * the cache is restored unless a later change already overwrote it.
+	 *
+	 * @param deviceId id of the device
+	 * @param change the config change
+	 */
+	private void submitConfigChange(String deviceId, ConfigChange change) {
+		String cachedValue = cachedMonitoringDevice.getSetting(cachedMonitoringDevice.getOrdinal(deviceId), change.getItem());
+		updateCacheValue(deviceId, change.getItem(), change.getCacheValue());
+		asyncControlReconciler.submit(getControlLockKey(deviceId), deviceId + NeatPulseConstant.HASH + change.getFieldName(), cachedValue,
+				getDefaultControlDebounceWindow(), String.format("%s on device %s", change.getPropertyName(), deviceId),
+				() -> requestBulkhead.callInLane(RequestLane.INTERACTIVE, () -> {
+					sendConfigChange(deviceId, change, false);
+					return null;
+				}),
+				previousValue -> {
+					if (isCachedValue(deviceId, change)) {
+						updateCacheValue(deviceId, change.getItem(), previousValue == null ? NeatPulseConstant.EMPTY : previousValue);
+					}
+				});
+	}
+
+	/**
+	 * Sends a single config change under the control lock of the device
+	 *
+	 * @param deviceId id of the device
+	 * @param change the config change
+	 * @param refresh whether the config of the device is re-fetched shortly after the change
+	 * @throws Exception if the change failed or was not confirmed by the device
+	 */
+	private void sendConfigChange(String deviceId, ConfigChange change, boolean refresh) throws Exception {
+		Lock controlLock = controlLocks.get(getControlLockKey(deviceId));
+		controlLock.lock();
+		try {
+			Map<ConfigChange, String> failures = sendConfigChanges(deviceId, Collections.singletonList(change), refresh);
+			if (!failures.isEmpty()) {
+				throw new IllegalArgumentException(failures.get(change));
 			}
 		} finally {
-			reentrantLock.unlock();
+			controlLock.unlock();
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * Changes are grouped per device: all config fields of a device are sent in one request, and a reboot of the device,
+	 * if requested, is sent after its config.
 	 */
 	@Override
 	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
 		if (CollectionUtils.isEmpty(controllableProperties)) {
 			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+		Map<String, List<ControllableProperty>> propertiesByDevice = new LinkedHashMap<>();
+		requestBulkhead.callInLane(RequestLane.INTERACTIVE, () -> {
+			for (ControllableProperty p : controllableProperties) {
+				if (p.getProperty().startsWith(NeatPulseConstant.BULK_CONTROL_GROUP) || p.getProperty().startsWith(NeatPulseConstant.ROLLING_REBOOT_GROUP)) {
+					try {
+						controlSingleProperty(p);
+					} catch (Exception e) {
+						logger.error(String.format("Error when control property %s", p.getProperty()), e);
+					}
+					continue;
+				}
+				propertiesByDevice.computeIfAbsent(p.getDeviceId(), id -> new ArrayList<>()).add(p);
+			}
+			for (Map.Entry<String, List<ControllableProperty>> entry : propertiesByDevice.entrySet()) {
+				controlDeviceProperties(entry.getKey(), entry.getValue());
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Applies a group of controllable properties to one device, logging the outcome of every property
+	 *
+	 * @param deviceId id of the device
+	 * @param controllableProperties properties to apply, in request order
+	 */
+	private void controlDeviceProperties(String deviceId, List<ControllableProperty> controllableProperties) {
+		Lock controlLock = controlLocks.get(getControlLockKey(deviceId));
+		controlLock.lock();
+		try {
+			if (!isAggregatedDevice(deviceId)) {
+				for (ControllableProperty p : controllableProperties) {
+					logger.error(String.format("Unable to control property: %s as the device does not exist.", p.getProperty()));
+				}
+				return;
+			}
+			Map<DeviceSettings, ConfigChange> changes = new LinkedHashMap<>();
+			boolean reboot = false;
+			for (ControllableProperty p : controllableProperties) {
+				String propertyName = getControlPropertyName(p.getProperty());
+				DeviceSettings item = DeviceSettings.getByDefaultName(propertyName);
+				if (item == DeviceSettings.REBOOT) {
+					reboot = true;
+					continue;
+				}
+				try {
+					ConfigChange change = createConfigChange(item, propertyName, String.valueOf(p.getValue()));
+					if (change != null) {
+						changes.remove(item);
+						changes.put(item, change);
+					} else if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", p.getProperty(), deviceId));
+					}
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				}
 			}
+			changes.values().removeIf(change -> {
+				if (isCachedValue(deviceId, change)) {
+					writeCoalescer.recordSuppressed();
+					return true;
+				}
+				return false;
+			});
+			if (!changes.isEmpty()) {
+				Map<ConfigChange, String> failures = sendConfigChanges(deviceId, new ArrayList<>(changes.values()), true);
+				for (ConfigChange change : changes.values()) {
+					if (failures.containsKey(change)) {
+						logger.error(String.format("Error when control property %s on device %s: %s", change.getPropertyName(), deviceId, failures.get(change)));
+					} else if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Property %s on device %s is set to %s", change.getPropertyName(), deviceId, change.getBodyValue()));
+					}
+				}
+			}
+			if (reboot) {
+				try {
+					controlRebootDevice(deviceId, true);
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s", DeviceSettings.REBOOT.getPropertyName()), e);
+				}
+			}
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the cache already holds the value a config change would write
+	 *
+	 * @param deviceId id of the device
+	 * @param change the config change
+	 * @return true if the write would not change the device
+	 */
+	private boolean isCachedValue(String deviceId, ConfigChange change) {
+		String cachedValue = cachedMonitoringDevice.getSetting(cachedMonitoringDevice.getOrdinal(deviceId), change.getItem());
+		return cachedValue != null && cachedValue.equalsIgnoreCase(change.getCacheValue());
+	}
+
+	/**
+	 * Retrieves the debounce window of control writes, falling back to the default for invalid values
+	 *
+	 * @return debounce window in milliseconds, 0 when debouncing is disabled
+	 */
+	private long getDefaultControlDebounceWindow() {
+		if (controlDebounceWindow == null || controlDebounceWindow < 0) {
+			return NeatPulseConstant.DEFAULT_CONTROL_DEBOUNCE_WINDOW;
+		}
+		return controlDebounceWindow;
+	}
+
+	/**
+	 * Checks whether the device is part of the aggregated device list
+	 *
+	 * @param deviceId id of the device
+	 * @return true if the device is aggregated
+	 */
+	private boolean isAggregatedDevice(String deviceId) {
+		synchronized (aggregatedDeviceList) {
+			return aggregatedDeviceList.stream().anyMatch(item -> item.getDeviceId().equals(deviceId));
+		}
+	}
+
+	/**
+	 * Retrieves the property name of a controllable property, without its group
+	 *
+	 * @param property the controllable property, e.g. Display#AutoWakeup
+	 * @return the property name, e.g. AutoWakeup
+	 */
+	private String getControlPropertyName(String property) {
+		if (property.contains(NeatPulseConstant.HASH)) {
+			return property.split(NeatPulseConstant.HASH)[1];
+		}
+		return property;
+	}
+
+	/**
+	 * Converts a controlled value into the config field to send to the endpoint
+	 *
+	 * @param item the setting to change
+	 * @param propertyName name of the controlled property
+	 * @param value value received from the control
+	 * @return the config change, or null if the setting is not controllable
+	 */
+	private ConfigChange createConfigChange(DeviceSettings item, String propertyName, String value) {
+		if (item == null) {
+			return null;
+		}
+		String bodyValue;
+		switch (item) {
+			case AUTO_WAKEUP:
+			case KEEP_SCREEN_ON:
+			case HDMI_CEC_CONTROL:
+			case BLUETOOTH:
+			case BYOD_MODE:
+			case HOUR_TIME:
+			case HIGH_CONTRAST_MODE:
+			case SCREEN_READER:
+			case USB_AUDIO:
+			case NIGHT_MODE:
+			case DISPLAY_PREFERENCE:
+				boolean status = "1".equalsIgnoreCase(value);
+				return new ConfigChange(item, propertyName, status, String.valueOf(status));
+			case NTP_SERVER:
+				return new ConfigChange(item, propertyName, value, value);
+			case SCREEN_BRIGHTNESS:
+				float percentValue = Float.parseFloat(value) / 100;
+				return new ConfigChange(item, propertyName, percentValue, String.valueOf(percentValue));
+			case SCREEN_STANDBY:
+				bodyValue = EnumTypeHandler.getValueByName(ScreenStandbyEnum.class, value);
+				return new ConfigChange(item, propertyName, Long.parseLong(bodyValue), bodyValue);
+			case DATE_FORMAT:
+				bodyValue = EnumTypeHandler.getValueByName(DateFormatEnum.class, value);
+				return new ConfigChange(item, propertyName, bodyValue, bodyValue);
+			case LANGUAGE:
+				bodyValue = EnumTypeHandler.getValueByName(LanguageEnum.class, value);
+				return new ConfigChange(item, propertyName, bodyValue, bodyValue);
+			case COLOR_CORRECTION:
+				bodyValue = EnumTypeHandler.getValueByName(ColorCorrectionEnum.class, value);
+				return new ConfigChange(item, propertyName, bodyValue, bodyValue);
+			case TIME_ZONE:
+				bodyValue = value.replace(" ", "_");
+				return new ConfigChange(item, propertyName, bodyValue, bodyValue);
+			case FONT_SIZE:
+				bodyValue = value.toLowerCase();
+				return new ConfigChange(item, propertyName, bodyValue, bodyValue);
+			default:
+				return null;
 		}
 	}
 
+	/**
+	 * Handles the aggregator level controls of the BulkControl group
+	 *
+	 * @param property the controlled property
+	 * @param value the new value
+	 */
+	private void controlBulkProperty(String property, String value) {
+		switch (property) {
+			case NeatPulseConstant.BULK_CONTROL_SETTING:
+				bulkControlSetting = value;
+				break;
+			case NeatPulseConstant.BULK_CONTROL_VALUE:
+				bulkControlValue = value;
+				break;
+			case NeatPulseConstant.BULK_CONTROL_TARGET_ROOMS:
+				bulkControlTargetRooms = value;
+				break;
+			case NeatPulseConstant.BULK_CONTROL_TARGET_MODELS:
+				bulkControlTargetModels = value;
+				break;
+			case NeatPulseConstant.BULK_CONTROL_APPLY:
+				startBulkControl();
+				break;
+			default:
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Unable to execute %s command: Not Supported", property));
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Starts applying the selected setting value to every targeted device
+	 */
+	private void startBulkControl() {
+		String propertyName = bulkControlSetting;
+		String value = bulkControlValue;
+		ConfigChange change = StringUtils.isNullOrEmpty(value) ? null : createConfigChange(DeviceSettings.getByDefaultName(propertyName), propertyName, value);
+		if (change == null) {
+			throw new IllegalArgumentException("Unable to apply bulk control: select a setting and enter its value");
+		}
+		List<String> targets = findTargetDevices(parseList(bulkControlTargetRooms), parseList(bulkControlTargetModels), Collections.emptySet());
+		int parallelism = bulkControlParallelism == null || bulkControlParallelism <= 0 ? NeatPulseConstant.DEFAULT_BULK_CONTROL_PARALLELISM : bulkControlParallelism;
+		String description = String.format("%s=%s on %d devices", propertyName, value, targets.size());
+		if (!bulkControlExecutor.start(description, targets, parallelism, deviceId -> applyConfigChange(deviceId, change))) {
+			throw new IllegalArgumentException("Unable to apply bulk control: another bulk control is running");
+		}
+	}
+
+	/**
+	 * Handles the aggregator level controls of the RollingReboot group
+	 *
+	 * @param property the controlled property
+	 * @param value the new value
+	 */
+	private void controlRollingRebootProperty(String property, String value) {
+		switch (property) {
+			case NeatPulseConstant.ROLLING_REBOOT_TARGET_ROOMS:
+				rollingRebootTargetRooms = value;
+				break;
+			case NeatPulseConstant.ROLLING_REBOOT_TARGET_MODELS:
+				rollingRebootTargetModels = value;
+				break;
+			case NeatPulseConstant.ROLLING_REBOOT_TARGET_FIRMWARE:
+				rollingRebootTargetFirmware = value;
+				break;
+			case NeatPulseConstant.ROLLING_REBOOT_WAVE_SIZE:
+				try {
+					if (Integer.parseInt(value.trim()) <= 0) {
+						throw new NumberFormatException();
+					}
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException(String.format("Wave size must be a positive number: %s", value));
+				}
+				rollingRebootWaveSize = value.trim();
+				break;
+			case NeatPulseConstant.ROLLING_REBOOT_START:
+				Set<String> roomNames = parseList(rollingRebootTargetRooms);
+				Set<String> models = parseList(rollingRebootTargetModels);
+				Set<String> firmwareVersions = parseList(rollingRebootTargetFirmware);
+				if (roomNames.isEmpty() && models.isEmpty() && firmwareVersions.isEmpty()) {
+					throw new IllegalArgumentException("Unable to start rolling reboot: select target rooms, models or firmware versions");
+				}
+				List<String> targets = findTargetDevices(roomNames, models, firmwareVersions);
+				if (!rollingRebootOrchestrator.start(targets, Integer.parseInt(rollingRebootWaveSize), deviceId -> rebootDevice(deviceId, false), this::pollDeviceConnected)) {
+					throw new IllegalArgumentException("Unable to start rolling reboot: another rolling reboot is running");
+				}
+				break;
+			case NeatPulseConstant.ROLLING_REBOOT_CANCEL:
+				rollingRebootOrchestrator.stop();
+				break;
+			default:
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Unable to execute %s command: Not Supported", property));
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Reboots a device under its control lock
+	 *
+	 * @param deviceId id of the device
+	 * @param refresh whether the info of the device is re-fetched shortly after the reboot
+	 */
+	private void rebootDevice(String deviceId, boolean refresh) {
+		Lock controlLock = controlLocks.get(getControlLockKey(deviceId));
+		controlLock.lock();
+		try {
+			controlRebootDevice(deviceId, refresh);
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Fetches the info of a single device, updating the cache, and checks whether it is connected
+	 *
+	 * @param deviceId id of the device
+	 * @return true if the device reports Connected=true
+	 * @throws Exception if the request failed
+	 */
+	private boolean pollDeviceConnected(String deviceId) throws Exception {
+		DeviceInfoResponse response = apiClient.getDeviceInfo(deviceId);
+		if (response == null) {
+			return false;
+		}
+		responseChangeDetector.reset(deviceId, EndpointClass.INFO);
+		cacheApplier.submit(DeviceStateUpdate.info(deviceId, response.getValues()));
+		return NeatPulseConstant.TRUE.equalsIgnoreCase(response.getValue(DeviceInfo.CONNECTED));
+	}
+
+	/**
+	 * Applies one config change to a device under its control lock, throwing on any failure so that it can be retried
+	 *
+	 * @param deviceId id of the device
+	 * @param change the change to apply
+	 * @throws Exception if the request failed or the device did not confirm the new value
+	 */
+	private void applyConfigChange(String deviceId, ConfigChange change) throws Exception {
+		List<ConfigChange> changes = Collections.singletonList(change);
+		Lock controlLock = controlLocks.get(getControlLockKey(deviceId));
+		controlLock.lock();
+		try {
+			JsonNode config = postConfigChanges(deviceId, changes, false);
+			Map<ConfigChange, String> failures = verifyConfigChanges(deviceId, changes, config);
+			if (!failures.isEmpty()) {
+				throw new IllegalArgumentException(failures.get(change));
+			}
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the known devices matching the room, model and firmware filters, an empty filter matches every device
+	 *
+	 * @param roomNames room names to match, case-insensitive
+	 * @param models model names or codes to match, case-insensitive
+	 * @param firmwareVersions current firmware versions to match, case-insensitive
+	 * @return ids of the matching devices
+	 */
+	private List<String> findTargetDevices(Set<String> roomNames, Set<String> models, Set<String> firmwareVersions) {
+		List<String> deviceIds;
+		synchronized (deviceList) {
+			deviceIds = new ArrayList<>(deviceList);
+		}
+		List<String> targets = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			int ordinal = cachedMonitoringDevice.getOrdinal(deviceId);
+			String roomName = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.ROOM_NAME);
+			String modelCode = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.MODEL);
+			boolean roomMatches = roomNames.isEmpty() || roomName != null && roomNames.contains(roomName.toLowerCase());
+			boolean modelMatches = models.isEmpty() || modelCode != null && (models.contains(modelCode.toLowerCase())
+					|| models.contains(NeatPulseModel.getNameByValue(modelCode).toLowerCase()));
+			String firmwareVersion = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.FIRMWARE_CURRENT_VERSION);
+			boolean firmwareMatches = firmwareVersions.isEmpty() || firmwareVersion != null && firmwareVersions.contains(firmwareVersion.toLowerCase());
+			if (roomMatches && modelMatches && firmwareMatches) {
+				targets.add(deviceId);
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Splits a comma separated value into a set of trimmed, lower case entries
+	 *
+	 * @param value comma separated value
+	 * @return set of entries, empty if the value is empty
+	 */
+	private Set<String> parseList(String value) {
+		Set<String> result = new HashSet<>();
+		if (StringUtils.isNotNullOrEmpty(value)) {
+			for (String item : value.split(NeatPulseConstant.COMMA)) {
+				if (StringUtils.isNotNullOrEmpty(item.trim())) {
+					result.add(item.trim().toLowerCase());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the key of the control lock stripe of a device: its room id when known, its id otherwise.
+	 * Devices of the same room share the room-level settings, so their control actions are serialized together.
+	 *
+	 * @param deviceId id of the device
+	 * @return lock key
+	 */
+	private String getControlLockKey(String deviceId) {
+		String roomId = cachedMonitoringDevice.getInfo(cachedMonitoringDevice.getOrdinal(deviceId), DeviceInfo.ROOM_ID);
+		return StringUtils.isNullOrEmpty(roomId) ? deviceId : NeatPulseConstant.ROOM_LOCK_PREFIX + roomId;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -656,51 +1568,176 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 			executorService = Executors.newFixedThreadPool(1);
 			executorService.submit(deviceDataLoader = new NeatPulseDataLoader());
 		}
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+		cacheApplier.start();
+		nextDevicesCollectionIterationTimestamp = clock.currentTimeMillis();
 		updateValidRetrieveStatisticsTimestamp();
 		if (cachedMonitoringDevice.isEmpty()) {
 			return Collections.emptyList();
 		}
-		return cloneAndPopulateAggregatedDeviceList();
+		return cloneAndPopulateAggregatedDeviceList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set API Key into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
+		headers.setBearerAuth(this.getPassword());
+		HttpHeaders validators = conditionalHeaders.get();
+		if (validators != null) {
+			headers.putAll(validators);
+		}
+		return headers;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request waits for a permit of the lane of the calling thread, its latency is recorded once the permit is acquired.
+	 */
+	@Override
+	protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+		return requestBulkhead.execute(() -> latencyMetrics.measure(LatencyMetric.forRequest(uri, false), () -> super.doGet(uri, responseClass)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request waits for a permit of the lane of the calling thread, its latency is recorded once the permit is acquired.
+	 */
+	@Override
+	protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) throws Exception {
+		return requestBulkhead.execute(() -> latencyMetrics.measure(LatencyMetric.forRequest(uri, true), () -> super.doPost(uri, data, responseClass)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		initTimestamp = clock.currentTimeMillis();
+		firstCompleteDeviceListMillis = -1;
+		firstSweepPending = fastFirstSweep;
+		cacheApplier.start();
+		restoreCacheSnapshot();
+		startTrafficCapture();
+		executorService = Executors.newFixedThreadPool(1);
+		executorService.submit(deviceDataLoader = new NeatPulseDataLoader());
+		super.internalInit();
+	}
+
+	/**
+	 * Fills the empty device cache, the endpoint list, the room count and the last refresh times from {@link #cacheSnapshotFile}.
+	 * The communicator starts with an empty cache if the snapshot can't be read.
+	 */
+	private void restoreCacheSnapshot() {
+		if (StringUtils.isNullOrEmpty(cacheSnapshotFile) || !cachedMonitoringDevice.isEmpty()) {
+			return;
+		}
+		Path path = Paths.get(cacheSnapshotFile.trim());
+		long now = clock.currentTimeMillis();
+		nextCacheSnapshotTimestamp = now + TimeUnit.MINUTES.toMillis(NeatPulseConstant.CACHE_SNAPSHOT_INTERVAL);
+		if (!Files.exists(path)) {
+			return;
+		}
+		try {
+			DeviceStateSnapshot snapshot = DeviceStateSnapshot.read(path);
+			snapshot.restoreTo(cachedMonitoringDevice);
+			synchronized (deviceList) {
+				deviceList.clear();
+				deviceList.addAll(snapshot.getEndpointIds());
+			}
+			countRoom = snapshot.getRoomCount();
+			List<String> deviceIds = snapshot.getDeviceIds();
+			for (int i = 0; i < deviceIds.size(); i++) {
+				freshnessTracker.restore(deviceIds.get(i), snapshot.getLastRefreshes(i), now);
+			}
+			restoredSnapshotTime = snapshot.getTakenAt();
+			if (logger.isInfoEnabled()) {
+				logger.info(String.format("Restored %d devices from the cache snapshot %s", deviceIds.size(), path));
+			}
+		} catch (Exception e) {
+			logger.error(String.format("Error when reading the cache snapshot %s. %s", cacheSnapshotFile, e.getMessage()));
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Writes the cache snapshot when {@link #nextCacheSnapshotTimestamp} is reached
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	private void writeCacheSnapshotIfDue() {
+		long now = clock.currentTimeMillis();
+		if (nextCacheSnapshotTimestamp <= now) {
+			nextCacheSnapshotTimestamp = now + TimeUnit.MINUTES.toMillis(NeatPulseConstant.CACHE_SNAPSHOT_INTERVAL);
+			writeCacheSnapshot();
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set API Key into Header of Request
+	 * Writes the device cache, the endpoint list, the room count and the last refresh times to {@link #cacheSnapshotFile}.
+	 * An empty cache is not written, so that a communicator destroyed before its first cycle keeps the previous snapshot.
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.setBearerAuth(this.getPassword());
-		return headers;
+	private void writeCacheSnapshot() {
+		if (StringUtils.isNullOrEmpty(cacheSnapshotFile) || cachedMonitoringDevice.isEmpty()) {
+			return;
+		}
+		List<String> endpointIds;
+		synchronized (deviceList) {
+			endpointIds = new ArrayList<>(deviceList);
+		}
+		try {
+			DeviceStateSnapshot.capture(cachedMonitoringDevice, endpointIds, countRoom, freshnessTracker::getLastRefreshes, clock.currentTimeMillis())
+					.write(Paths.get(cacheSnapshotFile.trim()));
+		} catch (Exception e) {
+			logger.error(String.format("Error when writing the cache snapshot %s. %s", cacheSnapshotFile, e.getMessage()));
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Wraps {@link #apiClient} to capture the API traffic when {@link #apiTrafficCaptureFile} is set.
+	 * The communicator keeps running without capture if the file can't be opened.
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-
+	private void startTrafficCapture() {
+		if (StringUtils.isNullOrEmpty(apiTrafficCaptureFile) || apiClient instanceof CapturingNeatPulseApiClient) {
+			return;
+		}
+		try {
+			apiClient = new CapturingNeatPulseApiClient(apiClient, this.getLogin(), new TrafficCaptureWriter(Paths.get(apiTrafficCaptureFile.trim())));
+		} catch (Exception e) {
+			logger.error(String.format("Error when opening the API traffic capture file %s. %s", apiTrafficCaptureFile, e.getMessage()));
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Closes the API traffic capture, if any, and restores the client it wrapped
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+	private void stopTrafficCapture() {
+		NeatPulseApiClient client = apiClient;
+		if (client instanceof CapturingNeatPulseApiClient) {
+			apiClient = ((CapturingNeatPulseApiClient) client).getDelegate();
+			try {
+				((CapturingNeatPulseApiClient) client).close();
+			} catch (IOException e) {
+				logger.error(String.format("Error when closing the API traffic capture file. %s", e.getMessage()));
+			}
 		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new NeatPulseDataLoader());
-		super.internalInit();
 	}
 
 	/**
@@ -719,13 +1756,39 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 			executorService.shutdownNow();
 			executorService = null;
 		}
+		bulkControlExecutor.stop();
+		asyncControlReconciler.stop();
+		rollingRebootOrchestrator.stop();
+		stopTrafficCapture();
+		synchronized (this) {
+			if (mappingPool != null) {
+				mappingPool.shutdownNow();
+				mappingPool = null;
+			}
+			if (refreshExecutor != null) {
+				refreshExecutor.shutdownNow();
+				refreshExecutor = null;
+			}
+			pendingRefreshes.clear();
+		}
 		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
 			localExtendedStatistics.getStatistics().clear();
 			localExtendedStatistics.getControllableProperties().clear();
 		}
 		nextDevicesCollectionIterationTimestamp = 0;
 		aggregatedDeviceList.clear();
+		cacheApplier.stop();
+		writeCacheSnapshot();
+		restoredSnapshotTime = 0;
+		nextCacheSnapshotTimestamp = 0;
+		firstSweepPending = false;
+		firstSweepTimestamp = 0;
+		responseChangeDetector.clear();
+		mappedVersions.clear();
+		mappedDevices.reset();
+		reusedDevices.reset();
 		cachedMonitoringDevice.clear();
+		freshnessTracker.clear();
 		deviceList.clear();
 		startIndex = NeatPulseConstant.START_INDEX;
 		endIndex = null;
@@ -734,48 +1797,96 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Sends a command to control a device with the specified parameters.
+	 * Sends config changes to a device in a single request and checks every field of the returned config.
+	 * The cache is updated for each field the device confirmed.
 	 *
 	 * @param deviceId The ID of the device to control.
-	 * @param name The name of the device.
-	 * @param fieldName The name of the field to control.
-	 * @param value The value to set for the specified field.
+	 * @param changes The fields to change, one per setting.
+	 * @param refresh Whether the config of the device is re-fetched shortly after the request.
+	 * @return failure message of every change that was not applied, empty if all changes were applied
 	 */
-	private void sendCommandToControlDevice(String deviceId, String name, String fieldName, Object value) {
+	private Map<ConfigChange, String> sendConfigChanges(String deviceId, List<ConfigChange> changes, boolean refresh) {
+		Map<ConfigChange, String> failures = new LinkedHashMap<>();
+		JsonNode config;
 		try {
-			String command = String.format(NeatPulseCommand.CONTROL_DEVICE, this.getLogin(), deviceId);
-			Map<String, Object> bodyJson = new HashMap<>();
-			bodyJson.put(fieldName, value);
-			JsonNode response = this.doPost(command, bodyJson, JsonNode.class);
-			if (response == null || !response.has(NeatPulseConstant.CONFIG) || !response.get(NeatPulseConstant.CONFIG).has(fieldName) || !String.valueOf(value)
-					.equalsIgnoreCase(response.get(NeatPulseConstant.CONFIG).get(fieldName).asText())) {
-				throw new IllegalArgumentException("The response is incorrect");
-			}
+			config = postConfigChanges(deviceId, changes, refresh);
 		} catch (CommandFailureException e) {
-			throw new IllegalArgumentException(String.format("Failed to apply config: attempted to override profile settings: the following fields contain conflicts: [%s]", name));
+			String names = changes.stream().map(ConfigChange::getPropertyName).collect(Collectors.joining(", "));
+			for (ConfigChange change : changes) {
+				failures.put(change, String.format("Failed to apply config: attempted to override profile settings: the following fields contain conflicts: [%s]", names));
+			}
+			return failures;
 		} catch (Exception e) {
-			throw new IllegalArgumentException(String.format("Can't control %s with value is %s. %s", name, value, e.getMessage()));
+			for (ConfigChange change : changes) {
+				failures.put(change, String.format("Can't control %s with value is %s. %s", change.getPropertyName(), change.getBodyValue(), e.getMessage()));
+			}
+			return failures;
+		}
+		return verifyConfigChanges(deviceId, changes, config);
+	}
+
+	/**
+	 * Posts config changes to a device in a single request
+	 *
+	 * @param deviceId The ID of the device to control.
+	 * @param changes The fields to change, one per setting.
+	 * @param refresh Whether the config of the device is re-fetched shortly after the request.
+	 * @return the config returned by the device, or null if the response has none
+	 * @throws Exception if the request failed
+	 */
+	private JsonNode postConfigChanges(String deviceId, List<ConfigChange> changes, boolean refresh) throws Exception {
+		Map<String, Object> bodyJson = new LinkedHashMap<>();
+		for (ConfigChange change : changes) {
+			bodyJson.put(change.getFieldName(), change.getBodyValue());
+		}
+		writeCoalescer.recordSent(changes.size());
+		JsonNode response = apiClient.postDeviceConfig(deviceId, bodyJson);
+		if (refresh) {
+			scheduleTargetedRefresh(deviceId, false);
+		}
+		return response == null ? null : response.get(NeatPulseConstant.CONFIG);
+	}
+
+	/**
+	 * Checks every field of the config returned by a device and updates the cache for each confirmed field
+	 *
+	 * @param deviceId The ID of the device.
+	 * @param changes The fields that were sent.
+	 * @param config The config returned by the device.
+	 * @return failure message of every change the device did not confirm
+	 */
+	private Map<ConfigChange, String> verifyConfigChanges(String deviceId, List<ConfigChange> changes, JsonNode config) {
+		Map<ConfigChange, String> failures = new LinkedHashMap<>();
+		for (ConfigChange change : changes) {
+			if (config == null || !config.has(change.getFieldName()) || !String.valueOf(change.getBodyValue()).equalsIgnoreCase(config.get(change.getFieldName()).asText())) {
+				failures.put(change, String.format("Can't control %s with value is %s. The response is incorrect", change.getPropertyName(), change.getBodyValue()));
+			} else {
+				updateCacheValue(deviceId, change.getItem(), change.getCacheValue());
+			}
 		}
+		return failures;
 	}
 
 	/**
 	 * Controls the reboot of the specified device.
 	 *
 	 * @param deviceId the ID of the device to reboot
+	 * @param refresh whether the info of the device is re-fetched shortly after the reboot
 	 * @throws IllegalArgumentException if the response is empty or if the status code indicates an error,
 	 * or if an exception occurs during the process
 	 */
-	private void controlRebootDevice(String deviceId) {
+	private void controlRebootDevice(String deviceId, boolean refresh) {
 		try {
-			String command = String.format(NeatPulseCommand.REBOOT_DEVICE, this.getLogin(), deviceId);
-			Map<String, String> data = new HashMap<>();
-			JsonNode response = this.doPost(command, data, JsonNode.class);
+			JsonNode response = apiClient.rebootDevice(deviceId);
 			if (response == null) {
 				throw new IllegalArgumentException("The response is empty");
 			}
 			if (response.has(NeatPulseConstant.MESSAGE) && response.has(NeatPulseConstant.STATUS) && !"200".equals(response.get(NeatPulseConstant.STATUS).asText())) {
 				throw new IllegalArgumentException(response.get(NeatPulseConstant.MESSAGE).asText());
 			}
+			if (refresh) {
+				scheduleTargetedRefresh(deviceId, true);
+			}
 		} catch (Exception e) {
 			throw new IllegalArgumentException("Can't control Reboot. " + e.getMessage());
 		}
@@ -790,11 +1901,17 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void retrieveSystemInfo() throws Exception {
 		try {
-			JsonNode response = this.doGet(String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, this.getLogin()), JsonNode.class);
-			if (response != null && response.has(NeatPulseConstant.ENDPOINTS) && response.get(NeatPulseConstant.ENDPOINTS).isArray()) {
-				deviceList.clear();
-				for (JsonNode node : response.get(NeatPulseConstant.ENDPOINTS)) {
-					deviceList.add(node.get(NeatPulseConstant.ID).asText());
+			List<String> endpointIds = apiClient.getEndpointIds();
+			if (endpointIds != null) {
+				synchronized (deviceList) {
+					deviceList.clear();
+					deviceList.addAll(endpointIds);
+				}
+				long now = clock.currentTimeMillis();
+				freshnessTracker.retain(endpointIds);
+				responseChangeDetector.retain(endpointIds);
+				for (String endpointId : endpointIds) {
+					freshnessTracker.discover(endpointId, now);
 				}
 			}
 		} catch (FailedLoginException e) {
@@ -815,15 +1932,183 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	private void retrieveRoomInfo() {
 		try {
 			countRoom = 0;
-			JsonNode response = this.doGet(String.format(NeatPulseCommand.ALL_ROOM_COMMAND, this.getLogin()), JsonNode.class);
-			if (response != null && response.has(NeatPulseConstant.ROOMS) && response.get(NeatPulseConstant.ROOMS).isArray()) {
-				countRoom = response.get(NeatPulseConstant.ROOMS).size();
+			Integer roomCount = apiClient.getRoomCount();
+			if (roomCount != null) {
+				countRoom = roomCount;
 			}
 		} catch (Exception ex) {
 			logger.error(String.format("Error when retrieve room information. %s", ex.getMessage()));
 		}
 	}
 
+	/**
+	 * Performs a GET request and hands the response body to the given parser as a token stream,
+	 * so that large responses are never materialized as a whole.
+	 * The request goes through {@link RestCommunicator#doRequest}, which builds the url and translates the errors as
+	 * {@link #doGet(String, Class)} does; the body is read by {@link JsonStreamConverter} while the response is open.
+	 *
+	 * @param uri The request uri, relative to the base url.
+	 * @param handler Reads the values it needs from the token stream.
+	 * @return The value produced by the handler.
+	 * @throws FailedLoginException If the API key is rejected.
+	 * @throws CommandFailureException If the API responds with an error status.
+	 * @throws ResourceNotReachableException If the API can't be reached.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T doGetStreaming(String uri, JsonStreamHandler<T> handler) throws Exception {
+		return requestBulkhead.execute(() -> latencyMetrics.measure(LatencyMetric.forRequest(uri, false), () -> {
+			streamHandler.set(handler);
+			try {
+				StreamedValue body = doRequest(uri, HttpMethod.GET, null, null, StreamedValue.class).getBody();
+				if (body != null) {
+					return (T) body.value;
+				}
+				try (JsonParser parser = objectMapper.getFactory().createParser(new byte[0])) {
+					return handler.handle(parser);
+				}
+			} finally {
+				streamHandler.remove();
+			}
+		}));
+	}
+
+	/**
+	 * Performs a conditional GET request of the info or config of a device, see {@link ResponseChangeDetector}.
+	 * The validators of the last response applied are sent back; a response not modified, or whose body hashes
+	 * like the last one, is neither parsed nor handed to the cache.
+	 *
+	 * @param uri The request uri, relative to the base url.
+	 * @param deviceId The ID of the device.
+	 * @param endpointClass The endpoint class of the request.
+	 * @param handler Reads the values it needs from the token stream.
+	 * @return The value produced by the handler, or null if the response did not change.
+	 * @throws FailedLoginException If the API key is rejected.
+	 * @throws CommandFailureException If the API responds with an error status.
+	 * @throws ResourceNotReachableException If the API can't be reached.
+	 */
+	<T> T doGetIfChanged(String uri, String deviceId, EndpointClass endpointClass, JsonStreamHandler<T> handler) throws Exception {
+		HttpHeaders validators = new HttpHeaders();
+		String entityTag = responseChangeDetector.getEntityTag(deviceId, endpointClass);
+		if (entityTag != null) {
+			validators.setIfNoneMatch(entityTag);
+		}
+		long lastModified = responseChangeDetector.getLastModified(deviceId, endpointClass);
+		if (lastModified >= 0) {
+			validators.setIfModifiedSince(lastModified);
+		}
+		ResponseEntity<byte[]> response = requestBulkhead.execute(() -> latencyMetrics.measure(LatencyMetric.forRequest(uri, false), () -> {
+			conditionalHeaders.set(validators);
+			try {
+				return doRequest(uri, HttpMethod.GET, null, null, byte[].class);
+			} catch (NotModifiedException e) {
+				return null;
+			} finally {
+				conditionalHeaders.remove();
+			}
+		}));
+		if (response == null) {
+			if (!responseChangeDetector.recordNotModified(deviceId, endpointClass)) {
+				// the cache was written since the validators were sent, the response is needed in full
+				return doGetStreaming(uri, handler);
+			}
+			return null;
+		}
+		byte[] body = response.getBody() != null ? response.getBody() : new byte[0];
+		long bodyHash = Hashing.murmur3_128().hashBytes(body).asLong();
+		String responseEntityTag = response.getHeaders().getETag();
+		long responseLastModified = response.getHeaders().getLastModified();
+		if (responseChangeDetector.isUnchanged(deviceId, endpointClass, bodyHash)) {
+			responseChangeDetector.record(deviceId, endpointClass, responseEntityTag, responseLastModified, bodyHash);
+			return null;
+		}
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			T parsed = handler.handle(parser);
+			responseChangeDetector.record(deviceId, endpointClass, responseEntityTag, responseLastModified, bodyHash);
+			return parsed;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The rest template also reads {@link StreamedValue} responses with {@link JsonStreamConverter}.
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+		synchronized (restTemplate) {
+			if (converters.stream().noneMatch(JsonStreamConverter.class::isInstance)) {
+				converters.add(0, new JsonStreamConverter());
+			}
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * Reads the values needed from a streamed JSON response.
+	 *
+	 * @param <T> type of the value produced
+	 */
+	@FunctionalInterface
+	interface JsonStreamHandler<T> {
+		/**
+		 * Reads the response.
+		 *
+		 * @param parser The token stream of the response, positioned before the first token.
+		 * @return The value read.
+		 * @throws IOException If the response can't be read.
+		 */
+		T handle(JsonParser parser) throws IOException;
+	}
+
+	/**
+	 * Value read from a streamed response by {@link JsonStreamConverter}.
+	 */
+	static final class StreamedValue {
+		private final Object value;
+
+		StreamedValue(Object value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Reads a {@link StreamedValue} by handing the response body, while the response is still open, to the
+	 * {@link JsonStreamHandler} of the request in progress on the calling thread.
+	 */
+	private final class JsonStreamConverter implements HttpMessageConverter<StreamedValue> {
+		@Override
+		public boolean canRead(Class<?> clazz, MediaType mediaType) {
+			return StreamedValue.class == clazz;
+		}
+
+		@Override
+		public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+			return false;
+		}
+
+		@Override
+		public List<MediaType> getSupportedMediaTypes() {
+			return Collections.singletonList(MediaType.ALL);
+		}
+
+		@Override
+		public StreamedValue read(Class<? extends StreamedValue> clazz, HttpInputMessage inputMessage) throws IOException {
+			JsonStreamHandler<?> handler = streamHandler.get();
+			if (handler == null) {
+				throw new HttpMessageNotReadableException("No stream handler for the response", inputMessage);
+			}
+			try (JsonParser parser = objectMapper.getFactory().createParser(inputMessage.getBody())) {
+				return new StreamedValue(handler.handle(parser));
+			}
+		}
+
+		@Override
+		public void write(StreamedValue value, MediaType contentType, HttpOutputMessage outputMessage) {
+			throw new UnsupportedOperationException("Streamed values are read only");
+		}
+	}
+
 	/**
 	 * Populates system information into the provided stats map.
 	 * This method adds the number of devices and the number of console rooms to the stats map.
@@ -836,6 +2121,38 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		stats.put("DevicePollingInterval(minutes)", String.valueOf(devicePollingInterval));
 	}
 
+	/**
+	 * Populates the BulkControl group: inputs of the next run and progress of the current or last run
+	 *
+	 * @param stats the statistics
+	 * @param advancedControllableProperties the controllable properties
+	 */
+	private void populateBulkControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		String[] settings = Arrays.stream(DeviceSettings.values()).filter(item -> item != DeviceSettings.REBOOT).map(DeviceSettings::getPropertyName).toArray(String[]::new);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(NeatPulseConstant.BULK_CONTROL_SETTING, settings, bulkControlSetting), bulkControlSetting);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.BULK_CONTROL_VALUE, bulkControlValue), bulkControlValue);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.BULK_CONTROL_TARGET_ROOMS, bulkControlTargetRooms), bulkControlTargetRooms);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.BULK_CONTROL_TARGET_MODELS, bulkControlTargetModels), bulkControlTargetModels);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(NeatPulseConstant.BULK_CONTROL_APPLY, "Apply", "Applying", 0), NeatPulseConstant.NONE);
+		bulkControlExecutor.populateStatistics(stats, NeatPulseConstant.BULK_CONTROL_GROUP);
+	}
+
+	/**
+	 * Populates the RollingReboot group: target selection, wave size and wave state of the current or last rollout
+	 *
+	 * @param stats the statistics
+	 * @param advancedControllableProperties the controllable properties
+	 */
+	private void populateRollingReboot(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.ROLLING_REBOOT_TARGET_ROOMS, rollingRebootTargetRooms), rollingRebootTargetRooms);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.ROLLING_REBOOT_TARGET_MODELS, rollingRebootTargetModels), rollingRebootTargetModels);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.ROLLING_REBOOT_TARGET_FIRMWARE, rollingRebootTargetFirmware), rollingRebootTargetFirmware);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createText(NeatPulseConstant.ROLLING_REBOOT_WAVE_SIZE, rollingRebootWaveSize), rollingRebootWaveSize);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(NeatPulseConstant.ROLLING_REBOOT_START, "Start", "Starting", 0), NeatPulseConstant.NONE);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createButton(NeatPulseConstant.ROLLING_REBOOT_CANCEL, "Cancel", "Cancelling", 0), NeatPulseConstant.NONE);
+		rollingRebootOrchestrator.populateStatistics(stats, NeatPulseConstant.ROLLING_REBOOT_GROUP);
+	}
+
 	/**
 	 * Populates device details using multiple threads.
 	 * Retrieves aggregated data for each device in the device list concurrently.
@@ -852,24 +2169,72 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		if (endIndex > deviceList.size()) {
 			endIndex = deviceList.size();
 		}
+		freshnessTracker.startCycle(clock.currentTimeMillis());
 		synchronized (deviceList) {
+			Set<String> liveDevices = new HashSet<>(deviceList);
 			for (int i = startIndex; i < endIndex; i++) {
-				int index = i;
-				Future<?> future = executorServiceForRetrieveAggregatedData.submit(() -> processDeviceId(deviceList.get(index)));
+				String deviceId = deviceList.get(i);
+				boolean withInfo = firstSweepTimestamp == 0 || freshnessTracker.getLastRefreshes(deviceId)[EndpointClass.INFO.ordinal()] < firstSweepTimestamp;
+				Future<?> future = executorServiceForRetrieveAggregatedData.submit(() -> processDeviceId(deviceId, liveDevices, withInfo));
 				futures.add(future);
 			}
 		}
 		waitForFutures(futures, executorServiceForRetrieveAggregatedData);
 		executorServiceForRetrieveAggregatedData.shutdown();
+		freshnessTracker.endCycle(futures.size(), clock.currentTimeMillis());
 		if (endIndex == deviceList.size()) {
 			startIndex = NeatPulseConstant.START_INDEX;
 			endIndex = numberDeviceInInterval;
+			firstSweepTimestamp = 0;
 		} else {
 			startIndex = endIndex;
 			endIndex += numberDeviceInInterval;
 		}
 	}
 
+	/**
+	 * Fetches the info of every endpoint of the device list, at the concurrency of the sweep lane of {@link #requestBulkhead},
+	 * so that every device is published with its identity and connection status before any sensor data or config is fetched.
+	 * Runs once, when the device list is first known.
+	 */
+	private void populateFirstSweep() {
+		List<String> deviceIds;
+		synchronized (deviceList) {
+			deviceIds = new ArrayList<>(deviceList);
+		}
+		if (deviceIds.isEmpty()) {
+			return;
+		}
+		firstSweepPending = false;
+		firstSweepTimestamp = clock.currentTimeMillis();
+		ExecutorService firstSweepExecutor = Executors.newFixedThreadPool(NeatPulseConstant.DEFAULT_NUMBER_THREAD);
+		List<Future<?>> futures = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			futures.add(firstSweepExecutor.submit(() -> retrieveDeviceInfo(deviceId)));
+		}
+		waitForFutures(futures, firstSweepExecutor);
+		firstSweepExecutor.shutdown();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("First sweep fetched the info of %d devices in %d ms", deviceIds.size(), clock.currentTimeMillis() - firstSweepTimestamp));
+		}
+	}
+
+	/**
+	 * Records the time to the first complete device list once the info of every endpoint was fetched since init
+	 */
+	private void updateFirstCompleteDeviceList() {
+		if (firstCompleteDeviceListMillis >= 0) {
+			return;
+		}
+		List<String> deviceIds;
+		synchronized (deviceList) {
+			deviceIds = new ArrayList<>(deviceList);
+		}
+		if (!deviceIds.isEmpty() && freshnessTracker.isRefreshedSince(deviceIds, EndpointClass.INFO, initTimestamp)) {
+			firstCompleteDeviceListMillis = clock.currentTimeMillis() - initTimestamp;
+		}
+	}
+
 	/**
 	 * Waits for the completion of all futures in the provided list and then shuts down the executor service.
 	 *
@@ -888,14 +2253,40 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Processes the specified device by retrieving its information, sensor data, and settings.
+	 * Retrieves the info, sensor data and config of a device.
+	 * Devices of a room pair share their {@link DeviceSettings#isRoomLevel() room-level} settings, so the config is fetched
+	 * by the first live device of the pair and its room-level values applied to the whole pair. The other devices of the pair
+	 * fetch their own config only when some settings are device-level.
 	 *
-	 * @param deviceId The ID of the device to be processed.
+	 * @param deviceId The ID of the device.
+	 * @param liveDevices Ids of the devices currently in the organization.
+	 * @param withInfo Whether the info is fetched, false when the fast first sweep just fetched it.
 	 */
-	private void processDeviceId(String deviceId) {
-		retrieveDeviceInfo(deviceId);
+	private void processDeviceId(String deviceId, Set<String> liveDevices, boolean withInfo) {
+		if (withInfo) {
+			retrieveDeviceInfo(deviceId);
+		}
 		retrieveDeviceSensor(deviceId);
-		retrieveDeviceSettings(deviceId);
+		if (HAS_DEVICE_LEVEL_SETTINGS || isRoomConfigOwner(deviceId, liveDevices)) {
+			retrieveDeviceSettings(deviceId);
+		}
+	}
+
+	/**
+	 * Checks whether a device fetches the config of its room pair: true for the first live device of the pair,
+	 * and for devices whose room is not known yet.
+	 *
+	 * @param deviceId The ID of the device.
+	 * @param liveDevices Ids of the devices currently in the organization.
+	 * @return true if the device fetches the config
+	 */
+	private boolean isRoomConfigOwner(String deviceId, Set<String> liveDevices) {
+		for (String peer : cachedMonitoringDevice.getRoomPeers(deviceId)) {
+			if (liveDevices.contains(peer)) {
+				return peer.equals(deviceId);
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -905,26 +2296,13 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void retrieveDeviceInfo(String deviceId) {
 		try {
-			JsonNode response = this.doGet(String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, this.getLogin(), deviceId), JsonNode.class);
+			DeviceInfoResponse response = apiClient.getDeviceInfoIfChanged(deviceId);
 			if (response != null) {
-				Map<String, String> mappingValue = new HashMap<>();
-				for (DeviceInfo item : DeviceInfo.values()) {
-					if (!NeatPulseConstant.EMPTY.equals(item.getValue())) {
-						String value = NeatPulseConstant.EMPTY;
-						JsonNode itemValueNode = response.get(item.getValue());
-						if (itemValueNode != null) {
-							if (itemValueNode.isArray()) {
-								value = itemValueNode.toString();
-							} else {
-								value = itemValueNode.asText();
-							}
-						}
-						mappingValue.put(item.getPropertyName(), value);
-					}
-				}
-				putMapIntoCachedData(deviceId, mappingValue);
+				cacheApplier.submit(DeviceStateUpdate.info(deviceId, response.getValues()));
 			}
+			freshnessTracker.recordRefresh(deviceId, EndpointClass.INFO, clock.currentTimeMillis());
 		} catch (Exception e) {
+			freshnessTracker.recordFailure();
 			logger.error(String.format("Error when retrieve device info by id %s", deviceId), e);
 		}
 	}
@@ -936,19 +2314,22 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void retrieveDeviceSettings(String deviceId) {
 		try {
-			JsonNode response = this.doGet(String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, this.getLogin(), deviceId), JsonNode.class);
+			DeviceSettingsResponse response = apiClient.getDeviceSettingsIfChanged(deviceId);
+			List<String> peers = cachedMonitoringDevice.getRoomPeers(deviceId);
 			if (response != null) {
-				Map<String, String> mappingValue = new HashMap<>();
-				for (DeviceSettings item : DeviceSettings.values()) {
-					String value = NeatPulseConstant.EMPTY;
-					if (response.has(item.getValue())) {
-						value = response.get(item.getValue()).asText();
+				cacheApplier.submit(DeviceStateUpdate.roomSettings(deviceId, response.getValues()));
+				for (String peer : peers) {
+					if (!peer.equals(deviceId)) {
+						responseChangeDetector.reset(peer, EndpointClass.CONFIG);
 					}
-					mappingValue.put(item.getGroup() + NeatPulseConstant.HASH + item.getPropertyName(), value);
 				}
-				putMapIntoCachedData(deviceId, mappingValue);
+			}
+			long now = clock.currentTimeMillis();
+			for (String peer : peers) {
+				freshnessTracker.recordRefresh(peer, EndpointClass.CONFIG, now);
 			}
 		} catch (Exception e) {
+			freshnessTracker.recordFailure();
 			logger.error(String.format("Error when retrieve device settings by id %s", deviceId), e);
 		}
 	}
@@ -960,77 +2341,242 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void retrieveDeviceSensor(String deviceId) {
 		try {
-			JsonNode response = this.doGet(String.format(NeatPulseCommand.GET_DEVICE_SENSOR_COMMAND, this.getLogin(), deviceId), JsonNode.class);
+			JsonNode response = apiClient.getDeviceSensor(deviceId);
 			if (response != null && response.has(NeatPulseConstant.ENDPOINT_DATA) && response.get(NeatPulseConstant.ENDPOINT_DATA).has(NeatPulseConstant.DATA)) {
-				Map<String, String> mappingValue = new HashMap<>();
-				mappingValue.put(NeatPulseConstant.DEVICE_SENSOR, response.get(NeatPulseConstant.ENDPOINT_DATA).get(NeatPulseConstant.DATA).toString());
-				putMapIntoCachedData(deviceId, mappingValue);
+				JsonNode sensorJson = response.get(NeatPulseConstant.ENDPOINT_DATA).get(NeatPulseConstant.DATA);
+				if (sensorJson.isArray()) {
+					DeviceSensorResponse sensors = DeviceSensorResponse.parse(sensorJson);
+					cacheApplier.submit(DeviceStateUpdate.sensors(deviceId, sensors.getValues(), sensors.getTexts()));
+				}
 			}
+			freshnessTracker.recordRefresh(deviceId, EndpointClass.SENSOR, clock.currentTimeMillis());
 		} catch (CommandFailureException ex) {
-			// Device not support the sensor command
-			logger.info(String.format("Device %s not support the sensor command", deviceId));
+			int status = ex.getStatusCode();
+			if (status >= 400 && status < 500 && status != 429) {
+				// Device not support the sensor command, there is no sensor data to be stale
+				freshnessTracker.recordRefresh(deviceId, EndpointClass.SENSOR, clock.currentTimeMillis());
+				logger.info(String.format("Device %s not support the sensor command", deviceId));
+			} else {
+				freshnessTracker.recordFailure();
+				logger.error(String.format("Error when retrieve device sensor by id %s", deviceId), ex);
+			}
 		} catch (Exception e) {
+			freshnessTracker.recordFailure();
 			logger.error(String.format("Error when retrieve device sensor by id %s", deviceId), e);
 		}
 	}
 
 	/**
 	 * Clones the cached monitoring device list and populates the aggregated device list.
+	 * Devices are mapped independently, on a fork-join pool when the fleet reaches {@link #parallelMappingThreshold},
+	 * and the results are published together.
 	 *
 	 * @return The populated aggregated device list.
 	 */
 	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
+		long start = System.nanoTime();
 		synchronized (aggregatedDeviceList) {
-			cachedMonitoringDevice.forEach((key, value) -> {
-				Optional<AggregatedDevice> optionalDevice = aggregatedDeviceList.stream()
-						.filter(device -> device.getDeviceId().equals(key)).findFirst();
-				AggregatedDevice aggregatedDevice = optionalDevice.orElse(new AggregatedDevice());
-				Map<String, String> cachedData = cachedMonitoringDevice.get(key);
-				String modelCode = cachedData.get(DeviceInfo.MODEL.getPropertyName());
-				String modelName = NeatPulseModel.getNameByValue(modelCode);
-				String roomName = cachedData.get(DeviceInfo.ROOM_NAME.getPropertyName());
-				String deviceStatus = cachedData.get(DeviceInfo.CONNECTED.getPropertyName());
-				aggregatedDevice.setDeviceId(key);
-				aggregatedDevice.setDeviceOnline(false);
-				if (!"Unknown".equals(modelName)) {
-					aggregatedDevice.setDeviceModel(modelName);
-					if (roomName != null) {
-						aggregatedDevice.setDeviceName(modelName + " (" + roomName + ")");
-					}
-				} else {
-					aggregatedDevice.setDeviceName(cachedData.get(DeviceInfo.SERIAL.getPropertyName()));
+			List<String> deviceIds = cachedMonitoringDevice.getDeviceIds();
+			Map<String, AggregatedDevice> existingDevices = new HashMap<>();
+			for (AggregatedDevice device : aggregatedDeviceList) {
+				existingDevices.put(device.getDeviceId(), device);
+			}
+			AggregatedDevice[] mappedDevices = new AggregatedDevice[deviceIds.size()];
+			if (deviceIds.size() >= getDefaultParallelMappingThreshold()) {
+				getMappingPool().invoke(new AggregatedDeviceMappingTask(deviceIds, existingDevices, mappedDevices, 0, deviceIds.size()));
+			} else {
+				for (int i = 0; i < deviceIds.size(); i++) {
+					mappedDevices[i] = mapAggregatedDevice(deviceIds.get(i), existingDevices.get(deviceIds.get(i)));
 				}
-				if (deviceStatus != null) {
-					aggregatedDevice.setDeviceOnline(NeatPulseConstant.TRUE.equalsIgnoreCase(deviceStatus));
+			}
+			aggregatedDeviceList.clear();
+			aggregatedDeviceList.addAll(Arrays.asList(mappedDevices));
+		}
+		List<AggregatedDevice> sortedDevices = aggregatedDeviceList.stream()
+				.sorted(Comparator.comparing(item -> item.getProperties().get(DeviceInfo.ROOM_NAME.getPropertyName()))).collect(Collectors.toList());
+		latencyMetrics.record(LatencyMetric.CLONE_AND_POPULATE, start);
+		return sortedDevices;
+	}
+
+	/**
+	 * Fork-join task mapping a range of cached devices to aggregated devices, splitting the range until it is small enough.
+	 */
+	private class AggregatedDeviceMappingTask extends RecursiveAction {
+		private final List<String> deviceIds;
+		private final Map<String, AggregatedDevice> existingDevices;
+		private final AggregatedDevice[] mappedDevices;
+		private final int from;
+		private final int to;
+
+		AggregatedDeviceMappingTask(List<String> deviceIds, Map<String, AggregatedDevice> existingDevices, AggregatedDevice[] mappedDevices, int from, int to) {
+			this.deviceIds = deviceIds;
+			this.existingDevices = existingDevices;
+			this.mappedDevices = mappedDevices;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= NeatPulseConstant.MAPPING_BATCH_SIZE) {
+				for (int i = from; i < to; i++) {
+					mappedDevices[i] = mapAggregatedDevice(deviceIds.get(i), existingDevices.get(deviceIds.get(i)));
 				}
-				Map<String, String> stats = new HashMap<>();
-				Map<String, String> dynamicStats = new HashMap<>();
-				List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-				String inCallStatus = getDefaultValueForNullData(cachedData.get(DeviceInfo.IN_CALL_STATUS.getPropertyName()));
-				//InCallStatus: NONE, ZOOM, TEAMS
-				setInCall(aggregatedDevice, !NeatPulseConstant.NONE.equalsIgnoreCase(inCallStatus));
-				populateMonitorProperties(cachedData, stats, dynamicStats, advancedControllableProperties);
-				aggregatedDevice.setProperties(stats);
-				aggregatedDevice.setDynamicStatistics(dynamicStats);
-				aggregatedDevice.setControllableProperties(advancedControllableProperties);
-				addOrUpdateAggregatedDevice(aggregatedDevice);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new AggregatedDeviceMappingTask(deviceIds, existingDevices, mappedDevices, from, middle),
+					new AggregatedDeviceMappingTask(deviceIds, existingDevices, mappedDevices, middle, to));
+		}
+	}
+
+	/**
+	 * Maps the cached data of a device to an aggregated device.
+	 *
+	 * @param deviceId The ID of the device.
+	 * @param existingDevice The aggregated device published for this ID by the previous cycle, or null.
+	 * @return The populated aggregated device.
+	 */
+	private AggregatedDevice mapAggregatedDevice(String deviceId, AggregatedDevice existingDevice) {
+		int ordinal = cachedMonitoringDevice.getOrdinal(deviceId);
+		long version = cachedMonitoringDevice.getVersion(ordinal);
+		if (existingDevice != null && existingDevice.getProperties() != null && mappedVersions.getOrDefault(deviceId, -1L) == version) {
+			Map<String, String> stats = new HashMap<>(existingDevice.getProperties());
+			populateLastRefreshes(deviceId, stats);
+			existingDevice.setProperties(stats);
+			reusedDevices.increment();
+			return existingDevice;
+		}
+		AggregatedDevice aggregatedDevice = existingDevice != null ? existingDevice : new AggregatedDevice();
+		String modelCode = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.MODEL);
+		String modelName = NeatPulseModel.getNameByValue(modelCode);
+		String roomName = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.ROOM_NAME);
+		String deviceStatus = cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.CONNECTED);
+		aggregatedDevice.setDeviceId(deviceId);
+		aggregatedDevice.setDeviceOnline(false);
+		if (!"Unknown".equals(modelName)) {
+			aggregatedDevice.setDeviceModel(modelName);
+			if (roomName != null) {
+				aggregatedDevice.setDeviceName(modelName + " (" + roomName + ")");
+			}
+		} else {
+			aggregatedDevice.setDeviceName(cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.SERIAL));
+		}
+		if (deviceStatus != null) {
+			aggregatedDevice.setDeviceOnline(NeatPulseConstant.TRUE.equalsIgnoreCase(deviceStatus));
+		}
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> dynamicStats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		String inCallStatus = getDefaultValueForNullData(cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.IN_CALL_STATUS));
+		//InCallStatus: NONE, ZOOM, TEAMS
+		setInCall(aggregatedDevice, !NeatPulseConstant.NONE.equalsIgnoreCase(inCallStatus));
+		populateMonitorProperties(ordinal, stats, dynamicStats, advancedControllableProperties);
+		populateLastRefreshes(deviceId, stats);
+		aggregatedDevice.setProperties(stats);
+		aggregatedDevice.setDynamicStatistics(dynamicStats);
+		aggregatedDevice.setControllableProperties(advancedControllableProperties);
+		mappedVersions.put(deviceId, version);
+		mappedDevices.increment();
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Populates the hit ratios of the conditional requests and of the aggregated device mapping.
+	 *
+	 * @param stats The map to store the statistics.
+	 */
+	private void populateChangeDetection(Map<String, String> stats) {
+		responseChangeDetector.populateStatistics(stats, NeatPulseConstant.CHANGE_DETECTION_GROUP);
+		long mapped = mappedDevices.sum();
+		long reused = reusedDevices.sum();
+		stats.put(NeatPulseConstant.CHANGE_DETECTION_GROUP + "MappedDevices", String.valueOf(mapped));
+		stats.put(NeatPulseConstant.CHANGE_DETECTION_GROUP + "ReusedDevices", String.valueOf(reused));
+		stats.put(NeatPulseConstant.CHANGE_DETECTION_GROUP + "MappingHitRatio(%)", String.valueOf(mapped + reused == 0 ? 0 : Math.round(reused * 1000.0 / (mapped + reused)) / 10.0));
+	}
+
+	/**
+	 * Populates the time of the last successful refresh of every endpoint class of a device.
+	 *
+	 * @param deviceId The ID of the device.
+	 * @param stats The map to store the properties.
+	 */
+	private void populateLastRefreshes(String deviceId, Map<String, String> stats) {
+		long[] lastRefreshes = freshnessTracker.getLastRefreshes(deviceId);
+		for (EndpointClass endpointClass : EndpointClass.values()) {
+			long lastRefresh = lastRefreshes[endpointClass.ordinal()];
+			stats.put(NeatPulseConstant.LAST_REFRESH_GROUP + endpointClass.getName(),
+					lastRefresh == 0 ? NeatPulseConstant.NONE : refreshTimeFormatter.format(Instant.ofEpochMilli(lastRefresh)));
+		}
+		long snapshotTime = restoredSnapshotTime;
+		if (snapshotTime > 0) {
+			boolean fromSnapshot = false;
+			for (long lastRefresh : lastRefreshes) {
+				fromSnapshot |= lastRefresh <= snapshotTime;
+			}
+			stats.put(NeatPulseConstant.LAST_REFRESH_FROM_SNAPSHOT, fromSnapshot ? NeatPulseConstant.TRUE : NeatPulseConstant.FALSE);
+		}
+	}
+
+	/**
+	 * Retrieves the fork-join pool used to map large fleets, creating it on first use.
+	 *
+	 * @return The mapping pool.
+	 */
+	private synchronized ForkJoinPool getMappingPool() {
+		if (mappingPool == null) {
+			mappingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return mappingPool;
+	}
+
+	/**
+	 * Retrieves the executor of the targeted refresh lane, creating it on first use.
+	 *
+	 * @return The refresh executor.
+	 */
+	private synchronized ScheduledExecutorService getRefreshExecutor() {
+		if (refreshExecutor == null) {
+			refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "NeatPulse-targeted-refresh");
+				thread.setDaemon(true);
+				return thread;
 			});
 		}
-		return aggregatedDeviceList.stream().sorted(Comparator.comparing(item -> item.getProperties().get(DeviceInfo.ROOM_NAME.getPropertyName())))
-				.collect(Collectors.toList());
+		return refreshExecutor;
 	}
 
 	/**
-	 * Adds or updates the aggregated device in the aggregated device list.
+	 * Schedules a re-fetch of a single device shortly after a control action, so that side effects applied by the device
+	 * (clamped values, profile overrides, connection changes) reach the cache without waiting for the polling sweep.
+	 * The config is re-fetched after a config change, the endpoint info after a reboot. A refresh already scheduled
+	 * for the same device and kind absorbs the request.
+	 * Only interactive controls of a single device schedule a refresh: bulk and rolling reboot writes go through the control
+	 * rate limiter and check their own results, and asynchronous controls are confirmed by their reconciliation.
 	 *
-	 * @param aggregatedDevice The aggregated device to be added or updated.
+	 * @param deviceId id of the device
+	 * @param afterReboot true to re-fetch the endpoint info after a reboot, false to re-fetch the config
 	 */
-	private void addOrUpdateAggregatedDevice(AggregatedDevice aggregatedDevice) {
-		boolean isExist = aggregatedDeviceList.stream().anyMatch(dev -> dev.getDeviceId().equals(aggregatedDevice.getDeviceId()));
-		if (isExist) {
-			aggregatedDeviceList.removeIf(dev -> dev.getDeviceId().equals(aggregatedDevice.getDeviceId()));
+	private void scheduleTargetedRefresh(String deviceId, boolean afterReboot) {
+		String key = (afterReboot ? NeatPulseConstant.INFO_REFRESH_PREFIX : NeatPulseConstant.CONFIG_REFRESH_PREFIX) + deviceId;
+		if (!pendingRefreshes.add(key)) {
+			return;
+		}
+		try {
+			getRefreshExecutor().schedule(() -> {
+				pendingRefreshes.remove(key);
+				return requestBulkhead.callInLane(RequestLane.REFRESH, () -> {
+					if (afterReboot) {
+						retrieveDeviceInfo(deviceId);
+					} else {
+						retrieveDeviceSettings(deviceId);
+					}
+					return null;
+				});
+			}, afterReboot ? NeatPulseConstant.REBOOT_REFRESH_DELAY : NeatPulseConstant.CONFIG_REFRESH_DELAY, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			pendingRefreshes.remove(key);
 		}
-		aggregatedDeviceList.add(aggregatedDevice);
 	}
 
 	/**
@@ -1072,35 +2618,42 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	/**
 	 * Populates monitor properties including device info, device sensor, device settings, and advanced controllable properties.
 	 *
-	 * @param cached The cached data containing device information.
+	 * @param ordinal The ordinal of the device in the cached data.
 	 * @param stats The map to store monitor properties.
 	 * @param dynamicStats The Dynamic stats to store dynamic properties
 	 * @param advancedControllableProperties The list to store advanced controllable properties.
 	 */
-	private void populateMonitorProperties(Map<String, String> cached, Map<String, String> stats, Map<String, String> dynamicStats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		populateDeviceInfo(cached, stats);
-		populateDeviceSensor(cached, stats, dynamicStats);
-		populateDeviceSettings(cached, stats, advancedControllableProperties);
+	private void populateMonitorProperties(int ordinal, Map<String, String> stats, Map<String, String> dynamicStats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		long start = System.nanoTime();
+		populateDeviceInfo(ordinal, stats);
+		latencyMetrics.record(LatencyMetric.POPULATE_DEVICE_INFO, start);
+		start = System.nanoTime();
+		populateDeviceSensor(ordinal, stats, dynamicStats);
+		latencyMetrics.record(LatencyMetric.POPULATE_DEVICE_SENSOR, start);
+		start = System.nanoTime();
+		populateDeviceSettings(ordinal, stats, advancedControllableProperties);
+		latencyMetrics.record(LatencyMetric.POPULATE_DEVICE_SETTINGS, start);
 	}
 
 	/**
 	 * Populates device information into the stats map.
 	 *
-	 * @param cached The cached data containing device information.
+	 * @param ordinal The ordinal of the device in the cached data.
 	 * @param stats The map to store device information.
 	 */
-	private void populateDeviceInfo(Map<String, String> cached, Map<String, String> stats) {
+	private void populateDeviceInfo(int ordinal, Map<String, String> stats) {
 		for (DeviceInfo item : DeviceInfo.values()) {
 			String propertyName = item.getPropertyName();
-			String value = getDefaultValueForNullData(cached.get(propertyName));
+			String value = getDefaultValueForNullData(cachedMonitoringDevice.getInfo(ordinal, item));
 			switch (item) {
 				case MODEL:
+				case ROOM_ID:
 					break;
 				case CONNECTION_TIME:
 					stats.put(propertyName, convertDateTimeFormat(value));
 					break;
 				case FIRMWARE_UPDATE_VERSION:
-					String currentVersion = getDefaultValueForNullData(cached.get(DeviceInfo.FIRMWARE_CURRENT_VERSION.getPropertyName()));
+					String currentVersion = getDefaultValueForNullData(cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.FIRMWARE_CURRENT_VERSION));
 					if (NeatPulseConstant.NONE.equalsIgnoreCase(value)) {
 						stats.put(propertyName, value);
 					} else {
@@ -1130,55 +2683,49 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 
 	/**
 	 * Populates device sensor information into the specified {@code stats} map based on the cached data.
-	 * This method parses the JSON data from the cached device sensor information and extracts relevant sensor properties.
+	 * This method reads the sensor readings cached for the device and formats the relevant sensor properties, readings that are not numeric keep their text.
 	 *
-	 * @param cached The cached data containing device sensor information.
+	 * @param ordinal The ordinal of the device in the cached data.
 	 * @param stats The map to populate with the extracted sensor information.
 	 * @param dynamicStats The map to populate with the dynamic sensor information.
 	 */
-	private void populateDeviceSensor(Map<String, String> cached, Map<String, String> stats, Map<String, String> dynamicStats) {
+	private void populateDeviceSensor(int ordinal, Map<String, String> stats, Map<String, String> dynamicStats) {
 		try {
-			String jsonValue = getDefaultValueForNullData(cached.get(NeatPulseConstant.DEVICE_SENSOR));
-			if (NeatPulseConstant.NONE.equals(jsonValue)) {
-				return;
-			}
-			JsonNode sensorJson = objectMapper.readTree(jsonValue);
-			if (sensorJson.isArray()) {
-				int index = 0;
-				for (JsonNode node : sensorJson) {
-					index++;
-					String group = NeatPulseConstant.SENSOR_INFORMATION + index + NeatPulseConstant.HASH;
-					if (sensorJson.size() == 1) {
-						group = NeatPulseConstant.SENSOR_INFORMATION + NeatPulseConstant.HASH;
-					}
-					for (DeviceSensor item : DeviceSensor.values()) {
-						if (node.has(item.getValue())) {
-							String name = group + item.getPropertyName();
-							String value = getDefaultValueForNullData(node.get(item.getValue()).asText());
-							switch (item) {
-								case TEMPERATURE:
-									String temperatureValue = roundDoubleValue(value);
-									boolean propertyListed = false;
-									if (!historicalProperties.isEmpty()) {
-										propertyListed = historicalProperties.contains(item.getPropertyName());
-									}
-									if (propertyListed && !NeatPulseConstant.NONE.equalsIgnoreCase(temperatureValue)) {
-										dynamicStats.put(name, temperatureValue);
-									} else {
-										stats.put(name, temperatureValue);
-									}
-									break;
-								case HUMIDITY:
-								case ILLUMINATION:
-									stats.put(name, roundDoubleValue(value));
-									break;
-								case TIMESTAMP:
-									stats.put(name, convertTimestampToFormattedDate(value));
-									break;
-								default:
-									stats.put(name, value);
-									break;
-							}
+			int sensorCount = cachedMonitoringDevice.getSensorCount(ordinal);
+			for (int index = 1; index <= sensorCount; index++) {
+				String group = NeatPulseConstant.SENSOR_INFORMATION + index + NeatPulseConstant.HASH;
+				if (sensorCount == 1) {
+					group = NeatPulseConstant.SENSOR_INFORMATION + NeatPulseConstant.HASH;
+				}
+				for (DeviceSensor item : DeviceSensor.values()) {
+					double sensorValue = cachedMonitoringDevice.getSensorValue(ordinal, index - 1, item);
+					String text = Double.isNaN(sensorValue) ? cachedMonitoringDevice.getSensorText(ordinal, index - 1, item) : formatSensorValue(sensorValue);
+					if (text != null) {
+						String name = group + item.getPropertyName();
+						String value = getDefaultValueForNullData(text);
+						switch (item) {
+							case TEMPERATURE:
+								String temperatureValue = roundDoubleValue(value);
+								boolean propertyListed = false;
+								if (!historicalProperties.isEmpty()) {
+									propertyListed = historicalProperties.contains(item.getPropertyName());
+								}
+								if (propertyListed && !NeatPulseConstant.NONE.equalsIgnoreCase(temperatureValue)) {
+									dynamicStats.put(name, temperatureValue);
+								} else {
+									stats.put(name, temperatureValue);
+								}
+								break;
+							case HUMIDITY:
+							case ILLUMINATION:
+								stats.put(name, roundDoubleValue(value));
+								break;
+							case TIMESTAMP:
+								stats.put(name, convertTimestampToFormattedDate(value));
+								break;
+							default:
+								stats.put(name, value);
+								break;
 						}
 					}
 				}
@@ -1192,14 +2739,14 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	 * Populates device settings information into the specified {@code stats} map based on the cached data.
 	 * This method retrieves device settings from the cached data and updates the {@code stats} map with the corresponding settings properties.
 	 *
-	 * @param cached The cached data containing device settings information.
+	 * @param ordinal The ordinal of the device in the cached data.
 	 * @param stats The map to populate with the extracted device settings information.
 	 */
-	private void populateDeviceSettings(Map<String, String> cached, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String model = NeatPulseModel.getNameByValue(getDefaultValueForNullData(cached.get(DeviceInfo.MODEL.getPropertyName())));
+	private void populateDeviceSettings(int ordinal, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		String model = NeatPulseModel.getNameByValue(getDefaultValueForNullData(cachedMonitoringDevice.getInfo(ordinal, DeviceInfo.MODEL)));
 		for (DeviceSettings item : DeviceSettings.values()) {
 			String propertyName = item.getGroup() + NeatPulseConstant.HASH + item.getPropertyName();
-			String value = getDefaultValueForNullData(cached.get(propertyName));
+			String value = getDefaultValueForNullData(cachedMonitoringDevice.getSetting(ordinal, item));
 			switch (item) {
 				case REBOOT:
 					addAdvancedControlProperties(advancedControllableProperties, stats, createButton("Reboot", "Apply", "Applying", 0), NeatPulseConstant.NONE);
@@ -1343,6 +2890,19 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		return Character.toUpperCase(firstChar) + input.substring(1);
 	}
 
+	/**
+	 * Formats a numeric sensor reading, integral readings are rendered without a fraction part.
+	 *
+	 * @param value the sensor reading
+	 * @return the formatted reading
+	 */
+	private String formatSensorValue(double value) {
+		if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+			return String.valueOf((long) value);
+		}
+		return String.valueOf(value);
+	}
+
 	/**
 	 * Rounds a double value to the nearest long integer.
 	 *
@@ -1407,6 +2967,30 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 		}
 	}
 
+	/**
+	 * Retrieves the staleness objective, falling back to the default for invalid values
+	 *
+	 * @return staleness objective in minutes
+	 */
+	private long getDefaultStalenessSlo() {
+		if (stalenessSlo == null || stalenessSlo <= 0) {
+			return NeatPulseConstant.DEFAULT_STALENESS_SLO;
+		}
+		return stalenessSlo;
+	}
+
+	/**
+	 * Gets the parallel mapping threshold based on the provided input or a default constant value.
+	 *
+	 * @return The minimum number of devices mapped in parallel.
+	 */
+	private int getDefaultParallelMappingThreshold() {
+		if (parallelMappingThreshold == null || parallelMappingThreshold <= 0) {
+			return NeatPulseConstant.DEFAULT_PARALLEL_MAPPING_THRESHOLD;
+		}
+		return parallelMappingThreshold;
+	}
+
 	/**
 	 * Gets the default number of threads based on the provided input or a default constant value.
 	 *
@@ -1427,36 +3011,24 @@ public class NeatPulseCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Puts the provided mapping values into the cached monitoring data for the specified device ID.
-	 *
-	 * @param deviceId The ID of the device.
-	 * @param mappingValue The mapping values to be added.
-	 */
-	private void putMapIntoCachedData(String deviceId, Map<String, String> mappingValue) {
-		synchronized (cachedMonitoringDevice) {
-			Map<String, String> map = new HashMap<>();
-			if (cachedMonitoringDevice.get(deviceId) != null) {
-				map = cachedMonitoringDevice.get(deviceId);
-			}
-			map.putAll(mappingValue);
-			cachedMonitoringDevice.put(deviceId, map);
-		}
-	}
-
-	/**
-	 * Updates the cache value for a specified property in the aggregated device list.
+	 * Updates the cache value for a specified setting of a device, and of the devices sharing its room when the setting is room-level.
+	 * The update goes through the cache applier and is applied before this method returns, so that it is ordered
+	 * after any poll result queued earlier. It is dropped when the communicator is stopped, the next poll refreshes the cache.
 	 *
 	 * @param deviceId The ID of the device whose cache value needs to be updated.
-	 * @param name The name of the property to be updated.
+	 * @param item The setting to be updated.
 	 * @param value The new value to set for the property.
 	 */
-	private void updateCacheValue(String deviceId, String name, String value) {
-		cachedMonitoringDevice.computeIfAbsent(deviceId, k -> new HashMap<>()).put(name, value);
-		String roomName = cachedMonitoringDevice.get(deviceId).get(DeviceInfo.ROOM_NAME.getPropertyName());
-		for (String id : deviceList) {
-			if (roomName.equals(cachedMonitoringDevice.get(id).get(DeviceInfo.ROOM_NAME.getPropertyName()))) {
-				cachedMonitoringDevice.computeIfAbsent(id, k -> new HashMap<>()).put(name, value);
+	private void updateCacheValue(String deviceId, DeviceSettings item, String value) {
+		for (String peer : item.isRoomLevel() ? cachedMonitoringDevice.getRoomPeers(deviceId) : Collections.singletonList(deviceId)) {
+			responseChangeDetector.reset(peer, EndpointClass.CONFIG);
+		}
+		try {
+			if (!cacheApplier.submitAndWait(DeviceStateUpdate.roomSetting(deviceId, item, value), NeatPulseConstant.CACHE_APPLY_TIMEOUT)) {
+				logger.warn(String.format("Cache update of %s for device %s was not applied", item.getPropertyName(), deviceId));
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
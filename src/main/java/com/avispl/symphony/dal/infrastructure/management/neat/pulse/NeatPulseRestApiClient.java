@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+
+/**
+ * NeatPulseRestApiClient
+ * Default {@link NeatPulseApiClient}, sending the commands through the REST stack of the communicator,
+ * so requests keep going through its request lanes, latency metrics and credentials.
+ * List and per-device responses are read as token streams and bound straight into their typed records,
+ * and the polling of the info and config is conditional.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class NeatPulseRestApiClient implements NeatPulseApiClient {
+	private final NeatPulseCommunicator communicator;
+	private final ObjectReader deviceInfoReader;
+	private final ObjectReader deviceSettingsReader;
+
+	/**
+	 * NeatPulseRestApiClient constructor
+	 *
+	 * @param communicator the communicator whose REST stack sends the requests
+	 */
+	NeatPulseRestApiClient(NeatPulseCommunicator communicator) {
+		this.communicator = communicator;
+		this.deviceInfoReader = communicator.objectMapper.readerFor(DeviceInfoResponse.class);
+		this.deviceSettingsReader = communicator.objectMapper.readerFor(DeviceSettingsResponse.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> getEndpointIds() throws Exception {
+		return communicator.doGetStreaming(String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, communicator.getLogin()), this::readEndpointIds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer getRoomCount() throws Exception {
+		return communicator.doGetStreaming(String.format(NeatPulseCommand.ALL_ROOM_COMMAND, communicator.getLogin()), parser -> countArrayElements(parser, NeatPulseConstant.ROOMS));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfo(String deviceId) throws Exception {
+		return communicator.doGetStreaming(String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, communicator.getLogin(), deviceId), deviceInfoReader::readValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is conditional, see {@link NeatPulseCommunicator#doGetIfChanged}.
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfoIfChanged(String deviceId) throws Exception {
+		return communicator.doGetIfChanged(String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, communicator.getLogin(), deviceId), deviceId, EndpointClass.INFO,
+				deviceInfoReader::readValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode getDeviceSensor(String deviceId) throws Exception {
+		return communicator.doGet(String.format(NeatPulseCommand.GET_DEVICE_SENSOR_COMMAND, communicator.getLogin(), deviceId), JsonNode.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettings(String deviceId) throws Exception {
+		return communicator.doGetStreaming(String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, communicator.getLogin(), deviceId), deviceSettingsReader::readValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is conditional, see {@link NeatPulseCommunicator#doGetIfChanged}.
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettingsIfChanged(String deviceId) throws Exception {
+		return communicator.doGetIfChanged(String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, communicator.getLogin(), deviceId), deviceId, EndpointClass.CONFIG,
+				deviceSettingsReader::readValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode postDeviceConfig(String deviceId, Map<String, Object> fields) throws Exception {
+		return communicator.doPost(String.format(NeatPulseCommand.CONTROL_DEVICE, communicator.getLogin(), deviceId), fields, JsonNode.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode rebootDevice(String deviceId) throws Exception {
+		return communicator.doPost(String.format(NeatPulseCommand.REBOOT_DEVICE, communicator.getLogin(), deviceId), Collections.emptyMap(), JsonNode.class);
+	}
+
+	/**
+	 * Reads the ids of the {@code endpoints} array, skipping every other field of the response.
+	 *
+	 * @param parser The token stream of the response.
+	 * @return The endpoint ids, or null if the response has no endpoints array.
+	 * @throws IOException If the response can't be read.
+	 */
+	private List<String> readEndpointIds(JsonParser parser) throws IOException {
+		if (!moveToArrayField(parser, NeatPulseConstant.ENDPOINTS)) {
+			return null;
+		}
+		List<String> endpointIds = new ArrayList<>();
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				parser.nextToken();
+				if (NeatPulseConstant.ID.equals(fieldName)) {
+					endpointIds.add(parser.getValueAsString());
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return endpointIds;
+	}
+
+	/**
+	 * Counts the elements of a top level array field, skipping their content.
+	 *
+	 * @param parser The token stream of the response.
+	 * @param fieldName The name of the array field.
+	 * @return The number of elements, or null if the response has no such array.
+	 * @throws IOException If the response can't be read.
+	 */
+	private Integer countArrayElements(JsonParser parser, String fieldName) throws IOException {
+		if (!moveToArrayField(parser, fieldName)) {
+			return null;
+		}
+		int count = 0;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			parser.skipChildren();
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Advances the parser to the start of a top level array field.
+	 *
+	 * @param parser The token stream of the response.
+	 * @param fieldName The name of the array field.
+	 * @return true if the parser is positioned on the start of the array.
+	 * @throws IOException If the response can't be read.
+	 */
+	private boolean moveToArrayField(JsonParser parser, String fieldName) throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return false;
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			JsonToken valueToken = parser.nextToken();
+			if (fieldName.equals(parser.getCurrentName()) && valueToken == JsonToken.START_ARRAY) {
+				return true;
+			}
+			parser.skipChildren();
+		}
+		return false;
+	}
+}
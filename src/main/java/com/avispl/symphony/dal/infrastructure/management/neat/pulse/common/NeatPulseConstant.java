@@ -14,6 +14,26 @@ package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common;
 public class NeatPulseConstant {
 	public static final int DEFAULT_NUMBER_THREAD = 8;
 	public static final int START_INDEX = 0;
+	public static final int DEFAULT_PARALLEL_MAPPING_THRESHOLD = 1000;
+	public static final int MAPPING_BATCH_SIZE = 128;
+	public static final long CACHE_APPLY_TIMEOUT = 5000;
+	public static final int CONTROL_LOCK_STRIPES = 64;
+	public static final int DEFAULT_BULK_CONTROL_PARALLELISM = 4;
+	public static final int DEFAULT_CONTROL_REQUESTS_PER_SECOND = 5;
+	public static final int BULK_CONTROL_MAX_ATTEMPTS = 3;
+	public static final long BULK_CONTROL_RETRY_DELAY = 1000;
+	public static final int DEFAULT_REBOOT_WAVE_SIZE = 5;
+	public static final long REBOOT_GRACE_PERIOD = 30000;
+	public static final long REBOOT_POLL_INTERVAL = 10000;
+	public static final long REBOOT_WAVE_TIMEOUT = 600000;
+	public static final long CONFIG_REFRESH_DELAY = 2000;
+	public static final long REBOOT_REFRESH_DELAY = 10000;
+	public static final int RESERVED_INTERACTIVE_REQUESTS = 2;
+	public static final int RESERVED_REFRESH_REQUESTS = 2;
+	public static final int DEFAULT_CONTROL_DEBOUNCE_WINDOW = 300;
+	public static final int ASYNC_CONTROL_LANES = 4;
+	public static final int DEFAULT_STALENESS_SLO = 30;
+	public static final int CACHE_SNAPSHOT_INTERVAL = 5;
 	public static final String TRUE = "true";
 	public static final String FALSE = "false";
 	public static final String EMPTY = "";
@@ -33,4 +53,31 @@ public class NeatPulseConstant {
 	public static final String CONFIG = "config";
 	public static final String STATUS = "status";
 	public static final String MESSAGE = "message";
+	public static final String ROOM_LOCK_PREFIX = "room:";
+	public static final String CONFIG_REFRESH_PREFIX = "config:";
+	public static final String INFO_REFRESH_PREFIX = "info:";
+	public static final String COMMA = ",";
+	public static final String BULK_CONTROL_GROUP = "BulkControl#";
+	public static final String BULK_CONTROL_SETTING = "BulkControl#Setting";
+	public static final String BULK_CONTROL_VALUE = "BulkControl#Value";
+	public static final String BULK_CONTROL_TARGET_ROOMS = "BulkControl#TargetRooms";
+	public static final String BULK_CONTROL_TARGET_MODELS = "BulkControl#TargetModels";
+	public static final String BULK_CONTROL_APPLY = "BulkControl#Apply";
+	public static final String REQUEST_LANES_GROUP = "RequestLanes#";
+	public static final String CONTROL_WRITES_GROUP = "ControlWrites#";
+	public static final String ASYNC_CONTROL_GROUP = "AsyncControl#";
+	public static final String LATENCY_GROUP = "Latency#";
+	public static final String CHANGE_DETECTION_GROUP = "ChangeDetection#";
+	public static final String POLLING_GROUP = "Polling#";
+	public static final String LAST_REFRESH_GROUP = "LastRefresh#";
+	public static final String LAST_REFRESH_FROM_SNAPSHOT = "LastRefresh#FromSnapshot";
+	public static final String RESTORED_SNAPSHOT = "Polling#RestoredSnapshot";
+	public static final String FIRST_COMPLETE_DEVICE_LIST = "Polling#FirstCompleteDeviceList(s)";
+	public static final String ROLLING_REBOOT_GROUP = "RollingReboot#";
+	public static final String ROLLING_REBOOT_TARGET_ROOMS = "RollingReboot#TargetRooms";
+	public static final String ROLLING_REBOOT_TARGET_MODELS = "RollingReboot#TargetModels";
+	public static final String ROLLING_REBOOT_TARGET_FIRMWARE = "RollingReboot#TargetFirmwareVersions";
+	public static final String ROLLING_REBOOT_WAVE_SIZE = "RollingReboot#WaveSize";
+	public static final String ROLLING_REBOOT_START = "RollingReboot#Start";
+	public static final String ROLLING_REBOOT_CANCEL = "RollingReboot#Cancel";
 }
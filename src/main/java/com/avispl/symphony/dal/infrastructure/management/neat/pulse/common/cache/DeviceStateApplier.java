@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Single writer of the {@link DeviceStateStore}.
+ * Any number of threads submit {@link DeviceStateUpdate} records to a lock-free queue, and one applier thread
+ * drains it in submission order and applies the updates in batches. Poll results and control writes
+ * therefore reach the store in a deterministic order, and producers never wait for the store lock.
+ * Updates are only accepted while the applier is running; updates submitted while it is stopped, or still pending
+ * when it stops, are discarded and reported as not applied.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateApplier {
+	private static final Log logger = LogFactory.getLog(DeviceStateApplier.class);
+	private static final int MAX_BATCH_SIZE = 256;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final DeviceStateStore store;
+	private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+	private volatile Thread applierThread;
+	private volatile boolean running;
+
+	/**
+	 * Constructor for DeviceStateApplier.
+	 *
+	 * @param store the store owned by this applier
+	 */
+	public DeviceStateApplier(DeviceStateStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Starts the applier thread if it is not running yet
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		applierThread = new Thread(this::run, "NeatPulse-cache-applier");
+		applierThread.setDaemon(true);
+		applierThread.start();
+	}
+
+	/**
+	 * Stops the applier thread, pending updates are discarded and their waiting producers released
+	 */
+	public synchronized void stop() {
+		running = false;
+		Thread thread = applierThread;
+		applierThread = null;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(1));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		Entry entry;
+		while ((entry = queue.poll()) != null) {
+			entry.discard();
+		}
+	}
+
+	/**
+	 * Queues an update without waiting for it to be applied
+	 *
+	 * @param update the update
+	 * @return true if the update was queued, false if the applier is stopped
+	 */
+	public boolean submit(DeviceStateUpdate update) {
+		return enqueue(new Entry(update, null));
+	}
+
+	/**
+	 * Queues an update and waits until the applier has applied it, or the timeout elapses
+	 *
+	 * @param update the update
+	 * @param timeoutMillis maximum time to wait
+	 * @return true if the update was applied within the timeout, false if it is still pending or was discarded
+	 * @throws InterruptedException if the calling thread is interrupted while waiting
+	 */
+	public boolean submitAndWait(DeviceStateUpdate update, long timeoutMillis) throws InterruptedException {
+		Entry entry = new Entry(update, new CountDownLatch(1));
+		return enqueue(entry) && entry.await(timeoutMillis);
+	}
+
+	/**
+	 * Retrieves the number of updates waiting to be applied
+	 *
+	 * @return queue length
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Queues an entry unless the applier is stopped, an entry queued while the applier stops is discarded
+	 *
+	 * @return true if the entry was queued
+	 */
+	private boolean enqueue(Entry entry) {
+		if (!running) {
+			entry.discard();
+			return false;
+		}
+		queue.offer(entry);
+		if (!running && queue.remove(entry)) {
+			entry.discard();
+			return false;
+		}
+		Thread thread = applierThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+		return true;
+	}
+
+	/**
+	 * Applier loop: drains the queue in batches and parks when it is empty
+	 */
+	private void run() {
+		List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		while (running) {
+			Entry entry;
+			while (batch.size() < MAX_BATCH_SIZE && (entry = queue.poll()) != null) {
+				batch.add(entry);
+			}
+			if (batch.isEmpty()) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				continue;
+			}
+			try {
+				store.apply(batch);
+			} catch (Exception e) {
+				logger.error("Error while applying device state updates", e);
+			} finally {
+				for (Entry applied : batch) {
+					applied.release();
+				}
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Queued update with an optional latch released once it has been applied or discarded
+	 */
+	static final class Entry {
+		private final DeviceStateUpdate update;
+		private final CountDownLatch applied;
+		private volatile boolean discarded;
+
+		Entry(DeviceStateUpdate update, CountDownLatch applied) {
+			this.update = update;
+			this.applied = applied;
+		}
+
+		DeviceStateUpdate getUpdate() {
+			return update;
+		}
+
+		void release() {
+			if (applied != null) {
+				applied.countDown();
+			}
+		}
+
+		void discard() {
+			discarded = true;
+			release();
+		}
+
+		boolean await(long timeoutMillis) throws InterruptedException {
+			return applied.await(timeoutMillis, TimeUnit.MILLISECONDS) && !discarded;
+		}
+	}
+}
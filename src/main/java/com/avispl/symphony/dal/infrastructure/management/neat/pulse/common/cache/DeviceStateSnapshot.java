@@ -0,0 +1,378 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * Point-in-time copy of the {@link DeviceStateStore}, the endpoint list and the room count, persisted so that the last known
+ * state can be published right after a restart while the first sweep refreshes it.
+ * <p>
+ * The file is binary and compact: every distinct string is written once in a string table and referenced by its index,
+ * sensor readings are raw doubles followed by the texts of the readings that are not numeric, and a CRC32 of the content ends the file. It is written to a temporary file moved over
+ * the previous snapshot, so a reader never sees a partial snapshot, and it is read through a memory-mapped buffer.
+ * Snapshots written with other property sets are rejected, the properties being stored by ordinal.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateSnapshot {
+	private static final int MAGIC = 0x4E505353;
+	private static final int VERSION = 2;
+	private static final int INFO_FIELDS = DeviceInfo.values().length;
+	private static final int SETTINGS_FIELDS = DeviceSettings.values().length;
+	private static final int SENSOR_FIELDS = DeviceSensor.values().length;
+	private static final int REFRESH_FIELDS = 3;
+	private static final int MINIMUM_SIZE = 52;
+
+	private final long takenAt;
+	private final int roomCount;
+	private final List<String> endpointIds;
+	private final List<Device> devices;
+
+	private DeviceStateSnapshot(long takenAt, int roomCount, List<String> endpointIds, List<Device> devices) {
+		this.takenAt = takenAt;
+		this.roomCount = roomCount;
+		this.endpointIds = endpointIds;
+		this.devices = devices;
+	}
+
+	/**
+	 * Copies the state of a store, consistently with regard to its writes
+	 *
+	 * @param store the store
+	 * @param endpointIds ids of the endpoints of the organization
+	 * @param roomCount number of rooms of the organization
+	 * @param lastRefreshes retrieves the last refresh times of a device, 3 values in milliseconds, 0 for never
+	 * @param takenAt time of the copy in milliseconds
+	 * @return the snapshot
+	 */
+	public static DeviceStateSnapshot capture(DeviceStateStore store, List<String> endpointIds, int roomCount, Function<String, long[]> lastRefreshes, long takenAt) {
+		List<Device> devices = store.readConsistently(() -> {
+			List<String> deviceIds = store.getDeviceIds();
+			List<Device> copies = new ArrayList<>(deviceIds.size());
+			for (int ordinal = 0; ordinal < deviceIds.size(); ordinal++) {
+				String[] info = new String[INFO_FIELDS];
+				for (DeviceInfo item : DeviceInfo.values()) {
+					info[item.ordinal()] = store.getInfo(ordinal, item);
+				}
+				String[] settings = new String[SETTINGS_FIELDS];
+				for (DeviceSettings item : DeviceSettings.values()) {
+					settings[item.ordinal()] = store.getSetting(ordinal, item);
+				}
+				double[][] sensors = new double[store.getSensorCount(ordinal)][SENSOR_FIELDS];
+				String[][] sensorTexts = new String[sensors.length][SENSOR_FIELDS];
+				for (int sensor = 0; sensor < sensors.length; sensor++) {
+					for (DeviceSensor item : DeviceSensor.values()) {
+						sensors[sensor][item.ordinal()] = store.getSensorValue(ordinal, sensor, item);
+						sensorTexts[sensor][item.ordinal()] = store.getSensorText(ordinal, sensor, item);
+					}
+				}
+				copies.add(new Device(deviceIds.get(ordinal), info, settings, sensors, sensorTexts, null));
+			}
+			return copies;
+		});
+		for (int i = 0; i < devices.size(); i++) {
+			Device device = devices.get(i);
+			devices.set(i, new Device(device.deviceId, device.info, device.settings, device.sensors, device.sensorTexts, Arrays.copyOf(lastRefreshes.apply(device.deviceId), REFRESH_FIELDS)));
+		}
+		return new DeviceStateSnapshot(takenAt, roomCount, new ArrayList<>(endpointIds), devices);
+	}
+
+	/**
+	 * Retrieves {@link #takenAt}
+	 *
+	 * @return time of the copy in milliseconds
+	 */
+	public long getTakenAt() {
+		return takenAt;
+	}
+
+	/**
+	 * Retrieves {@link #roomCount}
+	 *
+	 * @return number of rooms of the organization
+	 */
+	public int getRoomCount() {
+		return roomCount;
+	}
+
+	/**
+	 * Retrieves {@link #endpointIds}
+	 *
+	 * @return ids of the endpoints of the organization
+	 */
+	public List<String> getEndpointIds() {
+		return Collections.unmodifiableList(endpointIds);
+	}
+
+	/**
+	 * Retrieves the number of devices of the snapshot
+	 *
+	 * @return number of devices
+	 */
+	public int size() {
+		return devices.size();
+	}
+
+	/**
+	 * Retrieves the ids of the devices of the snapshot, in ordinal order
+	 *
+	 * @return list of device ids
+	 */
+	public List<String> getDeviceIds() {
+		List<String> deviceIds = new ArrayList<>(devices.size());
+		for (Device device : devices) {
+			deviceIds.add(device.deviceId);
+		}
+		return deviceIds;
+	}
+
+	/**
+	 * Retrieves the last refresh times of a device when the snapshot was taken
+	 *
+	 * @param index index of the device, in ordinal order
+	 * @return 3 times in milliseconds, 0 for never
+	 */
+	public long[] getLastRefreshes(int index) {
+		return devices.get(index).lastRefreshes.clone();
+	}
+
+	/**
+	 * Writes the devices of the snapshot to a store, in their original ordinal order
+	 *
+	 * @param store the store, normally empty
+	 */
+	public void restoreTo(DeviceStateStore store) {
+		for (Device device : devices) {
+			store.putInfo(device.deviceId, device.info.clone());
+			store.putSettings(device.deviceId, device.settings.clone());
+			if (device.sensors.length > 0) {
+				store.putSensors(device.deviceId, device.sensors, device.sensorTexts);
+			}
+		}
+	}
+
+	/**
+	 * Writes the snapshot, replacing the previous one atomically
+	 *
+	 * @param path the snapshot file
+	 * @throws IOException if the file can't be written
+	 */
+	public void write(Path path) throws IOException {
+		Map<String, Integer> codes = new HashMap<>();
+		List<String> strings = new ArrayList<>();
+		ByteArrayOutputStream content = new ByteArrayOutputStream(64 + devices.size() * 256);
+		DataOutputStream body = new DataOutputStream(content);
+		body.writeInt(endpointIds.size());
+		for (String endpointId : endpointIds) {
+			body.writeInt(encode(endpointId, codes, strings));
+		}
+		body.writeInt(devices.size());
+		for (Device device : devices) {
+			body.writeInt(encode(device.deviceId, codes, strings));
+			for (String value : device.info) {
+				body.writeInt(encode(value, codes, strings));
+			}
+			for (String value : device.settings) {
+				body.writeInt(encode(value, codes, strings));
+			}
+			for (long lastRefresh : device.lastRefreshes) {
+				body.writeLong(lastRefresh);
+			}
+			body.writeInt(device.sensors.length);
+			for (double[] sensor : device.sensors) {
+				for (double value : sensor) {
+					body.writeDouble(value);
+				}
+			}
+			for (String[] sensorText : device.sensorTexts) {
+				for (String value : sensorText) {
+					body.writeInt(encode(value, codes, strings));
+				}
+			}
+		}
+		body.flush();
+
+		ByteArrayOutputStream file = new ByteArrayOutputStream(content.size() + strings.size() * 24 + 64);
+		DataOutputStream output = new DataOutputStream(file);
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeInt(INFO_FIELDS);
+		output.writeInt(SETTINGS_FIELDS);
+		output.writeInt(SENSOR_FIELDS);
+		output.writeLong(takenAt);
+		output.writeInt(roomCount);
+		output.writeInt(strings.size());
+		for (String value : strings) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+		content.writeTo(output);
+		CRC32 crc = new CRC32();
+		crc.update(file.toByteArray(), 0, file.size());
+		output.writeLong(crc.getValue());
+		output.flush();
+
+		Path directory = path.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+				ByteBuffer buffer = ByteBuffer.wrap(file.toByteArray());
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(true);
+			}
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Reads a snapshot through a memory-mapped buffer
+	 *
+	 * @param path the snapshot file
+	 * @return the snapshot
+	 * @throws IOException if the file can't be read, is corrupted or was written for other properties
+	 */
+	public static DeviceStateSnapshot read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < MINIMUM_SIZE || size > Integer.MAX_VALUE) {
+				throw new IOException("Invalid device state snapshot size " + size + ": " + path);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			ByteBuffer content = buffer.duplicate();
+			((Buffer) content).limit((int) size - 8);
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			if (crc.getValue() != buffer.getLong((int) size - 8)) {
+				throw new IOException("Corrupted device state snapshot: " + path);
+			}
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != INFO_FIELDS || buffer.getInt() != SETTINGS_FIELDS
+					|| buffer.getInt() != SENSOR_FIELDS) {
+				throw new IOException("Device state snapshot of another version: " + path);
+			}
+			long takenAt = buffer.getLong();
+			int roomCount = buffer.getInt();
+			String[] strings = new String[buffer.getInt() + 1];
+			for (int i = 1; i < strings.length; i++) {
+				byte[] bytes = new byte[buffer.getInt()];
+				buffer.get(bytes);
+				strings[i] = new String(bytes, StandardCharsets.UTF_8);
+			}
+			int endpointCount = buffer.getInt();
+			List<String> endpointIds = new ArrayList<>(endpointCount);
+			for (int i = 0; i < endpointCount; i++) {
+				endpointIds.add(strings[buffer.getInt()]);
+			}
+			int deviceCount = buffer.getInt();
+			List<Device> devices = new ArrayList<>(deviceCount);
+			for (int i = 0; i < deviceCount; i++) {
+				devices.add(readDevice(buffer, strings));
+			}
+			return new DeviceStateSnapshot(takenAt, roomCount, endpointIds, devices);
+		} catch (RuntimeException e) {
+			throw new IOException("Corrupted device state snapshot: " + path, e);
+		}
+	}
+
+	/**
+	 * Reads the state of a device at the position of the buffer
+	 */
+	private static Device readDevice(ByteBuffer buffer, String[] strings) {
+		String deviceId = strings[buffer.getInt()];
+		String[] info = new String[INFO_FIELDS];
+		for (int i = 0; i < info.length; i++) {
+			info[i] = strings[buffer.getInt()];
+		}
+		String[] settings = new String[SETTINGS_FIELDS];
+		for (int i = 0; i < settings.length; i++) {
+			settings[i] = strings[buffer.getInt()];
+		}
+		long[] lastRefreshes = new long[REFRESH_FIELDS];
+		for (int i = 0; i < lastRefreshes.length; i++) {
+			lastRefreshes[i] = buffer.getLong();
+		}
+		double[][] sensors = new double[buffer.getInt()][SENSOR_FIELDS];
+		for (double[] sensor : sensors) {
+			for (int i = 0; i < SENSOR_FIELDS; i++) {
+				sensor[i] = buffer.getDouble();
+			}
+		}
+		String[][] sensorTexts = new String[sensors.length][SENSOR_FIELDS];
+		for (String[] sensorText : sensorTexts) {
+			for (int i = 0; i < SENSOR_FIELDS; i++) {
+				sensorText[i] = strings[buffer.getInt()];
+			}
+		}
+		return new Device(deviceId, info, settings, sensors, sensorTexts, lastRefreshes);
+	}
+
+	/**
+	 * Retrieves the code of a string in the string table, adding it when needed. Code 0 is null.
+	 */
+	private static int encode(String value, Map<String, Integer> codes, List<String> strings) {
+		if (value == null) {
+			return 0;
+		}
+		Integer code = codes.get(value);
+		if (code == null) {
+			strings.add(value);
+			code = strings.size();
+			codes.put(value, code);
+		}
+		return code;
+	}
+
+	/**
+	 * State of a device in the snapshot
+	 */
+	private static final class Device {
+		private final String deviceId;
+		private final String[] info;
+		private final String[] settings;
+		private final double[][] sensors;
+		private final String[][] sensorTexts;
+		private final long[] lastRefreshes;
+
+		Device(String deviceId, String[] info, String[] settings, double[][] sensors, String[][] sensorTexts, long[] lastRefreshes) {
+			this.deviceId = deviceId;
+			this.info = info;
+			this.settings = settings;
+			this.sensors = sensors;
+			this.sensorTexts = sensorTexts;
+			this.lastRefreshes = lastRefreshes;
+		}
+	}
+}
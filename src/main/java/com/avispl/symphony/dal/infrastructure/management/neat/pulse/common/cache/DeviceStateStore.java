@@ -0,0 +1,961 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Columnar store of the monitored state of all Neat Pulse endpoints.
+ * Each device gets an ordinal on its first write, and every {@link DeviceInfo}, {@link DeviceSettings} and
+ * {@link DeviceSensor} property is kept in a column indexed by that ordinal:
+ * <ul>
+ * <li> - boolean properties are packed into bitsets</li>
+ * <li> - numeric properties and sensor readings are kept in primitive arrays, sensor readings that are not numeric aside</li>
+ * <li> - low-cardinality strings (model, room, time zone, language...) are dictionary-encoded</li>
+ * <li> - unique strings (serial, IP address) are kept as plain strings</li>
+ * </ul>
+ * Empty and missing values are both stored as absent and read back as {@code null}.
+ * Values replaced over time leave unused entries in the dictionary, it is compacted once it doubled since the last compaction.
+ * Every write bumps the version of the device it touches. Writes are expected to come from the single
+ * {@link DeviceStateApplier} thread, readers may run concurrently.
+ * <p>
+ * Devices reporting the same room id form a room pair (for instance a Neat Bar and its Neat Pad). The store keeps an index
+ * of the members of every room, so that a {@link DeviceSettings#isRoomLevel() room-level} setting can be written to the whole
+ * pair at once; the room name is only a display string, two rooms may share it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateStore {
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int MIN_DICTIONARY_COMPACTION_SIZE = 1024;
+	private static final int SENSOR_FIELDS = DeviceSensor.values().length;
+	private static final Set<DeviceInfo> TEXT_INFO = EnumSet.of(DeviceInfo.SERIAL, DeviceInfo.LOCAL_IP_ADDRESS);
+	private static final Set<DeviceInfo> BOOLEAN_INFO = EnumSet.of(DeviceInfo.CONNECTED);
+	private static final Set<DeviceInfo> INSTANT_INFO = EnumSet.of(DeviceInfo.CONNECTION_TIME);
+	private static final Set<DeviceSettings> BOOLEAN_SETTINGS = EnumSet.of(DeviceSettings.AUTO_WAKEUP, DeviceSettings.NIGHT_MODE, DeviceSettings.HDMI_CEC_CONTROL,
+			DeviceSettings.KEEP_SCREEN_ON, DeviceSettings.DISPLAY_PREFERENCE, DeviceSettings.BLUETOOTH, DeviceSettings.BYOD_MODE, DeviceSettings.HOUR_TIME,
+			DeviceSettings.USB_AUDIO, DeviceSettings.HIGH_CONTRAST_MODE, DeviceSettings.SCREEN_READER);
+	private static final Set<DeviceSettings> NUMBER_SETTINGS = EnumSet.of(DeviceSettings.SCREEN_BRIGHTNESS);
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Integer> ordinals = new HashMap<>();
+	private final List<String> deviceIds = new ArrayList<>();
+	private final StringDictionary dictionary = new StringDictionary();
+	private final Column[] infoColumns = new Column[DeviceInfo.values().length];
+	private final Column[] settingsColumns = new Column[DeviceSettings.values().length];
+	private double[][] sensorValues = new double[INITIAL_CAPACITY][];
+	private final Map<Integer, String[]> sensorOverflow = new HashMap<>();
+	private long[] versions = new long[INITIAL_CAPACITY];
+	private final Map<Integer, List<Integer>> roomMembers = new HashMap<>();
+	private final DictionaryColumn roomColumn;
+	private int capacity = INITIAL_CAPACITY;
+	private int dictionaryCompactionSize = MIN_DICTIONARY_COMPACTION_SIZE;
+
+	/**
+	 * Constructs an empty store and assigns a column type to every device property.
+	 */
+	public DeviceStateStore() {
+		for (DeviceInfo item : DeviceInfo.values()) {
+			if (TEXT_INFO.contains(item)) {
+				infoColumns[item.ordinal()] = new TextColumn(capacity);
+			} else if (BOOLEAN_INFO.contains(item)) {
+				infoColumns[item.ordinal()] = new BooleanColumn();
+			} else if (INSTANT_INFO.contains(item)) {
+				infoColumns[item.ordinal()] = new InstantColumn(capacity);
+			} else {
+				infoColumns[item.ordinal()] = new DictionaryColumn(dictionary, capacity);
+			}
+		}
+		roomColumn = (DictionaryColumn) infoColumns[DeviceInfo.ROOM_ID.ordinal()];
+		for (DeviceSettings item : DeviceSettings.values()) {
+			if (BOOLEAN_SETTINGS.contains(item)) {
+				settingsColumns[item.ordinal()] = new BooleanColumn();
+			} else if (NUMBER_SETTINGS.contains(item)) {
+				settingsColumns[item.ordinal()] = new NumberColumn(capacity);
+			} else {
+				settingsColumns[item.ordinal()] = new DictionaryColumn(dictionary, capacity);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the number of devices held by the store
+	 *
+	 * @return number of devices
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return deviceIds.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the store holds no device
+	 *
+	 * @return true if no device has been written yet
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Retrieves a copy of the ids of all devices, in ordinal order
+	 *
+	 * @return list of device ids
+	 */
+	public List<String> getDeviceIds() {
+		lock.readLock().lock();
+		try {
+			return new ArrayList<>(deviceIds);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the ordinal assigned to a device
+	 *
+	 * @param deviceId id of the device
+	 * @return ordinal of the device, or -1 if the device is unknown
+	 */
+	public int getOrdinal(String deviceId) {
+		lock.readLock().lock();
+		try {
+			Integer ordinal = ordinals.get(deviceId);
+			return ordinal == null ? -1 : ordinal;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the version of a device, incremented on every write to the device
+	 *
+	 * @param ordinal ordinal of the device
+	 * @return version of the device, 0 if the device is unknown
+	 */
+	public long getVersion(int ordinal) {
+		lock.readLock().lock();
+		try {
+			return isValid(ordinal) ? versions[ordinal] : 0L;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of devices the columns can hold before growing
+	 *
+	 * @return capacity of the columns
+	 */
+	int getCapacity() {
+		lock.readLock().lock();
+		try {
+			return capacity;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of distinct strings held by the dictionary shared by the dictionary-encoded columns
+	 *
+	 * @return number of dictionary entries, absent value excluded
+	 */
+	int getDictionarySize() {
+		lock.readLock().lock();
+		try {
+			return dictionary.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of values kept aside because they do not fit the type of their column
+	 *
+	 * @return number of overflow values, across all columns
+	 */
+	int getOverflowCount() {
+		lock.readLock().lock();
+		try {
+			int count = 0;
+			for (Column column : infoColumns) {
+				count += column.overflow.size();
+			}
+			for (Column column : settingsColumns) {
+				count += column.overflow.size();
+			}
+			return count;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Runs a reader under the read lock, so that the values it reads are not interleaved with writes
+	 *
+	 * @param reader reads the store through its public getters
+	 * @return the value of the reader
+	 */
+	<T> T readConsistently(Supplier<T> reader) {
+		lock.readLock().lock();
+		try {
+			return reader.get();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Applies a batch of queued updates in order under a single write lock
+	 *
+	 * @param batch updates to apply
+	 */
+	void apply(List<DeviceStateApplier.Entry> batch) {
+		lock.writeLock().lock();
+		try {
+			for (DeviceStateApplier.Entry entry : batch) {
+				entry.getUpdate().applyTo(this);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes all device information values
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceInfo#ordinal()}, null for absent values
+	 */
+	public void putInfo(String deviceId, String[] values) {
+		lock.writeLock().lock();
+		try {
+			int ordinal = register(deviceId);
+			versions[ordinal]++;
+			int previousRoom = roomColumn.getCode(ordinal);
+			for (int i = 0; i < infoColumns.length; i++) {
+				infoColumns[i].set(ordinal, values[i]);
+			}
+			int room = roomColumn.getCode(ordinal);
+			if (room != previousRoom) {
+				moveRoomMember(ordinal, previousRoom, room);
+			}
+			compactDictionaryIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes all device settings values
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceSettings#ordinal()}, null for absent values
+	 */
+	public void putSettings(String deviceId, String[] values) {
+		lock.writeLock().lock();
+		try {
+			int ordinal = register(deviceId);
+			versions[ordinal]++;
+			for (int i = 0; i < settingsColumns.length; i++) {
+				settingsColumns[i].set(ordinal, values[i]);
+			}
+			compactDictionaryIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes a single device setting value
+	 *
+	 * @param deviceId id of the device
+	 * @param item setting to write
+	 * @param value new value
+	 */
+	public void putSetting(String deviceId, DeviceSettings item, String value) {
+		lock.writeLock().lock();
+		try {
+			int ordinal = register(deviceId);
+			versions[ordinal]++;
+			settingsColumns[item.ordinal()].set(ordinal, value);
+			compactDictionaryIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes a single setting value of a device, and of the other devices of its room pair when the setting is room-level
+	 *
+	 * @param deviceId id of the device
+	 * @param item setting to write
+	 * @param value new value
+	 */
+	public void putRoomSetting(String deviceId, DeviceSettings item, String value) {
+		lock.writeLock().lock();
+		try {
+			int deviceOrdinal = register(deviceId);
+			for (int ordinal : item.isRoomLevel() ? getRoomOrdinals(deviceOrdinal) : Collections.singletonList(deviceOrdinal)) {
+				versions[ordinal]++;
+				settingsColumns[item.ordinal()].set(ordinal, value);
+			}
+			compactDictionaryIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Writes all settings values of a device; the room-level values are written to the other devices of its room pair as well
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceSettings#ordinal()}, null for absent values
+	 */
+	public void putRoomSettings(String deviceId, String[] values) {
+		lock.writeLock().lock();
+		try {
+			int deviceOrdinal = register(deviceId);
+			for (int ordinal : getRoomOrdinals(deviceOrdinal)) {
+				versions[ordinal]++;
+				for (DeviceSettings item : DeviceSettings.values()) {
+					if (ordinal == deviceOrdinal || item.isRoomLevel()) {
+						settingsColumns[item.ordinal()].set(ordinal, values[item.ordinal()]);
+					}
+				}
+			}
+			compactDictionaryIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the devices sharing the room-level config of a device: the members of its room pair, or the device alone when its room is unknown
+	 *
+	 * @param deviceId id of the device
+	 * @return ids of the devices of the pair, in ordinal order, including the device itself
+	 */
+	public List<String> getRoomPeers(String deviceId) {
+		lock.readLock().lock();
+		try {
+			Integer ordinal = ordinals.get(deviceId);
+			if (ordinal == null) {
+				return Collections.singletonList(deviceId);
+			}
+			List<String> peers = new ArrayList<>();
+			for (int peer : getRoomOrdinals(ordinal)) {
+				peers.add(deviceIds.get(peer));
+			}
+			return peers;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Replaces the sensor readings of a device.
+	 * Each row holds the readings of one sensor indexed by {@link DeviceSensor#ordinal()}, {@link Double#NaN} marks a missing reading.
+	 *
+	 * @param deviceId id of the device
+	 * @param sensors readings of every sensor of the device
+	 */
+	public void putSensors(String deviceId, double[][] sensors) {
+		putSensors(deviceId, sensors, null);
+	}
+
+	/**
+	 * Replaces the sensor readings of a device, including the texts of the readings that are not numeric.
+	 *
+	 * @param deviceId id of the device
+	 * @param sensors readings of every sensor of the device
+	 * @param texts texts of the readings that are not numeric, per sensor; null, or a null row, when all readings are numeric
+	 */
+	public void putSensors(String deviceId, double[][] sensors, String[][] texts) {
+		double[] values = new double[sensors.length * SENSOR_FIELDS];
+		String[] overflow = null;
+		for (int i = 0; i < sensors.length; i++) {
+			System.arraycopy(sensors[i], 0, values, i * SENSOR_FIELDS, SENSOR_FIELDS);
+			for (int field = 0; texts != null && texts[i] != null && field < SENSOR_FIELDS; field++) {
+				if (texts[i][field] != null) {
+					if (overflow == null) {
+						overflow = new String[values.length];
+					}
+					overflow[i * SENSOR_FIELDS + field] = texts[i][field];
+				}
+			}
+		}
+		lock.writeLock().lock();
+		try {
+			int ordinal = register(deviceId);
+			versions[ordinal]++;
+			sensorValues[ordinal] = values;
+			if (overflow != null) {
+				sensorOverflow.put(ordinal, overflow);
+			} else {
+				sensorOverflow.remove(ordinal);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the ordinals of the room pair of a device, must be called under the lock
+	 */
+	private List<Integer> getRoomOrdinals(int ordinal) {
+		List<Integer> members = roomMembers.get(roomColumn.getCode(ordinal));
+		return members != null ? members : Collections.singletonList(ordinal);
+	}
+
+	/**
+	 * Moves a device between room pairs after its room id changed, must be called under the write lock
+	 */
+	private void moveRoomMember(int ordinal, int previousRoom, int room) {
+		if (previousRoom != 0) {
+			List<Integer> members = roomMembers.get(previousRoom);
+			if (members != null) {
+				members.remove(Integer.valueOf(ordinal));
+				if (members.isEmpty()) {
+					roomMembers.remove(previousRoom);
+				}
+			}
+		}
+		if (room != 0) {
+			List<Integer> members = roomMembers.computeIfAbsent(room, code -> new ArrayList<>(2));
+			int index = Collections.binarySearch(members, ordinal);
+			members.add(-index - 1, ordinal);
+		}
+	}
+
+	/**
+	 * Drops the dictionary entries no device refers to anymore, once the dictionary doubled since the last compaction.
+	 * Must be called under the write lock.
+	 */
+	private void compactDictionaryIfNeeded() {
+		if (dictionary.size() <= dictionaryCompactionSize) {
+			return;
+		}
+		boolean[] used = new boolean[dictionary.size() + 1];
+		for (Column column : getDictionaryColumns()) {
+			((DictionaryColumn) column).markUsed(used, deviceIds.size());
+		}
+		int[] newCodes = dictionary.compact(used);
+		for (Column column : getDictionaryColumns()) {
+			((DictionaryColumn) column).recode(newCodes, deviceIds.size());
+		}
+		Map<Integer, List<Integer>> members = new HashMap<>(roomMembers);
+		roomMembers.clear();
+		members.forEach((room, ordinalsOfRoom) -> roomMembers.put(newCodes[room], ordinalsOfRoom));
+		dictionaryCompactionSize = Math.max(MIN_DICTIONARY_COMPACTION_SIZE, 2 * dictionary.size());
+	}
+
+	/**
+	 * Retrieves the dictionary-encoded columns
+	 */
+	private List<Column> getDictionaryColumns() {
+		List<Column> columns = new ArrayList<>();
+		for (Column column : infoColumns) {
+			if (column instanceof DictionaryColumn) {
+				columns.add(column);
+			}
+		}
+		for (Column column : settingsColumns) {
+			if (column instanceof DictionaryColumn) {
+				columns.add(column);
+			}
+		}
+		return columns;
+	}
+
+	/**
+	 * Retrieves a device information value
+	 *
+	 * @param ordinal ordinal of the device
+	 * @param item property to read
+	 * @return value of the property, or null if absent
+	 */
+	public String getInfo(int ordinal, DeviceInfo item) {
+		lock.readLock().lock();
+		try {
+			return isValid(ordinal) ? infoColumns[item.ordinal()].get(ordinal) : null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves a device setting value
+	 *
+	 * @param ordinal ordinal of the device
+	 * @param item property to read
+	 * @return value of the property, or null if absent
+	 */
+	public String getSetting(int ordinal, DeviceSettings item) {
+		lock.readLock().lock();
+		try {
+			return isValid(ordinal) ? settingsColumns[item.ordinal()].get(ordinal) : null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of sensors reported by a device
+	 *
+	 * @param ordinal ordinal of the device
+	 * @return number of sensors, 0 if the device never reported sensor data
+	 */
+	public int getSensorCount(int ordinal) {
+		lock.readLock().lock();
+		try {
+			return isValid(ordinal) && sensorValues[ordinal] != null ? sensorValues[ordinal].length / SENSOR_FIELDS : 0;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves a sensor reading of a device
+	 *
+	 * @param ordinal ordinal of the device
+	 * @param sensorIndex zero based index of the sensor
+	 * @param item reading to retrieve
+	 * @return value of the reading, or {@link Double#NaN} if absent
+	 */
+	public double getSensorValue(int ordinal, int sensorIndex, DeviceSensor item) {
+		lock.readLock().lock();
+		try {
+			if (!isValid(ordinal) || sensorValues[ordinal] == null) {
+				return Double.NaN;
+			}
+			int index = sensorIndex * SENSOR_FIELDS + item.ordinal();
+			return index < sensorValues[ordinal].length ? sensorValues[ordinal][index] : Double.NaN;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the text of a sensor reading that is not numeric
+	 *
+	 * @param ordinal ordinal of the device
+	 * @param sensorIndex zero based index of the sensor
+	 * @param item reading to retrieve
+	 * @return JSON text of the reading, or null if the reading is numeric or absent
+	 */
+	public String getSensorText(int ordinal, int sensorIndex, DeviceSensor item) {
+		lock.readLock().lock();
+		try {
+			String[] overflow = sensorOverflow.get(ordinal);
+			int index = sensorIndex * SENSOR_FIELDS + item.ordinal();
+			return overflow != null && index < overflow.length ? overflow[index] : null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all devices and resets the dictionary
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			ordinals.clear();
+			deviceIds.clear();
+			dictionary.clear();
+			for (Column column : infoColumns) {
+				column.clear();
+			}
+			for (Column column : settingsColumns) {
+				column.clear();
+			}
+			Arrays.fill(sensorValues, null);
+			sensorOverflow.clear();
+			Arrays.fill(versions, 0L);
+			roomMembers.clear();
+			dictionaryCompactionSize = MIN_DICTIONARY_COMPACTION_SIZE;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the ordinal refers to a registered device, must be called under the lock
+	 */
+	private boolean isValid(int ordinal) {
+		return ordinal >= 0 && ordinal < deviceIds.size();
+	}
+
+	/**
+	 * Retrieves the ordinal of a device, assigning a new one when needed. Must be called under the write lock.
+	 *
+	 * @param deviceId id of the device
+	 * @return ordinal of the device
+	 */
+	private int register(String deviceId) {
+		Integer ordinal = ordinals.get(deviceId);
+		if (ordinal != null) {
+			return ordinal;
+		}
+		int newOrdinal = deviceIds.size();
+		if (newOrdinal == capacity) {
+			capacity *= 2;
+			for (Column column : infoColumns) {
+				column.grow(capacity);
+			}
+			for (Column column : settingsColumns) {
+				column.grow(capacity);
+			}
+			sensorValues = Arrays.copyOf(sensorValues, capacity);
+			versions = Arrays.copyOf(versions, capacity);
+		}
+		ordinals.put(deviceId, newOrdinal);
+		deviceIds.add(deviceId);
+		return newOrdinal;
+	}
+
+	/**
+	 * Dictionary shared by all dictionary-encoded columns. Code 0 is reserved for absent values.
+	 */
+	private static class StringDictionary {
+		private final Map<String, Integer> codes = new HashMap<>();
+		private final List<String> values = new ArrayList<>(Collections.singletonList(null));
+
+		int encode(String value) {
+			Integer code = codes.get(value);
+			if (code == null) {
+				code = values.size();
+				codes.put(value, code);
+				values.add(value);
+			}
+			return code;
+		}
+
+		String decode(int code) {
+			return values.get(code);
+		}
+
+		int size() {
+			return values.size() - 1;
+		}
+
+		/**
+		 * Keeps the entries marked as used, in code order
+		 *
+		 * @param used used flags indexed by code
+		 * @return new codes indexed by the old codes, 0 for dropped entries
+		 */
+		int[] compact(boolean[] used) {
+			int[] newCodes = new int[values.size()];
+			List<String> kept = new ArrayList<>(Collections.singletonList(null));
+			codes.clear();
+			for (int code = 1; code < values.size(); code++) {
+				if (used[code]) {
+					newCodes[code] = kept.size();
+					codes.put(values.get(code), kept.size());
+					kept.add(values.get(code));
+				}
+			}
+			values.clear();
+			values.addAll(kept);
+			return newCodes;
+		}
+
+		void clear() {
+			codes.clear();
+			values.subList(1, values.size()).clear();
+		}
+	}
+
+	/**
+	 * Storage of a single property for all devices
+	 */
+	private abstract static class Column {
+		/**
+		 * Values that do not fit the column type, normally empty
+		 */
+		final Map<Integer, String> overflow = new HashMap<>();
+
+		void set(int ordinal, String value) {
+			overflow.remove(ordinal);
+			if (StringUtils.isNullOrEmpty(value)) {
+				clearValue(ordinal);
+			} else if (!setValue(ordinal, value)) {
+				clearValue(ordinal);
+				overflow.put(ordinal, value);
+			}
+		}
+
+		String get(int ordinal) {
+			String value = getValue(ordinal);
+			return value != null ? value : overflow.get(ordinal);
+		}
+
+		void clear() {
+			overflow.clear();
+		}
+
+		abstract boolean setValue(int ordinal, String value);
+
+		abstract void clearValue(int ordinal);
+
+		abstract String getValue(int ordinal);
+
+		abstract void grow(int capacity);
+	}
+
+	/**
+	 * Boolean column packed into two bitsets: presence and value
+	 */
+	private static class BooleanColumn extends Column {
+		private final BitSet present = new BitSet();
+		private final BitSet values = new BitSet();
+
+		@Override
+		boolean setValue(int ordinal, String value) {
+			if (!NeatPulseConstant.TRUE.equalsIgnoreCase(value) && !NeatPulseConstant.FALSE.equalsIgnoreCase(value)) {
+				return false;
+			}
+			present.set(ordinal);
+			values.set(ordinal, NeatPulseConstant.TRUE.equalsIgnoreCase(value));
+			return true;
+		}
+
+		@Override
+		void clearValue(int ordinal) {
+			present.clear(ordinal);
+			values.clear(ordinal);
+		}
+
+		@Override
+		String getValue(int ordinal) {
+			if (!present.get(ordinal)) {
+				return null;
+			}
+			return values.get(ordinal) ? NeatPulseConstant.TRUE : NeatPulseConstant.FALSE;
+		}
+
+		@Override
+		void grow(int capacity) {
+			// bitsets grow on demand
+		}
+
+		@Override
+		void clear() {
+			super.clear();
+			present.clear();
+			values.clear();
+		}
+	}
+
+	/**
+	 * Numeric column backed by a float array, {@link Float#NaN} marks an absent value
+	 */
+	private static class NumberColumn extends Column {
+		private float[] values;
+
+		NumberColumn(int capacity) {
+			values = new float[capacity];
+			Arrays.fill(values, Float.NaN);
+		}
+
+		@Override
+		boolean setValue(int ordinal, String value) {
+			try {
+				values[ordinal] = Float.parseFloat(value);
+				return !Float.isNaN(values[ordinal]);
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+
+		@Override
+		void clearValue(int ordinal) {
+			values[ordinal] = Float.NaN;
+		}
+
+		@Override
+		String getValue(int ordinal) {
+			return Float.isNaN(values[ordinal]) ? null : String.valueOf(values[ordinal]);
+		}
+
+		@Override
+		void grow(int capacity) {
+			int oldCapacity = values.length;
+			values = Arrays.copyOf(values, capacity);
+			Arrays.fill(values, oldCapacity, capacity, Float.NaN);
+		}
+
+		@Override
+		void clear() {
+			super.clear();
+			Arrays.fill(values, Float.NaN);
+		}
+	}
+
+	/**
+	 * ISO-8601 timestamp column backed by epoch milliseconds, {@link Long#MIN_VALUE} marks an absent value
+	 */
+	private static class InstantColumn extends Column {
+		private long[] values;
+
+		InstantColumn(int capacity) {
+			values = new long[capacity];
+			Arrays.fill(values, Long.MIN_VALUE);
+		}
+
+		@Override
+		boolean setValue(int ordinal, String value) {
+			try {
+				values[ordinal] = Instant.parse(value).toEpochMilli();
+				return true;
+			} catch (Exception e) {
+				return false;
+			}
+		}
+
+		@Override
+		void clearValue(int ordinal) {
+			values[ordinal] = Long.MIN_VALUE;
+		}
+
+		@Override
+		String getValue(int ordinal) {
+			return values[ordinal] == Long.MIN_VALUE ? null : Instant.ofEpochMilli(values[ordinal]).toString();
+		}
+
+		@Override
+		void grow(int capacity) {
+			int oldCapacity = values.length;
+			values = Arrays.copyOf(values, capacity);
+			Arrays.fill(values, oldCapacity, capacity, Long.MIN_VALUE);
+		}
+
+		@Override
+		void clear() {
+			super.clear();
+			Arrays.fill(values, Long.MIN_VALUE);
+		}
+	}
+
+	/**
+	 * Dictionary-encoded column for low-cardinality strings
+	 */
+	private static class DictionaryColumn extends Column {
+		private final StringDictionary dictionary;
+		private int[] codes;
+
+		DictionaryColumn(StringDictionary dictionary, int capacity) {
+			this.dictionary = dictionary;
+			this.codes = new int[capacity];
+		}
+
+		@Override
+		boolean setValue(int ordinal, String value) {
+			codes[ordinal] = dictionary.encode(value);
+			return true;
+		}
+
+		@Override
+		void clearValue(int ordinal) {
+			codes[ordinal] = 0;
+		}
+
+		int getCode(int ordinal) {
+			return codes[ordinal];
+		}
+
+		void markUsed(boolean[] used, int size) {
+			for (int ordinal = 0; ordinal < size; ordinal++) {
+				used[codes[ordinal]] = true;
+			}
+		}
+
+		void recode(int[] newCodes, int size) {
+			for (int ordinal = 0; ordinal < size; ordinal++) {
+				codes[ordinal] = newCodes[codes[ordinal]];
+			}
+		}
+
+		@Override
+		String getValue(int ordinal) {
+			return dictionary.decode(codes[ordinal]);
+		}
+
+		@Override
+		void grow(int capacity) {
+			codes = Arrays.copyOf(codes, capacity);
+		}
+
+		@Override
+		void clear() {
+			super.clear();
+			Arrays.fill(codes, 0);
+		}
+	}
+
+	/**
+	 * Plain string column for high-cardinality values
+	 */
+	private static class TextColumn extends Column {
+		private String[] values;
+
+		TextColumn(int capacity) {
+			values = new String[capacity];
+		}
+
+		@Override
+		boolean setValue(int ordinal, String value) {
+			values[ordinal] = value;
+			return true;
+		}
+
+		@Override
+		void clearValue(int ordinal) {
+			values[ordinal] = null;
+		}
+
+		@Override
+		String getValue(int ordinal) {
+			return values[ordinal];
+		}
+
+		@Override
+		void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		void clear() {
+			super.clear();
+			Arrays.fill(values, null);
+		}
+	}
+}
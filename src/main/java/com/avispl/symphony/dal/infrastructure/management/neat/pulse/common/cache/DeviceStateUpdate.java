@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * Immutable result of a poll or control action, waiting to be applied to the {@link DeviceStateStore}.
+ * Producers hand over ownership of the arrays they pass in and must not modify them afterwards.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class DeviceStateUpdate {
+	/**
+	 * Kind of update
+	 */
+	public enum Type {
+		INFO, SETTINGS, SENSORS, ROOM_SETTING, ROOM_SETTINGS
+	}
+
+	private final Type type;
+	private final String deviceId;
+	private final String[] values;
+	private final double[][] sensors;
+	private final String[][] sensorTexts;
+	private final DeviceSettings setting;
+
+	private DeviceStateUpdate(Type type, String deviceId, String[] values, double[][] sensors, String[][] sensorTexts, DeviceSettings setting) {
+		this.type = type;
+		this.deviceId = deviceId;
+		this.values = values;
+		this.sensors = sensors;
+		this.sensorTexts = sensorTexts;
+		this.setting = setting;
+	}
+
+	/**
+	 * Creates an update replacing all device information values
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceInfo#ordinal()}
+	 * @return the update
+	 */
+	public static DeviceStateUpdate info(String deviceId, String[] values) {
+		return new DeviceStateUpdate(Type.INFO, deviceId, values, null, null, null);
+	}
+
+	/**
+	 * Creates an update replacing all device settings values
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceSettings#ordinal()}
+	 * @return the update
+	 */
+	public static DeviceStateUpdate settings(String deviceId, String[] values) {
+		return new DeviceStateUpdate(Type.SETTINGS, deviceId, values, null, null, null);
+	}
+
+	/**
+	 * Creates an update replacing the sensor readings of a device
+	 *
+	 * @param deviceId id of the device
+	 * @param sensors readings of every sensor, indexed by {@link DeviceSensor#ordinal()}
+	 * @return the update
+	 */
+	public static DeviceStateUpdate sensors(String deviceId, double[][] sensors) {
+		return sensors(deviceId, sensors, null);
+	}
+
+	/**
+	 * Creates an update replacing the sensor readings of a device, some of which are not numeric
+	 *
+	 * @param deviceId id of the device
+	 * @param sensors readings of every sensor, indexed by {@link DeviceSensor#ordinal()}
+	 * @param sensorTexts texts of the readings that are not numeric, null when all readings are numeric
+	 * @return the update
+	 */
+	public static DeviceStateUpdate sensors(String deviceId, double[][] sensors, String[][] sensorTexts) {
+		return new DeviceStateUpdate(Type.SENSORS, deviceId, null, sensors, sensorTexts, null);
+	}
+
+	/**
+	 * Creates an update writing a setting of a device, and of the other devices of its room when the setting is room-level
+	 *
+	 * @param deviceId id of the device
+	 * @param setting setting to write
+	 * @param value new value
+	 * @return the update
+	 */
+	public static DeviceStateUpdate roomSetting(String deviceId, DeviceSettings setting, String value) {
+		return new DeviceStateUpdate(Type.ROOM_SETTING, deviceId, new String[] { value }, null, null, setting);
+	}
+
+	/**
+	 * Creates an update replacing all settings values of a device, and the room-level values of the other devices of its room
+	 *
+	 * @param deviceId id of the device
+	 * @param values values indexed by {@link DeviceSettings#ordinal()}
+	 * @return the update
+	 */
+	public static DeviceStateUpdate roomSettings(String deviceId, String[] values) {
+		return new DeviceStateUpdate(Type.ROOM_SETTINGS, deviceId, values, null, null, null);
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #deviceId}
+	 *
+	 * @return value of {@link #deviceId}
+	 */
+	public String getDeviceId() {
+		return deviceId;
+	}
+
+	/**
+	 * Applies the update to the store
+	 *
+	 * @param store the store to write
+	 */
+	void applyTo(DeviceStateStore store) {
+		switch (type) {
+			case INFO:
+				store.putInfo(deviceId, values);
+				break;
+			case SETTINGS:
+				store.putSettings(deviceId, values);
+				break;
+			case SENSORS:
+				store.putSensors(deviceId, sensors, sensorTexts);
+				break;
+			case ROOM_SETTING:
+				store.putRoomSetting(deviceId, setting, values[0]);
+				break;
+			case ROOM_SETTINGS:
+				store.putRoomSettings(deviceId, values);
+				break;
+			default:
+				break;
+		}
+	}
+}
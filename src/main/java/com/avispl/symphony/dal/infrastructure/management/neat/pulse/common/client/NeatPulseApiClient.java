@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+
+/**
+ * NeatPulseApiClient
+ * Access to the Neat Pulse API commands of the organization the communicator is logged into, separated from the
+ * communicator so that polling, caching and mapping can run against other transports: async, batched or in-memory fakes.
+ * <p>
+ * Implementations are called concurrently from the polling threads and the control threads.
+ * Failures are reported the way the REST implementation reports them, as the communicator relies on them:
+ * {@link javax.security.auth.login.FailedLoginException} when the API key is rejected,
+ * {@link com.avispl.symphony.api.dal.error.CommandFailureException} when the API answers with an error status,
+ * {@link com.avispl.symphony.api.dal.error.ResourceNotReachableException} when the API can't be reached.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface NeatPulseApiClient {
+
+	/**
+	 * Retrieves the ids of the endpoints of the organization
+	 *
+	 * @return the endpoint ids, or null if the response has no endpoint list
+	 * @throws Exception if the request failed
+	 */
+	List<String> getEndpointIds() throws Exception;
+
+	/**
+	 * Retrieves the number of rooms of the organization
+	 *
+	 * @return the number of rooms, or null if the response has no room list
+	 * @throws Exception if the request failed
+	 */
+	Integer getRoomCount() throws Exception;
+
+	/**
+	 * Retrieves the info of an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the info, or null if the response is empty
+	 * @throws Exception if the request failed
+	 */
+	DeviceInfoResponse getDeviceInfo(String deviceId) throws Exception;
+
+	/**
+	 * Retrieves the info of an endpoint for the polling, unless it did not change since the last info this method returned
+	 * for the endpoint. Clients without change detection retrieve it in full.
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the info, or null if the response is empty or unchanged
+	 * @throws Exception if the request failed
+	 */
+	default DeviceInfoResponse getDeviceInfoIfChanged(String deviceId) throws Exception {
+		return getDeviceInfo(deviceId);
+	}
+
+	/**
+	 * Retrieves the sensor readings of an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the response, readings are in {@code endpointData.data}, or null if the response is empty
+	 * @throws Exception if the request failed, a CommandFailureException if the endpoint has no sensor
+	 */
+	JsonNode getDeviceSensor(String deviceId) throws Exception;
+
+	/**
+	 * Retrieves the config of an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the config, or null if the response is empty
+	 * @throws Exception if the request failed
+	 */
+	DeviceSettingsResponse getDeviceSettings(String deviceId) throws Exception;
+
+	/**
+	 * Retrieves the config of an endpoint for the polling, unless it did not change since the last config this method returned
+	 * for the endpoint. Clients without change detection retrieve it in full.
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the config, or null if the response is empty or unchanged
+	 * @throws Exception if the request failed
+	 */
+	default DeviceSettingsResponse getDeviceSettingsIfChanged(String deviceId) throws Exception {
+		return getDeviceSettings(deviceId);
+	}
+
+	/**
+	 * Writes config fields of an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @param fields the config fields to write
+	 * @return the response, the resulting config is in {@code config}, or null if the response is empty
+	 * @throws Exception if the request failed
+	 */
+	JsonNode postDeviceConfig(String deviceId, Map<String, Object> fields) throws Exception;
+
+	/**
+	 * Reboots an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return the response, holding {@code status} and {@code message} when the reboot is refused, or null if the response is empty
+	 * @throws Exception if the request failed
+	 */
+	JsonNode rebootDevice(String deviceId) throws Exception;
+}
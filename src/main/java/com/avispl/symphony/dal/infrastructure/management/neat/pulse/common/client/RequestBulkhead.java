@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Priority bulkhead in front of the Neat Pulse API.
+ * All lanes share a budget of concurrent requests, part of which is reserved for the higher priority lanes:
+ * the sweep can never take the permits reserved for interactive control and targeted refreshes, and a freed permit
+ * goes to a waiting request of the highest priority lane able to use it.
+ * <p>
+ * The lane of a request is the lane of the calling thread, set with {@link #callInLane(RequestLane, Callable)},
+ * and defaults to {@link RequestLane#SWEEP}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestBulkhead {
+	private static final RequestLane[] LANES = RequestLane.values();
+
+	private final ThreadLocal<RequestLane> currentLane = ThreadLocal.withInitial(() -> RequestLane.SWEEP);
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition permitReleased = lock.newCondition();
+	private final int[] inFlight = new int[LANES.length];
+	private final int[] waiting = new int[LANES.length];
+	private final int[] capacity = new int[LANES.length];
+	private final long[] requests = new long[LANES.length];
+	private final long[] windowRequests = new long[LANES.length];
+	private final long[] windowWaitNanos = new long[LANES.length];
+	private final long[] windowMaxWaitNanos = new long[LANES.length];
+
+	/**
+	 * Constructor for RequestBulkhead.
+	 *
+	 * @param sweepConcurrency concurrent requests available to the sweep
+	 * @param reservedInteractive concurrent requests reserved for interactive control
+	 * @param reservedRefresh concurrent requests reserved for targeted refreshes
+	 */
+	public RequestBulkhead(int sweepConcurrency, int reservedInteractive, int reservedRefresh) {
+		capacity[RequestLane.SWEEP.ordinal()] = sweepConcurrency;
+		capacity[RequestLane.REFRESH.ordinal()] = sweepConcurrency + reservedRefresh;
+		capacity[RequestLane.INTERACTIVE.ordinal()] = sweepConcurrency + reservedRefresh + reservedInteractive;
+	}
+
+	/**
+	 * Runs an action with the calling thread assigned to a lane, every request it sends goes through that lane
+	 *
+	 * @param lane the lane
+	 * @param action the action
+	 * @param <T> type of the result
+	 * @return result of the action
+	 * @throws Exception if the action failed
+	 */
+	public <T> T callInLane(RequestLane lane, Callable<T> action) throws Exception {
+		RequestLane previous = currentLane.get();
+		currentLane.set(lane);
+		try {
+			return action.call();
+		} finally {
+			currentLane.set(previous);
+		}
+	}
+
+	/**
+	 * Sends a request in the lane of the calling thread, waiting for a permit first
+	 *
+	 * @param request the request
+	 * @param <T> type of the response
+	 * @return the response
+	 * @throws Exception if the request failed or the thread was interrupted while waiting
+	 */
+	public <T> T execute(Callable<T> request) throws Exception {
+		RequestLane lane = currentLane.get();
+		acquire(lane);
+		try {
+			return request.call();
+		} finally {
+			release(lane);
+		}
+	}
+
+	/**
+	 * Adds the queue wait of every lane since the previous call to the statistics, and starts a new window
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		lock.lock();
+		try {
+			for (RequestLane lane : LANES) {
+				int i = lane.ordinal();
+				long average = windowRequests[i] == 0 ? 0 : windowWaitNanos[i] / windowRequests[i];
+				stats.put(group + lane.getName() + "Requests", String.valueOf(requests[i]));
+				stats.put(group + lane.getName() + "InFlight", String.valueOf(inFlight[i]));
+				stats.put(group + lane.getName() + "AvgQueueWait(ms)", String.valueOf(TimeUnit.NANOSECONDS.toMillis(average)));
+				stats.put(group + lane.getName() + "MaxQueueWait(ms)", String.valueOf(TimeUnit.NANOSECONDS.toMillis(windowMaxWaitNanos[i])));
+				windowRequests[i] = 0;
+				windowWaitNanos[i] = 0;
+				windowMaxWaitNanos[i] = 0;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void acquire(RequestLane lane) throws InterruptedException {
+		int i = lane.ordinal();
+		long start = System.nanoTime();
+		lock.lock();
+		try {
+			waiting[i]++;
+			try {
+				while (!canAcquire(i) || higherPriorityWaiting(i)) {
+					permitReleased.await();
+				}
+			} finally {
+				waiting[i]--;
+			}
+			inFlight[i]++;
+			long waited = System.nanoTime() - start;
+			requests[i]++;
+			windowRequests[i]++;
+			windowWaitNanos[i] += waited;
+			windowMaxWaitNanos[i] = Math.max(windowMaxWaitNanos[i], waited);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(RequestLane lane) {
+		lock.lock();
+		try {
+			inFlight[lane.ordinal()]--;
+			permitReleased.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Checks the budget: the requests of a lane and of all lower priority lanes must fit in the capacity of the lane.
+	 * Must be called under the lock.
+	 */
+	private boolean canAcquire(int lane) {
+		for (int k = 0; k <= lane; k++) {
+			int used = 0;
+			for (int j = k; j < LANES.length; j++) {
+				used += inFlight[j];
+			}
+			if (used >= capacity[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether a higher priority lane has a waiting request that could take the next permit. Must be called under the lock.
+	 */
+	private boolean higherPriorityWaiting(int lane) {
+		for (int p = 0; p < lane; p++) {
+			if (waiting[p] > 0 && canAcquire(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+/**
+ * Lanes of the Neat Pulse API traffic, in priority order
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum RequestLane {
+	INTERACTIVE("Interactive"),
+	REFRESH("TargetedRefresh"),
+	SWEEP("Sweep"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor for RequestLane.
+	 *
+	 * @param name The name of the lane in statistics.
+	 */
+	RequestLane(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
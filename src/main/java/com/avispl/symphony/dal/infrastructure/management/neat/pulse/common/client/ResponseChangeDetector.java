@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+
+/**
+ * Remembers, per device and endpoint class, the validators and the body hash of the last response applied to the cache,
+ * so that the polling can send conditional requests and skip the parsing and cache writes of responses that did not change.
+ * <p>
+ * The entity tag and last modification time are sent back as {@code If-None-Match} and {@code If-Modified-Since} when the API
+ * returned them; whatever the API does with them, the body of a full response is hashed and compared to the previous one.
+ * An entry describes what the cache holds: it must be reset whenever the cache of the device is written from anything else
+ * than the response it was recorded for.
+ * <p>
+ * Counters are cumulative since the last {@link #clear()}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ResponseChangeDetector {
+	private static final EndpointClass[] CLASSES = EndpointClass.values();
+	private static final int REQUESTS = 0;
+	private static final int NOT_MODIFIED = 1;
+	private static final int UNCHANGED = 2;
+	private static final int COUNTERS = 3;
+
+	private final Map<String, Entry>[] entries;
+	private final AtomicLongArray counters = new AtomicLongArray(CLASSES.length * COUNTERS);
+
+	/**
+	 * ResponseChangeDetector constructor
+	 */
+	@SuppressWarnings("unchecked")
+	public ResponseChangeDetector() {
+		entries = new Map[CLASSES.length];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * Retrieves the entity tag of the last response recorded for a device
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 * @return the entity tag, or null if none
+	 */
+	public String getEntityTag(String deviceId, EndpointClass endpointClass) {
+		Entry entry = entries[endpointClass.ordinal()].get(deviceId);
+		return entry == null ? null : entry.entityTag;
+	}
+
+	/**
+	 * Retrieves the last modification time of the last response recorded for a device
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 * @return time in milliseconds, or -1 if none
+	 */
+	public long getLastModified(String deviceId, EndpointClass endpointClass) {
+		Entry entry = entries[endpointClass.ordinal()].get(deviceId);
+		return entry == null ? -1 : entry.lastModified;
+	}
+
+	/**
+	 * Counts a response that was not modified according to its validators
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 * @return true if a response was recorded for the device, so the cache holds it; false if it must be fetched in full
+	 */
+	public boolean recordNotModified(String deviceId, EndpointClass endpointClass) {
+		increment(endpointClass, REQUESTS);
+		if (!entries[endpointClass.ordinal()].containsKey(deviceId)) {
+			return false;
+		}
+		increment(endpointClass, NOT_MODIFIED);
+		return true;
+	}
+
+	/**
+	 * Counts a full response and checks whether its body is the one of the last response recorded for the device
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 * @param bodyHash hash of the response body
+	 * @return true if the body did not change
+	 */
+	public boolean isUnchanged(String deviceId, EndpointClass endpointClass, long bodyHash) {
+		increment(endpointClass, REQUESTS);
+		Entry entry = entries[endpointClass.ordinal()].get(deviceId);
+		if (entry == null || entry.bodyHash != bodyHash) {
+			return false;
+		}
+		increment(endpointClass, UNCHANGED);
+		return true;
+	}
+
+	/**
+	 * Records a response applied to the cache
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 * @param entityTag entity tag of the response, or null
+	 * @param lastModified last modification time of the response in milliseconds, or -1
+	 * @param bodyHash hash of the response body
+	 */
+	public void record(String deviceId, EndpointClass endpointClass, String entityTag, long lastModified, long bodyHash) {
+		entries[endpointClass.ordinal()].put(deviceId, new Entry(entityTag, lastModified, bodyHash));
+	}
+
+	/**
+	 * Forgets the last response of a device, its next response is applied in full
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the endpoint class
+	 */
+	public void reset(String deviceId, EndpointClass endpointClass) {
+		entries[endpointClass.ordinal()].remove(deviceId);
+	}
+
+	/**
+	 * Forgets the devices that are no longer part of the organization
+	 *
+	 * @param liveDevices ids of the devices in the organization
+	 */
+	public void retain(Collection<String> liveDevices) {
+		Set<String> live = liveDevices instanceof Set ? (Set<String>) liveDevices : new HashSet<>(liveDevices);
+		for (Map<String, Entry> classEntries : entries) {
+			classEntries.keySet().retainAll(live);
+		}
+	}
+
+	/**
+	 * Forgets every response and resets the counters
+	 */
+	public void clear() {
+		for (Map<String, Entry> classEntries : entries) {
+			classEntries.clear();
+		}
+		for (int i = 0; i < counters.length(); i++) {
+			counters.set(i, 0);
+		}
+	}
+
+	/**
+	 * Adds the requests, the responses not modified, the unchanged bodies and the hit ratio of every endpoint class to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		for (EndpointClass endpointClass : CLASSES) {
+			int offset = endpointClass.ordinal() * COUNTERS;
+			long requests = counters.get(offset + REQUESTS);
+			long notModified = counters.get(offset + NOT_MODIFIED);
+			long unchanged = counters.get(offset + UNCHANGED);
+			if (requests == 0 && entries[endpointClass.ordinal()].isEmpty()) {
+				continue;
+			}
+			stats.put(group + endpointClass.getName() + "Requests", String.valueOf(requests));
+			stats.put(group + endpointClass.getName() + "NotModified", String.valueOf(notModified));
+			stats.put(group + endpointClass.getName() + "UnchangedBodies", String.valueOf(unchanged));
+			stats.put(group + endpointClass.getName() + "HitRatio(%)", String.valueOf(requests == 0 ? 0 : Math.round((notModified + unchanged) * 1000.0 / requests) / 10.0));
+		}
+	}
+
+	/**
+	 * Increments a counter of an endpoint class
+	 */
+	private void increment(EndpointClass endpointClass, int counter) {
+		counters.incrementAndGet(endpointClass.ordinal() * COUNTERS + counter);
+	}
+
+	/**
+	 * Validators and body hash of the last response of a device
+	 */
+	private static final class Entry {
+		private final String entityTag;
+		private final long lastModified;
+		private final long bodyHash;
+
+		Entry(String entityTag, long lastModified, long bodyHash) {
+			this.entityTag = entityTag;
+			this.lastModified = lastModified;
+			this.bodyHash = bodyHash;
+		}
+	}
+}
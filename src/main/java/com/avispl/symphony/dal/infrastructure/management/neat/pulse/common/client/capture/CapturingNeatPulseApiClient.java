@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.security.auth.login.FailedLoginException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * CapturingNeatPulseApiClient
+ * {@link NeatPulseApiClient} recording every call of another client to a capture file, for {@link ReplayNeatPulseApiClient}
+ * to serve it back later. A record holds the request path, the status, the latency and, as body, the JSON of what the client
+ * read from the response: the endpoint ids, the room count, the mapped fields of the info and config, the sensor readings
+ * and the control responses, or the body of the error response. Unmapped fields are not kept, which keeps captures small.
+ * The polling requests keep the change detection of the delegate, so the captured traffic is the traffic sent without capture;
+ * an info or config the delegate reports unchanged is recorded without body, and replayed as unchanged.
+ * <p>
+ * Capturing never fails a call: the capture stops at the first write error.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CapturingNeatPulseApiClient implements NeatPulseApiClient, Closeable {
+	private static final Log logger = LogFactory.getLog(CapturingNeatPulseApiClient.class);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final NeatPulseApiClient delegate;
+	private final String organizationId;
+	private final TrafficCaptureWriter writer;
+	private volatile boolean capturing = true;
+
+	/**
+	 * CapturingNeatPulseApiClient constructor
+	 *
+	 * @param delegate the client sending the requests
+	 * @param organizationId id of the organization, part of the request paths
+	 * @param writer the capture file
+	 */
+	public CapturingNeatPulseApiClient(NeatPulseApiClient delegate, String organizationId, TrafficCaptureWriter writer) {
+		this.delegate = delegate;
+		this.organizationId = organizationId;
+		this.writer = writer;
+	}
+
+	/**
+	 * Retrieves {@link #delegate}
+	 *
+	 * @return the client sending the requests
+	 */
+	public NeatPulseApiClient getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> getEndpointIds() throws Exception {
+		return capture(false, String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, organizationId), delegate::getEndpointIds, objectMapper::valueToTree);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer getRoomCount() throws Exception {
+		return capture(false, String.format(NeatPulseCommand.ALL_ROOM_COMMAND, organizationId), delegate::getRoomCount, objectMapper::valueToTree);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfo(String deviceId) throws Exception {
+		return capture(false, String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, organizationId, deviceId), () -> delegate.getDeviceInfo(deviceId), this::toJson);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request keeps the change detection of the delegate, an unchanged info is recorded without body.
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfoIfChanged(String deviceId) throws Exception {
+		return capture(false, String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, organizationId, deviceId), () -> delegate.getDeviceInfoIfChanged(deviceId), this::toJson);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode getDeviceSensor(String deviceId) throws Exception {
+		return capture(false, String.format(NeatPulseCommand.GET_DEVICE_SENSOR_COMMAND, organizationId, deviceId), () -> delegate.getDeviceSensor(deviceId), Function.identity());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettings(String deviceId) throws Exception {
+		return capture(false, String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, organizationId, deviceId), () -> delegate.getDeviceSettings(deviceId), this::toJson);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request keeps the change detection of the delegate, an unchanged config is recorded without body.
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettingsIfChanged(String deviceId) throws Exception {
+		return capture(false, String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, organizationId, deviceId), () -> delegate.getDeviceSettingsIfChanged(deviceId),
+				this::toJson);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode postDeviceConfig(String deviceId, Map<String, Object> fields) throws Exception {
+		return capture(true, String.format(NeatPulseCommand.CONTROL_DEVICE, organizationId, deviceId), () -> delegate.postDeviceConfig(deviceId, fields), Function.identity());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode rebootDevice(String deviceId) throws Exception {
+		return capture(true, String.format(NeatPulseCommand.REBOOT_DEVICE, organizationId, deviceId), () -> delegate.rebootDevice(deviceId), Function.identity());
+	}
+
+	/**
+	 * Stops capturing and closes the capture file
+	 *
+	 * @throws IOException if the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		capturing = false;
+		writer.close();
+	}
+
+	/**
+	 * Calls the delegate and records the outcome of the call
+	 *
+	 * @param post true for a POST, false for a GET
+	 * @param path request path, relative to the base url
+	 * @param call the call to the delegate
+	 * @param toJson converts the value read to the recorded body
+	 * @return the value read
+	 * @throws Exception the failure of the call, unchanged
+	 */
+	private <T> T capture(boolean post, String path, Callable<T> call, Function<T, JsonNode> toJson) throws Exception {
+		if (!capturing) {
+			return call.call();
+		}
+		long offsetMillis = System.currentTimeMillis() - writer.getStartMillis();
+		long start = System.nanoTime();
+		T value;
+		try {
+			value = call.call();
+		} catch (Exception e) {
+			long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+			if (e instanceof FailedLoginException) {
+				record(new TrafficRecord(offsetMillis, post, path, 401, latencyMicros, null));
+			} else if (e instanceof CommandFailureException && ((CommandFailureException) e).getStatusCode() > 0) {
+				CommandFailureException failure = (CommandFailureException) e;
+				record(new TrafficRecord(offsetMillis, post, path, failure.getStatusCode(), latencyMicros, failure.getResponse()));
+			} else {
+				record(new TrafficRecord(offsetMillis, post, path, TrafficRecord.STATUS_NOT_REACHED, latencyMicros, e.getMessage()));
+			}
+			throw e;
+		}
+		long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+		String body = value == null ? null : objectMapper.writeValueAsString(toJson.apply(value));
+		record(new TrafficRecord(offsetMillis, post, path, 200, latencyMicros, body));
+		return value;
+	}
+
+	/**
+	 * Writes a record, stopping the capture if it can't be written
+	 */
+	private void record(TrafficRecord record) {
+		try {
+			writer.append(record);
+		} catch (IOException e) {
+			if (capturing) {
+				capturing = false;
+				logger.error("Error when writing the API traffic capture, capture stopped", e);
+			}
+		}
+	}
+
+	/**
+	 * Converts the mapped fields of an info to the recorded body
+	 */
+	private JsonNode toJson(DeviceInfoResponse response) {
+		ObjectNode node = objectMapper.createObjectNode();
+		for (DeviceInfo item : DeviceInfo.values()) {
+			putField(node, item.getValue(), response.getValue(item));
+		}
+		return node;
+	}
+
+	/**
+	 * Converts the mapped fields of a config to the recorded body
+	 */
+	private JsonNode toJson(DeviceSettingsResponse response) {
+		ObjectNode node = objectMapper.createObjectNode();
+		for (DeviceSettings item : DeviceSettings.values()) {
+			putField(node, item.getValue(), response.getValue(item));
+		}
+		return node;
+	}
+
+	/**
+	 * Adds a mapped field to a recorded body, fields without JSON name or value are left out
+	 */
+	private static void putField(ObjectNode node, String fieldName, String value) {
+		if (!fieldName.isEmpty() && value != null) {
+			node.put(fieldName, value);
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.security.auth.login.FailedLoginException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+
+/**
+ * ReplayNeatPulseApiClient
+ * {@link NeatPulseApiClient} serving back a capture of {@link CapturingNeatPulseApiClient}, so that a slow production period
+ * can be rerun against other scheduler or cache code and the throughput and freshness compared on the very same responses.
+ * <p>
+ * Calls are matched on their method and path: each call of a path gets the next response captured for it, in capture order,
+ * and the last one again once they are all served. The calling thread waits for the captured latency divided by the speed,
+ * 1 for the original timing, more to accelerate, {@link Double#POSITIVE_INFINITY} not to wait at all. When calls are sent
+ * stays up to the code under test. Captured errors are thrown the way the REST client throws them, and a path that was
+ * never captured fails with 404.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ReplayNeatPulseApiClient implements NeatPulseApiClient {
+	private static final String HOST = "replay";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, List<TrafficRecord>> responses = new HashMap<>();
+	private final Map<String, AtomicInteger> cursors = new HashMap<>();
+	private final LongAdder replayedCount = new LongAdder();
+	private final LongAdder missedCount = new LongAdder();
+	private final String organizationId;
+	private final double speed;
+
+	/**
+	 * ReplayNeatPulseApiClient constructor
+	 *
+	 * @param records the captured calls
+	 * @param organizationId id of the captured organization, the login of the communicator replaying it
+	 * @param speed factor the captured latencies are divided by
+	 */
+	public ReplayNeatPulseApiClient(List<TrafficRecord> records, String organizationId, double speed) {
+		if (!(speed > 0)) {
+			throw new IllegalArgumentException("The replay speed must be positive");
+		}
+		for (TrafficRecord record : records) {
+			responses.computeIfAbsent(record.getRequestKey(), key -> new ArrayList<>()).add(record);
+		}
+		for (String key : responses.keySet()) {
+			cursors.put(key, new AtomicInteger());
+		}
+		this.organizationId = organizationId;
+		this.speed = speed;
+	}
+
+	/**
+	 * ReplayNeatPulseApiClient constructor reading a capture file
+	 *
+	 * @param path the capture file
+	 * @param organizationId id of the captured organization, the login of the communicator replaying it
+	 * @param speed factor the captured latencies are divided by
+	 * @throws IOException if the file can't be read
+	 */
+	public ReplayNeatPulseApiClient(Path path, String organizationId, double speed) throws IOException {
+		this(TrafficCaptureReader.read(path), organizationId, speed);
+	}
+
+	/**
+	 * Retrieves the number of calls served from the capture
+	 *
+	 * @return number of calls
+	 */
+	public long getReplayedCount() {
+		return replayedCount.sum();
+	}
+
+	/**
+	 * Retrieves the number of calls to paths missing from the capture
+	 *
+	 * @return number of calls
+	 */
+	public long getMissedCount() {
+		return missedCount.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> getEndpointIds() throws Exception {
+		JsonNode body = replay(false, String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, organizationId));
+		return body == null ? null : objectMapper.convertValue(body, new TypeReference<List<String>>() {
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer getRoomCount() throws Exception {
+		JsonNode body = replay(false, String.format(NeatPulseCommand.ALL_ROOM_COMMAND, organizationId));
+		return body == null ? null : body.asInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfo(String deviceId) throws Exception {
+		JsonNode body = replay(false, String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, organizationId, deviceId));
+		return body == null ? null : objectMapper.treeToValue(body, DeviceInfoResponse.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode getDeviceSensor(String deviceId) throws Exception {
+		return replay(false, String.format(NeatPulseCommand.GET_DEVICE_SENSOR_COMMAND, organizationId, deviceId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettings(String deviceId) throws Exception {
+		JsonNode body = replay(false, String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, organizationId, deviceId));
+		return body == null ? null : objectMapper.treeToValue(body, DeviceSettingsResponse.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The fields sent are ignored, the captured response is returned.
+	 */
+	@Override
+	public JsonNode postDeviceConfig(String deviceId, Map<String, Object> fields) throws Exception {
+		return replay(true, String.format(NeatPulseCommand.CONTROL_DEVICE, organizationId, deviceId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode rebootDevice(String deviceId) throws Exception {
+		return replay(true, String.format(NeatPulseCommand.REBOOT_DEVICE, organizationId, deviceId));
+	}
+
+	/**
+	 * Serves the next captured response of a request, after its scaled latency
+	 *
+	 * @param post true for a POST, false for a GET
+	 * @param path request path, relative to the base url
+	 * @return the captured body, null if none
+	 * @throws Exception the captured failure
+	 */
+	private JsonNode replay(boolean post, String path) throws Exception {
+		String key = TrafficRecord.requestKey(post, path);
+		List<TrafficRecord> records = responses.get(key);
+		if (records == null) {
+			missedCount.increment();
+			throw new CommandFailureException(HOST, path, "{\"message\":\"Not captured\"}", 404, null);
+		}
+		TrafficRecord record = records.get(cursors.get(key).getAndUpdate(index -> Math.min(index + 1, records.size() - 1)));
+		replayedCount.increment();
+		long delayMicros = (long) (record.getLatencyMicros() / speed);
+		if (delayMicros > 0) {
+			TimeUnit.MICROSECONDS.sleep(delayMicros);
+		}
+
+		int status = record.getStatus();
+		if (status == TrafficRecord.STATUS_NOT_REACHED) {
+			throw new ResourceNotReachableException("Cannot reach resource at " + path + ": " + record.getBody());
+		}
+		if (status == 401) {
+			throw new FailedLoginException("Invalid authentication credentials for " + path);
+		}
+		if (status >= 300) {
+			throw new CommandFailureException(HOST, path, record.getBody(), status, null);
+		}
+		return record.getBody() == null ? null : objectMapper.readTree(record.getBody());
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * TrafficCaptureReader
+ * Reads the records of a capture file written by {@link TrafficCaptureWriter}. Offsets of later sessions are shifted to be
+ * relative to the start of the first one, and a record truncated by an interrupted capture ends the file.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class TrafficCaptureReader {
+
+	private TrafficCaptureReader() {
+	}
+
+	/**
+	 * Reads every record of a capture file
+	 *
+	 * @param path the capture file
+	 * @return the records in capture order
+	 * @throws IOException if the file can't be read or isn't a capture file
+	 */
+	public static List<TrafficRecord> read(Path path) throws IOException {
+		List<TrafficRecord> records = new ArrayList<>();
+		try (InputStream file = Files.newInputStream(path);
+				DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(file, 8192)))) {
+			long firstStart = -1;
+			long sessionShift = 0;
+			while (true) {
+				int type;
+				try {
+					type = input.read();
+				} catch (EOFException | ZipException e) {
+					break;
+				}
+				if (type < 0) {
+					break;
+				}
+				try {
+					if (type == TrafficCaptureWriter.SESSION) {
+						if (input.readInt() != TrafficCaptureWriter.MAGIC) {
+							throw new IOException("Not a Neat Pulse traffic capture: " + path);
+						}
+						long start = input.readLong();
+						if (firstStart < 0) {
+							firstStart = start;
+						}
+						sessionShift = start - firstStart;
+					} else if (type == TrafficCaptureWriter.RECORD && firstStart >= 0) {
+						records.add(readRecord(input, sessionShift));
+					} else {
+						throw new IOException("Corrupted Neat Pulse traffic capture: " + path);
+					}
+				} catch (EOFException | ZipException e) {
+					break;
+				}
+			}
+		}
+		return records;
+	}
+
+	/**
+	 * Reads the fields of a record, its type being read
+	 */
+	private static TrafficRecord readRecord(DataInputStream input, long sessionShift) throws IOException {
+		long offsetMillis = input.readLong() + sessionShift;
+		boolean post = input.readBoolean();
+		String path = input.readUTF();
+		int status = input.readShort();
+		long latencyMicros = input.readLong();
+		int length = input.readInt();
+		String body = null;
+		if (length >= 0) {
+			byte[] bytes = new byte[length];
+			input.readFully(bytes);
+			body = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return new TrafficRecord(offsetMillis, post, path, status, latencyMicros, body);
+	}
+}
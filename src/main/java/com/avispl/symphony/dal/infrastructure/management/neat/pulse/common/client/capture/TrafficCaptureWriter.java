@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * TrafficCaptureWriter
+ * Appends {@link TrafficRecord records} to a capture file. The file is a sequence of gzip members, one per capture session,
+ * each holding a session header followed by binary records; records are flushed one by one, so a capture interrupted by a
+ * crash loses at most the record being written. Reopening a file appends a new session to it.
+ * <p>
+ * Session header: {@code 'S'}, int {@link #MAGIC}, long start time in milliseconds since the epoch.
+ * Record: {@code 'R'}, long offset in milliseconds since the session start, boolean post, UTF path, short status,
+ * long latency in microseconds, int body length in bytes (-1 for none), UTF-8 body.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficCaptureWriter implements Closeable {
+	static final int MAGIC = 0x4E505443;
+	static final byte SESSION = 'S';
+	static final byte RECORD = 'R';
+
+	private final DataOutputStream output;
+	private final long startMillis;
+
+	/**
+	 * TrafficCaptureWriter constructor, starting a capture session at the end of the file
+	 *
+	 * @param path the capture file, created if missing
+	 * @throws IOException if the file can't be opened
+	 */
+	public TrafficCaptureWriter(Path path) throws IOException {
+		FileOutputStream file = new FileOutputStream(path.toFile(), true);
+		try {
+			this.output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file, 8192, true)));
+			this.startMillis = System.currentTimeMillis();
+			output.writeByte(SESSION);
+			output.writeInt(MAGIC);
+			output.writeLong(startMillis);
+			output.flush();
+		} catch (IOException e) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #startMillis}
+	 *
+	 * @return time the session started in milliseconds since the epoch
+	 */
+	public long getStartMillis() {
+		return startMillis;
+	}
+
+	/**
+	 * Appends a record and flushes it to the file
+	 *
+	 * @param record the call
+	 * @throws IOException if the record can't be written
+	 */
+	public synchronized void append(TrafficRecord record) throws IOException {
+		output.writeByte(RECORD);
+		output.writeLong(record.getOffsetMillis());
+		output.writeBoolean(record.isPost());
+		output.writeUTF(record.getPath());
+		output.writeShort(record.getStatus());
+		output.writeLong(record.getLatencyMicros());
+		if (record.getBody() == null) {
+			output.writeInt(-1);
+		} else {
+			byte[] body = record.getBody().getBytes(StandardCharsets.UTF_8);
+			output.writeInt(body.length);
+			output.write(body);
+		}
+		output.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		output.close();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+/**
+ * TrafficRecord
+ * One captured Neat Pulse API call: when it was sent, what it targeted, how it was answered and how long it took.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficRecord {
+	/**
+	 * Status of a call that never got a response
+	 */
+	public static final int STATUS_NOT_REACHED = 0;
+
+	private final long offsetMillis;
+	private final boolean post;
+	private final String path;
+	private final int status;
+	private final long latencyMicros;
+	private final String body;
+
+	/**
+	 * TrafficRecord constructor
+	 *
+	 * @param offsetMillis time the call was sent, in milliseconds since the capture started
+	 * @param post true for a POST, false for a GET
+	 * @param path request path, relative to the base url
+	 * @param status HTTP status, {@link #STATUS_NOT_REACHED} if the API couldn't be reached
+	 * @param latencyMicros duration of the call in microseconds
+	 * @param body JSON of the value read from the response, or of the error response, null if none
+	 */
+	public TrafficRecord(long offsetMillis, boolean post, String path, int status, long latencyMicros, String body) {
+		this.offsetMillis = offsetMillis;
+		this.post = post;
+		this.path = path;
+		this.status = status;
+		this.latencyMicros = latencyMicros;
+		this.body = body;
+	}
+
+	/**
+	 * Retrieves {@link #offsetMillis}
+	 *
+	 * @return value of {@link #offsetMillis}
+	 */
+	public long getOffsetMillis() {
+		return offsetMillis;
+	}
+
+	/**
+	 * Retrieves {@link #post}
+	 *
+	 * @return value of {@link #post}
+	 */
+	public boolean isPost() {
+		return post;
+	}
+
+	/**
+	 * Retrieves {@link #path}
+	 *
+	 * @return value of {@link #path}
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Retrieves {@link #status}
+	 *
+	 * @return value of {@link #status}
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retrieves {@link #latencyMicros}
+	 *
+	 * @return value of {@link #latencyMicros}
+	 */
+	public long getLatencyMicros() {
+		return latencyMicros;
+	}
+
+	/**
+	 * Retrieves {@link #body}
+	 *
+	 * @return value of {@link #body}
+	 */
+	public String getBody() {
+		return body;
+	}
+
+	/**
+	 * Retrieves the key replayed calls are matched on
+	 *
+	 * @return the method and the path of the request
+	 */
+	public String getRequestKey() {
+		return requestKey(post, path);
+	}
+
+	/**
+	 * Builds the key replayed calls are matched on
+	 *
+	 * @param post true for a POST, false for a GET
+	 * @param path request path, relative to the base url
+	 * @return the method and the path of the request
+	 */
+	static String requestKey(boolean post, String path) {
+		return (post ? "POST " : "GET ") + path;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PollingClock
+ * Source of time and sleeps of the polling scheduler: the collection cadence, the pause after inactivity and the freshness of
+ * the devices. The scheduler runs on {@link #SYSTEM}, a {@link VirtualPollingClock} replays days of polling in seconds.
+ * Request latencies are measured on the real time whatever the clock.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface PollingClock {
+	/**
+	 * Wall clock time and real sleeps
+	 */
+	PollingClock SYSTEM = new PollingClock() {
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public void sleep(long millis) throws InterruptedException {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		}
+	};
+
+	/**
+	 * Retrieves the current time
+	 *
+	 * @return the current time in milliseconds since the epoch
+	 */
+	long currentTimeMillis();
+
+	/**
+	 * Blocks the calling thread until the clock advanced by the given time
+	 *
+	 * @param millis time to sleep in milliseconds
+	 * @throws InterruptedException if the thread is interrupted while sleeping
+	 */
+	void sleep(long millis) throws InterruptedException;
+}
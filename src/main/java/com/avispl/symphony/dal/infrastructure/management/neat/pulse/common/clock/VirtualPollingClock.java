@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * VirtualPollingClock
+ * {@link PollingClock} whose time only moves when it is advanced: sleeping threads wake once the virtual time reaches their
+ * wake-up time, however little real time passed. A driver waits until the scheduler threads are asleep, then advances the time,
+ * so that scheduler policies run over simulated weeks in seconds, deterministically step by step.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class VirtualPollingClock implements PollingClock {
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition advanced = lock.newCondition();
+	private final Condition asleep = lock.newCondition();
+	private final PriorityQueue<Long> wakeUps = new PriorityQueue<>();
+	private volatile long now;
+
+	/**
+	 * VirtualPollingClock constructor
+	 *
+	 * @param startMillis initial time in milliseconds since the epoch
+	 */
+	public VirtualPollingClock(long startMillis) {
+		this.now = startMillis;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long currentTimeMillis() {
+		return now;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The thread blocks until the time is advanced past its wake-up time.
+	 */
+	@Override
+	public void sleep(long millis) throws InterruptedException {
+		if (millis <= 0) {
+			return;
+		}
+		lock.lock();
+		try {
+			Long wakeUp = now + millis;
+			wakeUps.add(wakeUp);
+			asleep.signalAll();
+			try {
+				while (now < wakeUp) {
+					advanced.await();
+				}
+			} finally {
+				wakeUps.remove(wakeUp);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Advances the time, waking the threads whose wake-up time is reached
+	 *
+	 * @param millis time to advance by in milliseconds
+	 */
+	public void advance(long millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Time can't go backwards");
+		}
+		lock.lock();
+		try {
+			now += millis;
+			advanced.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Advances the time to the earliest wake-up time of the sleeping threads, without going past a limit
+	 *
+	 * @param limitMillis time not to go past in milliseconds since the epoch
+	 * @return the time reached, the limit if no thread wakes up before it
+	 */
+	public long advanceToNextWakeUp(long limitMillis) {
+		lock.lock();
+		try {
+			long target = limitMillis;
+			for (long wakeUp : wakeUps) {
+				if (wakeUp > now && wakeUp < target) {
+					target = wakeUp;
+				}
+			}
+			if (target > now) {
+				now = target;
+				advanced.signalAll();
+			}
+			return now;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of threads sleeping until a time still to come
+	 *
+	 * @return number of sleeping threads
+	 */
+	public int getSleepingCount() {
+		lock.lock();
+		try {
+			return countSleeping();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until enough threads are sleeping, that is until the scheduler is done with the current time
+	 *
+	 * @param count number of sleeping threads to wait for
+	 * @param timeoutMillis real time to wait at most in milliseconds
+	 * @return true if the threads are sleeping, false on timeout
+	 * @throws InterruptedException if the calling thread is interrupted while waiting
+	 */
+	public boolean awaitSleeping(int count, long timeoutMillis) throws InterruptedException {
+		long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		lock.lock();
+		try {
+			while (countSleeping() < count) {
+				if (remaining <= 0) {
+					return false;
+				}
+				remaining = asleep.awaitNanos(remaining);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Counts the wake-up times still to come, the lock being held
+	 */
+	private int countSleeping() {
+		int count = 0;
+		for (long wakeUp : wakeUps) {
+			if (wakeUp > now) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
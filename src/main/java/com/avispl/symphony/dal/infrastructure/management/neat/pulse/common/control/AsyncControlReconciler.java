@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+
+/**
+ * Sends optimistic control writes in the background and reconciles the cache with their outcome.
+ * The caller updates the cache before submitting a write; the write is then sent by one of a few serial lanes, so that
+ * writes to the same device are sent in submission order. A write superseded by a later write to the same property
+ * within the debounce window is dropped, and a write the device does not confirm restores the value the cache held
+ * before the first unsent write to that property.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AsyncControlReconciler {
+	private static final Log logger = LogFactory.getLog(AsyncControlReconciler.class);
+
+	/**
+	 * Control write sent in the background
+	 */
+	@FunctionalInterface
+	public interface ControlAction {
+		/**
+		 * Sends the write and waits for the device to confirm it
+		 *
+		 * @throws Exception if the write failed or was not confirmed
+		 */
+		void apply() throws Exception;
+	}
+
+	private final String name;
+	private final int numberOfLanes;
+	private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final AtomicLong confirmed = new AtomicLong();
+	private final AtomicLong reverted = new AtomicLong();
+	private final AtomicLong superseded = new AtomicLong();
+	private volatile String lastError = NeatPulseConstant.NONE;
+	private ExecutorService[] lanes;
+
+	/**
+	 * AsyncControlReconciler constructor
+	 *
+	 * @param name prefix of the lane thread names
+	 * @param numberOfLanes number of serial lanes sending writes in parallel
+	 */
+	public AsyncControlReconciler(String name, int numberOfLanes) {
+		this.name = name;
+		this.numberOfLanes = numberOfLanes;
+	}
+
+	/**
+	 * Submits a write whose value is already in cache
+	 *
+	 * @param laneKey key of the serial lane, writes with the same key are sent in submission order
+	 * @param writeKey device and property of the write
+	 * @param cachedValue value the cache held before this write
+	 * @param windowMillis debounce window counted from the submission, 0 to send every write
+	 * @param description description of the write used in errors
+	 * @param action sends the write
+	 * @param restore restores the given cache value if the write is not confirmed
+	 */
+	public void submit(String laneKey, String writeKey, String cachedValue, long windowMillis, String description, ControlAction action,
+			Consumer<String> restore) {
+		PendingWrite write = pendingWrites.compute(writeKey, (key, previous) -> new PendingWrite(
+				previous != null && !previous.started ? previous.baseline : cachedValue, System.currentTimeMillis() + Math.max(windowMillis, 0)));
+		pending.incrementAndGet();
+		try {
+			getLane(laneKey).execute(() -> send(writeKey, write, description, action, restore));
+		} catch (RejectedExecutionException e) {
+			pendingWrites.remove(writeKey, write);
+			pending.decrementAndGet();
+			fail(description, e, write, restore);
+		}
+	}
+
+	/**
+	 * Retrieves the number of writes not yet confirmed or reverted
+	 *
+	 * @return number of pending writes
+	 */
+	public int getPendingCount() {
+		return pending.get();
+	}
+
+	/**
+	 * Stops the lanes, writes not sent yet are dropped
+	 */
+	public synchronized void stop() {
+		if (lanes != null) {
+			for (ExecutorService lane : lanes) {
+				pending.addAndGet(-lane.shutdownNow().size());
+			}
+			lanes = null;
+		}
+		pendingWrites.clear();
+	}
+
+	/**
+	 * Adds the write counters to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		stats.put(group + "Pending", String.valueOf(pending.get()));
+		stats.put(group + "Confirmed", String.valueOf(confirmed.get()));
+		stats.put(group + "Reverted", String.valueOf(reverted.get()));
+		stats.put(group + "Superseded", String.valueOf(superseded.get()));
+		stats.put(group + "LastError", lastError);
+	}
+
+	/**
+	 * Sends one write once its debounce window is over, unless a later write to the same property superseded it
+	 */
+	private void send(String writeKey, PendingWrite write, String description, ControlAction action, Consumer<String> restore) {
+		try {
+			long remaining = write.sendAfter - System.currentTimeMillis();
+			if (remaining > 0) {
+				Thread.sleep(remaining);
+			}
+			if (pendingWrites.get(writeKey) != write) {
+				superseded.incrementAndGet();
+				return;
+			}
+			write.started = true;
+			action.apply();
+			confirmed.incrementAndGet();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			fail(description, e, write, restore);
+		} finally {
+			pendingWrites.remove(writeKey, write);
+			pending.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Restores the cache and records the error of a write that was not confirmed
+	 */
+	private void fail(String description, Exception e, PendingWrite write, Consumer<String> restore) {
+		reverted.incrementAndGet();
+		lastError = String.format("%s: %s", description, e.getMessage());
+		logger.error(String.format("Control %s is not confirmed, restoring the previous value", description), e);
+		restore.accept(write.baseline);
+	}
+
+	/**
+	 * Retrieves the lane of a key, starting the lanes if needed
+	 */
+	private synchronized ExecutorService getLane(String laneKey) {
+		if (lanes == null) {
+			lanes = new ExecutorService[Math.max(numberOfLanes, 1)];
+			for (int i = 0; i < lanes.length; i++) {
+				String threadName = name + "-" + i;
+				lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+		return lanes[Math.floorMod(laneKey.hashCode(), lanes.length)];
+	}
+
+	/**
+	 * Write submitted and not yet confirmed or reverted
+	 */
+	private static class PendingWrite {
+		private final String baseline;
+		private final long sendAfter;
+		private volatile boolean started;
+
+		PendingWrite(String baseline, long sendAfter) {
+			this.baseline = baseline;
+			this.sendAfter = sendAfter;
+		}
+	}
+}
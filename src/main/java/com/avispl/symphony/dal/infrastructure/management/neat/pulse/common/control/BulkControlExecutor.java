@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+
+/**
+ * Runs one control action on a set of devices with bounded parallelism, under a shared rate limiter.
+ * Transient failures (timeouts, unreachable API, HTTP 429 and 5xx) are retried with a growing delay, other failures are final.
+ * Progress and failure counts of the current or last run are published as aggregator statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class BulkControlExecutor {
+	private static final Log logger = LogFactory.getLog(BulkControlExecutor.class);
+
+	/**
+	 * State of a bulk run
+	 */
+	public enum State {
+		IDLE("Idle"), RUNNING("Running"), COMPLETED("Completed"), CANCELLED("Cancelled");
+
+		private final String name;
+
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Control action applied to a single device
+	 */
+	@FunctionalInterface
+	public interface DeviceAction {
+		/**
+		 * Applies the action to a device
+		 *
+		 * @param deviceId id of the device
+		 * @throws Exception if the action failed
+		 */
+		void apply(String deviceId) throws Exception;
+	}
+
+	private final String name;
+	private final RateLimiter rateLimiter;
+	private final AtomicInteger succeeded = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private final AtomicInteger retries = new AtomicInteger();
+	private volatile State state = State.IDLE;
+	private volatile String description = NeatPulseConstant.NONE;
+	private volatile String lastError = NeatPulseConstant.NONE;
+	private volatile int total;
+	private volatile long startTime;
+	private volatile long endTime;
+	private ExecutorService executorService;
+
+	/**
+	 * Constructor for BulkControlExecutor.
+	 *
+	 * @param name name of the executor threads
+	 * @param rateLimiter rate limiter shared by all control requests
+	 */
+	public BulkControlExecutor(String name, RateLimiter rateLimiter) {
+		this.name = name;
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * Starts a run unless one is in progress
+	 *
+	 * @param description description of the run shown in statistics
+	 * @param deviceIds target devices
+	 * @param parallelism maximum number of devices controlled at the same time
+	 * @param action action to apply to each device
+	 * @return true if the run started, false if another run is in progress
+	 */
+	public synchronized boolean start(String description, List<String> deviceIds, int parallelism, DeviceAction action) {
+		if (state == State.RUNNING) {
+			return false;
+		}
+		this.description = description;
+		this.total = deviceIds.size();
+		this.lastError = NeatPulseConstant.NONE;
+		this.startTime = System.currentTimeMillis();
+		this.endTime = 0;
+		succeeded.set(0);
+		failed.set(0);
+		retries.set(0);
+		state = State.RUNNING;
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService runExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executorService = runExecutor;
+		AtomicInteger remaining = new AtomicInteger(deviceIds.size());
+		if (deviceIds.isEmpty()) {
+			finish(runExecutor);
+		}
+		for (String deviceId : deviceIds) {
+			runExecutor.submit(() -> {
+				try {
+					applyWithRetry(deviceId, action);
+				} finally {
+					if (remaining.decrementAndGet() == 0) {
+						finish(runExecutor);
+					}
+				}
+			});
+		}
+		return true;
+	}
+
+	/**
+	 * Cancels the current run, devices already controlled keep their new value
+	 */
+	public synchronized void stop() {
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		if (state == State.RUNNING) {
+			state = State.CANCELLED;
+			endTime = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Checks whether a run is in progress
+	 *
+	 * @return true if running
+	 */
+	public boolean isRunning() {
+		return state == State.RUNNING;
+	}
+
+	/**
+	 * Adds the progress of the current or last run to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		int done = succeeded.get() + failed.get();
+		long end = endTime == 0 ? System.currentTimeMillis() : endTime;
+		stats.put(group + "Status", state.getName());
+		stats.put(group + "LastRun", description);
+		stats.put(group + "TargetDevices", String.valueOf(total));
+		stats.put(group + "Succeeded", String.valueOf(succeeded.get()));
+		stats.put(group + "Failed", String.valueOf(failed.get()));
+		stats.put(group + "Retries", String.valueOf(retries.get()));
+		stats.put(group + "Remaining", String.valueOf(state == State.RUNNING ? total - done : 0));
+		stats.put(group + "Duration(s)", String.valueOf(startTime == 0 ? 0 : TimeUnit.MILLISECONDS.toSeconds(end - startTime)));
+		stats.put(group + "LastError", lastError);
+	}
+
+	/**
+	 * Applies the action to one device, retrying transient failures
+	 */
+	private void applyWithRetry(String deviceId, DeviceAction action) {
+		for (int attempt = 1; attempt <= NeatPulseConstant.BULK_CONTROL_MAX_ATTEMPTS; attempt++) {
+			rateLimiter.acquire();
+			try {
+				action.apply(deviceId);
+				succeeded.incrementAndGet();
+				return;
+			} catch (Exception e) {
+				if (!isTransient(e) || attempt == NeatPulseConstant.BULK_CONTROL_MAX_ATTEMPTS) {
+					failed.incrementAndGet();
+					lastError = String.format("%s: %s", deviceId, e.getMessage());
+					logger.error(String.format("%s failed on device %s", description, deviceId), e);
+					return;
+				}
+				retries.incrementAndGet();
+				try {
+					Thread.sleep(NeatPulseConstant.BULK_CONTROL_RETRY_DELAY * attempt);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					failed.incrementAndGet();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks the run as completed once its last device is done
+	 */
+	private synchronized void finish(ExecutorService runExecutor) {
+		runExecutor.shutdown();
+		if (executorService == runExecutor) {
+			executorService = null;
+			state = State.COMPLETED;
+			endTime = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Checks whether a control failure is worth retrying
+	 *
+	 * @param e the failure
+	 * @return true for timeouts, unreachable API, HTTP 429 and 5xx responses
+	 */
+	public static boolean isTransient(Exception e) {
+		if (e instanceof CommandFailureException) {
+			int status = ((CommandFailureException) e).getStatusCode();
+			return status == 429 || status >= 500;
+		}
+		return e instanceof ResourceNotReachableException || e instanceof ResourceAccessException || e instanceof SocketTimeoutException;
+	}
+}
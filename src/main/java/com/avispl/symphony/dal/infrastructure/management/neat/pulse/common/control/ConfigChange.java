@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * Single field of a config request sent to an endpoint, with the value to keep in cache once the endpoint confirms it
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ConfigChange {
+	private final DeviceSettings item;
+	private final String propertyName;
+	private final Object bodyValue;
+	private final String cacheValue;
+
+	/**
+	 * Constructor for ConfigChange.
+	 *
+	 * @param item the setting to change
+	 * @param propertyName name of the controlled property, used in error messages
+	 * @param bodyValue value sent in the config request body
+	 * @param cacheValue value stored in cache once applied
+	 */
+	public ConfigChange(DeviceSettings item, String propertyName, Object bodyValue, String cacheValue) {
+		this.item = item;
+		this.propertyName = propertyName;
+		this.bodyValue = bodyValue;
+		this.cacheValue = cacheValue;
+	}
+
+	/**
+	 * Retrieves {@link #item}
+	 *
+	 * @return value of {@link #item}
+	 */
+	public DeviceSettings getItem() {
+		return item;
+	}
+
+	/**
+	 * Retrieves {@link #propertyName}
+	 *
+	 * @return value of {@link #propertyName}
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * Retrieves {@link #bodyValue}
+	 *
+	 * @return value of {@link #bodyValue}
+	 */
+	public Object getBodyValue() {
+		return bodyValue;
+	}
+
+	/**
+	 * Retrieves {@link #cacheValue}
+	 *
+	 * @return value of {@link #cacheValue}
+	 */
+	public String getCacheValue() {
+		return cacheValue;
+	}
+
+	/**
+	 * Retrieves the name of the field in the config request body
+	 *
+	 * @return field name
+	 */
+	public String getFieldName() {
+		return item.getValue();
+	}
+}
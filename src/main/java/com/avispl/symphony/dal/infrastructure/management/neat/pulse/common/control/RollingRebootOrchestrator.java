@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+
+/**
+ * Reboots a set of devices in waves. Each wave reboots at most {@code waveSize} devices, then polls them until they
+ * all report connected again before the next wave starts. A wave whose devices do not come back within the wave timeout
+ * halts the rollout, so that a faulty reboot never takes more than one wave offline.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RollingRebootOrchestrator {
+	private static final Log logger = LogFactory.getLog(RollingRebootOrchestrator.class);
+
+	/**
+	 * State of a rollout
+	 */
+	public enum State {
+		IDLE("Idle"), REBOOTING("Rebooting"), WAITING("WaitingForConnection"), COMPLETED("Completed"), HALTED("Halted"), CANCELLED("Cancelled");
+
+		private final String name;
+
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Targeted poll of the connection state of a device
+	 */
+	@FunctionalInterface
+	public interface ConnectionProbe {
+		/**
+		 * Polls a device
+		 *
+		 * @param deviceId id of the device
+		 * @return true if the device reports Connected=true
+		 * @throws Exception if the poll failed
+		 */
+		boolean isConnected(String deviceId) throws Exception;
+	}
+
+	private final String name;
+	private final RateLimiter rateLimiter;
+	private final long gracePeriod;
+	private final long pollInterval;
+	private final long waveTimeout;
+	private final AtomicInteger rebooted = new AtomicInteger();
+	private final AtomicInteger recovered = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private volatile State state = State.IDLE;
+	private volatile int total;
+	private volatile int totalWaves;
+	private volatile int currentWave;
+	private volatile int waitingDevices;
+	private volatile String lastError = NeatPulseConstant.NONE;
+	private Thread rolloutThread;
+
+	/**
+	 * Constructor for RollingRebootOrchestrator.
+	 *
+	 * @param name name of the rollout thread
+	 * @param rateLimiter rate limiter shared by all control requests
+	 * @param gracePeriod time given to rebooted devices to go offline before polling them, in milliseconds
+	 * @param pollInterval time between two polls of the devices of a wave, in milliseconds
+	 * @param waveTimeout maximum time for the devices of a wave to report connected again, in milliseconds
+	 */
+	public RollingRebootOrchestrator(String name, RateLimiter rateLimiter, long gracePeriod, long pollInterval, long waveTimeout) {
+		this.name = name;
+		this.rateLimiter = rateLimiter;
+		this.gracePeriod = gracePeriod;
+		this.pollInterval = pollInterval;
+		this.waveTimeout = waveTimeout;
+	}
+
+	/**
+	 * Starts a rollout unless one is in progress
+	 *
+	 * @param deviceIds devices to reboot, in reboot order
+	 * @param waveSize maximum number of devices rebooted at the same time
+	 * @param reboot action sending the reboot request to a device
+	 * @param probe targeted poll of the connection state of a device
+	 * @return true if the rollout started, false if another rollout is in progress
+	 */
+	public synchronized boolean start(List<String> deviceIds, int waveSize, BulkControlExecutor.DeviceAction reboot, ConnectionProbe probe) {
+		if (isRunning()) {
+			return false;
+		}
+		int size = Math.max(1, waveSize);
+		total = deviceIds.size();
+		totalWaves = (total + size - 1) / size;
+		currentWave = 0;
+		waitingDevices = 0;
+		lastError = NeatPulseConstant.NONE;
+		rebooted.set(0);
+		recovered.set(0);
+		failed.set(0);
+		state = State.REBOOTING;
+		List<String> targets = new ArrayList<>(deviceIds);
+		rolloutThread = new Thread(() -> run(targets, size, reboot, probe), name);
+		rolloutThread.setDaemon(true);
+		rolloutThread.start();
+		return true;
+	}
+
+	/**
+	 * Cancels the rollout, the wave in progress is not waited for
+	 */
+	public synchronized void stop() {
+		if (rolloutThread != null) {
+			rolloutThread.interrupt();
+			rolloutThread = null;
+		}
+		if (isRunning()) {
+			state = State.CANCELLED;
+		}
+	}
+
+	/**
+	 * Checks whether a rollout is in progress
+	 *
+	 * @return true if running
+	 */
+	public boolean isRunning() {
+		return state == State.REBOOTING || state == State.WAITING;
+	}
+
+	/**
+	 * Adds the wave state of the current or last rollout to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		stats.put(group + "Status", state.getName());
+		stats.put(group + "TargetDevices", String.valueOf(total));
+		stats.put(group + "CurrentWave", String.valueOf(currentWave));
+		stats.put(group + "TotalWaves", String.valueOf(totalWaves));
+		stats.put(group + "Rebooted", String.valueOf(rebooted.get()));
+		stats.put(group + "Recovered", String.valueOf(recovered.get()));
+		stats.put(group + "Failed", String.valueOf(failed.get()));
+		stats.put(group + "WaitingForConnection", String.valueOf(waitingDevices));
+		stats.put(group + "LastError", lastError);
+	}
+
+	/**
+	 * Rollout loop: reboots and waits for one wave at a time
+	 */
+	private void run(List<String> deviceIds, int waveSize, BulkControlExecutor.DeviceAction reboot, ConnectionProbe probe) {
+		try {
+			for (int start = 0; start < deviceIds.size(); start += waveSize) {
+				enterState(State.REBOOTING);
+				currentWave++;
+				Set<String> waiting = new LinkedHashSet<>();
+				for (String deviceId : deviceIds.subList(start, Math.min(start + waveSize, deviceIds.size()))) {
+					rateLimiter.acquire();
+					checkCancelled();
+					try {
+						reboot.apply(deviceId);
+						rebooted.incrementAndGet();
+						waiting.add(deviceId);
+					} catch (Exception e) {
+						failed.incrementAndGet();
+						lastError = String.format("%s: %s", deviceId, e.getMessage());
+						logger.error(String.format("Error when reboot device %s in wave %d", deviceId, currentWave), e);
+					}
+				}
+				if (!awaitConnected(waiting, probe)) {
+					failed.addAndGet(waiting.size());
+					lastError = String.format("Wave %d: %d devices did not reconnect, rollout halted", currentWave, waiting.size());
+					logger.error(lastError + ": " + waiting);
+					finish(State.HALTED);
+					return;
+				}
+			}
+			finish(State.COMPLETED);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			finish(State.CANCELLED);
+		}
+	}
+
+	/**
+	 * Polls the rebooted devices of a wave until all of them report connected or the wave timeout elapses
+	 *
+	 * @param waiting devices of the wave, removed as they reconnect
+	 * @param probe targeted poll of the connection state
+	 * @return true if every device reconnected
+	 * @throws InterruptedException if the rollout is cancelled
+	 */
+	private boolean awaitConnected(Set<String> waiting, ConnectionProbe probe) throws InterruptedException {
+		enterState(State.WAITING);
+		waitingDevices = waiting.size();
+		if (waiting.isEmpty()) {
+			return true;
+		}
+		Thread.sleep(gracePeriod);
+		long deadline = System.currentTimeMillis() + waveTimeout;
+		while (true) {
+			waiting.removeIf(deviceId -> {
+				try {
+					if (probe.isConnected(deviceId)) {
+						recovered.incrementAndGet();
+						return true;
+					}
+				} catch (Exception e) {
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Device %s is not reachable yet: %s", deviceId, e.getMessage()));
+					}
+				}
+				return false;
+			});
+			waitingDevices = waiting.size();
+			if (waiting.isEmpty()) {
+				return true;
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				return false;
+			}
+			Thread.sleep(pollInterval);
+		}
+	}
+
+	/**
+	 * Moves the rollout to its next running state
+	 *
+	 * @param next the next state
+	 * @throws InterruptedException if the rollout was cancelled meanwhile
+	 */
+	private synchronized void enterState(State next) throws InterruptedException {
+		checkCancelled();
+		state = next;
+	}
+
+	/**
+	 * Checks whether the rollout was cancelled. The rate limiter and the reboot requests do not react to interrupts,
+	 * so the state is checked as well as the interrupt flag.
+	 *
+	 * @throws InterruptedException if the rollout was cancelled
+	 */
+	private void checkCancelled() throws InterruptedException {
+		if (state == State.CANCELLED || Thread.currentThread().isInterrupted()) {
+			throw new InterruptedException("Rollout cancelled");
+		}
+	}
+
+	/**
+	 * Records the end state of a rollout unless it was cancelled meanwhile
+	 */
+	private synchronized void finish(State endState) {
+		if (isRunning()) {
+			state = endState;
+		}
+		waitingDevices = 0;
+	}
+}
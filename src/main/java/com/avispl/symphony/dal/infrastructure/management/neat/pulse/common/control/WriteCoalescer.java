@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces control writes before they are sent to the devices:
+ * <ul>
+ * <li> - writes of the value already in cache are suppressed by the caller and counted here</li>
+ * <li> - rapid successive writes to the same device property are debounced: each write waits for the debounce window,
+ * and only the last write received within the window is sent, the earlier ones are dropped</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class WriteCoalescer {
+	private final Map<String, Long> latestWrites = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong suppressed = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Waits for the debounce window of a write and checks whether it is still the latest write to its property
+	 *
+	 * @param key device and property of the write
+	 * @param windowMillis debounce window, 0 to send every write
+	 * @return true if the write must be sent, false if a later write to the same property superseded it
+	 * @throws InterruptedException if the calling thread is interrupted while waiting
+	 */
+	public boolean awaitLatest(String key, long windowMillis) throws InterruptedException {
+		if (windowMillis <= 0) {
+			return true;
+		}
+		long ticket = sequence.incrementAndGet();
+		latestWrites.put(key, ticket);
+		try {
+			Thread.sleep(windowMillis);
+		} catch (InterruptedException e) {
+			latestWrites.remove(key, ticket);
+			throw e;
+		}
+		if (latestWrites.remove(key, ticket)) {
+			return true;
+		}
+		coalesced.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Counts writes sent to the devices
+	 *
+	 * @param count number of written properties
+	 */
+	public void recordSent(int count) {
+		sent.addAndGet(count);
+	}
+
+	/**
+	 * Counts a write dropped because the device already has the requested value
+	 */
+	public void recordSuppressed() {
+		suppressed.incrementAndGet();
+	}
+
+	/**
+	 * Adds the write counters to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public void populateStatistics(Map<String, String> stats, String group) {
+		stats.put(group + "Sent", String.valueOf(sent.get()));
+		stats.put(group + "Suppressed", String.valueOf(suppressed.get()));
+		stats.put(group + "Coalesced", String.valueOf(coalesced.get()));
+	}
+}
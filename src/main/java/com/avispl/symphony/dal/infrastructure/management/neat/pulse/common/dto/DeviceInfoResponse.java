@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+
+/**
+ * Response of the endpoint information command, bound directly to {@link DeviceInfo} properties
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@JsonDeserialize(using = DeviceInfoResponse.Deserializer.class)
+public class DeviceInfoResponse {
+	private final String[] values;
+
+	/**
+	 * Constructor for DeviceInfoResponse.
+	 *
+	 * @param values texts indexed by {@link DeviceInfo#ordinal()}
+	 */
+	public DeviceInfoResponse(String[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * Retrieves the value of a property
+	 *
+	 * @param item the property
+	 * @return the value, or null if absent
+	 */
+	public String getValue(DeviceInfo item) {
+		return values[item.ordinal()];
+	}
+
+	/**
+	 * Retrieves {@link #values}
+	 *
+	 * @return value of {@link #values}
+	 */
+	public String[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Binds the response in one pass, array values are kept as their JSON text
+	 */
+	static class Deserializer extends EnumIndexedDeserializer<DeviceInfo, DeviceInfoResponse> {
+		Deserializer() {
+			super(DeviceInfoResponse.class, DeviceInfo.class, DeviceInfo::getValue, true);
+		}
+
+		@Override
+		protected DeviceInfoResponse create(String[] values) {
+			return new DeviceInfoResponse(values);
+		}
+	}
+}
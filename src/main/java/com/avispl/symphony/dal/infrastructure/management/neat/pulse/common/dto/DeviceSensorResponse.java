@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+
+/**
+ * Readings of the sensors of an endpoint, indexed by {@link DeviceSensor#ordinal()}.
+ * Numeric readings are kept as doubles; readings that are present but not numeric (null, text) are kept as their
+ * JSON text, so that they render the way the raw response did.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceSensorResponse {
+	private static final int SENSOR_FIELDS = DeviceSensor.values().length;
+
+	private final double[][] values;
+	private final String[][] texts;
+
+	/**
+	 * Constructor for DeviceSensorResponse.
+	 *
+	 * @param values numeric readings of every sensor, {@link Double#NaN} when absent or not numeric
+	 * @param texts texts of the readings that are not numeric, a row is null when all readings of the sensor are numeric or absent
+	 */
+	public DeviceSensorResponse(double[][] values, String[][] texts) {
+		this.values = values;
+		this.texts = texts;
+	}
+
+	/**
+	 * Parses the readings of the {@code data} array of the sensor response
+	 *
+	 * @param data the array of sensors
+	 * @return the readings
+	 */
+	public static DeviceSensorResponse parse(JsonNode data) {
+		double[][] values = new double[data.size()][];
+		String[][] texts = new String[data.size()][];
+		int index = 0;
+		for (JsonNode node : data) {
+			values[index] = new double[SENSOR_FIELDS];
+			for (DeviceSensor item : DeviceSensor.values()) {
+				double value = Double.NaN;
+				JsonNode valueNode = node.get(item.getValue());
+				if (valueNode != null && valueNode.isNumber()) {
+					value = valueNode.doubleValue();
+				} else if (valueNode != null) {
+					value = parseDouble(valueNode);
+					if (Double.isNaN(value)) {
+						if (texts[index] == null) {
+							texts[index] = new String[SENSOR_FIELDS];
+						}
+						texts[index][item.ordinal()] = valueNode.asText();
+					}
+				}
+				values[index][item.ordinal()] = value;
+			}
+			index++;
+		}
+		return new DeviceSensorResponse(values, texts);
+	}
+
+	/**
+	 * Parses a textual reading
+	 *
+	 * @return the reading, or {@link Double#NaN} if it is not numeric
+	 */
+	private static double parseDouble(JsonNode valueNode) {
+		if (!valueNode.isTextual()) {
+			return Double.NaN;
+		}
+		try {
+			return Double.parseDouble(valueNode.asText());
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Retrieves the number of sensors
+	 *
+	 * @return number of sensors
+	 */
+	public int getSensorCount() {
+		return values.length;
+	}
+
+	/**
+	 * Retrieves a numeric reading
+	 *
+	 * @param sensorIndex zero based index of the sensor
+	 * @param item the reading
+	 * @return the reading, or {@link Double#NaN} if it is absent or not numeric
+	 */
+	public double getValue(int sensorIndex, DeviceSensor item) {
+		return values[sensorIndex][item.ordinal()];
+	}
+
+	/**
+	 * Retrieves the text of a reading that is not numeric
+	 *
+	 * @param sensorIndex zero based index of the sensor
+	 * @param item the reading
+	 * @return the JSON text of the reading, or null if it is numeric or absent
+	 */
+	public String getText(int sensorIndex, DeviceSensor item) {
+		return texts[sensorIndex] == null ? null : texts[sensorIndex][item.ordinal()];
+	}
+
+	/**
+	 * Retrieves {@link #values}
+	 *
+	 * @return value of {@link #values}
+	 */
+	public double[][] getValues() {
+		return values;
+	}
+
+	/**
+	 * Retrieves {@link #texts}
+	 *
+	 * @return value of {@link #texts}
+	 */
+	public String[][] getTexts() {
+		return texts;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * Response of the endpoint config command, bound directly to {@link DeviceSettings} properties
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@JsonDeserialize(using = DeviceSettingsResponse.Deserializer.class)
+public class DeviceSettingsResponse {
+	private final String[] values;
+
+	/**
+	 * Constructor for DeviceSettingsResponse.
+	 *
+	 * @param values texts indexed by {@link DeviceSettings#ordinal()}
+	 */
+	public DeviceSettingsResponse(String[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * Retrieves the value of a property
+	 *
+	 * @param item the property
+	 * @return the value, or null if absent
+	 */
+	public String getValue(DeviceSettings item) {
+		return values[item.ordinal()];
+	}
+
+	/**
+	 * Retrieves {@link #values}
+	 *
+	 * @return value of {@link #values}
+	 */
+	public String[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Binds the response in one pass, array and object values are skipped
+	 */
+	static class Deserializer extends EnumIndexedDeserializer<DeviceSettings, DeviceSettingsResponse> {
+		Deserializer() {
+			super(DeviceSettingsResponse.class, DeviceSettings.class, DeviceSettings::getValue, false);
+		}
+
+		@Override
+		protected DeviceSettingsResponse create(String[] values) {
+			return new DeviceSettingsResponse(values);
+		}
+	}
+}
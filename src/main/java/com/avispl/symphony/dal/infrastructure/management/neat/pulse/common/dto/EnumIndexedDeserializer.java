@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Base deserializer binding a flat JSON object in one pass into an array of texts indexed by the ordinal of
+ * the property enum. Fields that are not mapped by the enum are skipped without being materialized.
+ * Scalars keep the text of the generic JSON tree mapping: JSON null is bound as {@code "null"}, decimals are normalized.
+ *
+ * @param <E> property enum
+ * @param <T> response type
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public abstract class EnumIndexedDeserializer<E extends Enum<E>, T> extends StdDeserializer<T> {
+	private final Map<String, Integer> fieldOrdinals = new HashMap<>();
+	private final Class<T> type;
+	private final int size;
+	private final boolean keepArrays;
+
+	/**
+	 * Constructor for EnumIndexedDeserializer.
+	 *
+	 * @param type the response type
+	 * @param enumType the property enum
+	 * @param fieldName function retrieving the JSON field name of a property
+	 * @param keepArrays whether array values are kept as their JSON text, otherwise they are skipped
+	 */
+	protected EnumIndexedDeserializer(Class<T> type, Class<E> enumType, Function<E, String> fieldName, boolean keepArrays) {
+		super(type);
+		this.type = type;
+		for (E item : enumType.getEnumConstants()) {
+			if (!fieldName.apply(item).isEmpty()) {
+				fieldOrdinals.put(fieldName.apply(item), item.ordinal());
+			}
+		}
+		this.size = enumType.getEnumConstants().length;
+		this.keepArrays = keepArrays;
+	}
+
+	/**
+	 * Creates the response from the bound values
+	 *
+	 * @param values texts indexed by property ordinal, null when absent or not a scalar
+	 * @return the response
+	 */
+	protected abstract T create(String[] values);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+		if (!parser.isExpectedStartObjectToken()) {
+			return type.cast(context.handleUnexpectedToken(type, parser));
+		}
+		String[] values = new String[size];
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			Integer ordinal = fieldOrdinals.get(parser.getCurrentName());
+			JsonToken token = parser.nextToken();
+			if (ordinal == null) {
+				parser.skipChildren();
+			} else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+				values[ordinal] = String.valueOf(parser.getDoubleValue());
+			} else if (token.isScalarValue()) {
+				values[ordinal] = parser.getText();
+			} else if (keepArrays && token == JsonToken.START_ARRAY) {
+				values[ordinal] = parser.readValueAsTree().toString();
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return create(values);
+	}
+}
@@ -24,6 +24,7 @@ public enum DeviceInfo {
 	OTA_CHANNEL("OTAChannel", "otaChannel"),
 	CONNECTION_TIME("ConnectionTime", "connectionTime"),
 	PRIMARY_MODE("PrimaryMode", "primaryMode"),
+	ROOM_ID("PulseRoomId", "roomId"),
 	;
 	private final String propertyName;
 	private final String value;
@@ -15,41 +15,44 @@ import java.util.Optional;
  * @since 1.0.0
  */
 public enum DeviceSettings {
-	SCREEN_STANDBY("ScreenStandby", "Display","screenStandby"),
-	AUTO_WAKEUP("AutoWakeup","Display", "autoWakeup"),
-	NIGHT_MODE("Appearance","Display", "nightMode"),
-	SCREEN_BRIGHTNESS("ScreenBrightness(%)","Display", "brightness"),
-	HDMI_CEC_CONTROL("HDMICECControl","Display", "hdmiCecControl"),
-	KEEP_SCREEN_ON("KeepScreenOn","Display", "screenStayOn"),
-	DISPLAY_PREFERENCE("DisplayPreference","Display", "frameRatePreferred"),
-	BLUETOOTH("Bluetooth","System", "bluetooth"),
-	BYOD_MODE("BYODMode","System", "byodMode"),
-	HOUR_TIME("24HourTime","TimeAndLanguage", "time24h"),
-	DATE_FORMAT("DateFormat","TimeAndLanguage", "dateFormat"),
-	NTP_SERVER("NTPServer","TimeAndLanguage", "ntpServer"),
-	TIME_ZONE("TimeZone","TimeAndLanguage", "timezone"),
-	LANGUAGE("Language","TimeAndLanguage", "language"),
-	USB_AUDIO("USBAudio","AudioAndVideo", "usbAudio"),
-	HIGH_CONTRAST_MODE("HighContrastMode","Accessibility", "highContrast"),
-	SCREEN_READER("ScreenReader","Accessibility", "screenReader"),
-	FONT_SIZE("FontSize","Accessibility", "fontSize"),
-	COLOR_CORRECTION("ColorCorrection","Accessibility", "colorCorrection"),
-	REBOOT("Reboot","", ""),
+	SCREEN_STANDBY("ScreenStandby", "Display","screenStandby", true),
+	AUTO_WAKEUP("AutoWakeup","Display", "autoWakeup", true),
+	NIGHT_MODE("Appearance","Display", "nightMode", true),
+	SCREEN_BRIGHTNESS("ScreenBrightness(%)","Display", "brightness", true),
+	HDMI_CEC_CONTROL("HDMICECControl","Display", "hdmiCecControl", true),
+	KEEP_SCREEN_ON("KeepScreenOn","Display", "screenStayOn", true),
+	DISPLAY_PREFERENCE("DisplayPreference","Display", "frameRatePreferred", true),
+	BLUETOOTH("Bluetooth","System", "bluetooth", true),
+	BYOD_MODE("BYODMode","System", "byodMode", true),
+	HOUR_TIME("24HourTime","TimeAndLanguage", "time24h", true),
+	DATE_FORMAT("DateFormat","TimeAndLanguage", "dateFormat", true),
+	NTP_SERVER("NTPServer","TimeAndLanguage", "ntpServer", true),
+	TIME_ZONE("TimeZone","TimeAndLanguage", "timezone", true),
+	LANGUAGE("Language","TimeAndLanguage", "language", true),
+	USB_AUDIO("USBAudio","AudioAndVideo", "usbAudio", true),
+	HIGH_CONTRAST_MODE("HighContrastMode","Accessibility", "highContrast", true),
+	SCREEN_READER("ScreenReader","Accessibility", "screenReader", true),
+	FONT_SIZE("FontSize","Accessibility", "fontSize", true),
+	COLOR_CORRECTION("ColorCorrection","Accessibility", "colorCorrection", true),
+	REBOOT("Reboot","", "", false),
 	;
 	private final String propertyName;
 	private final String group;
 	private final String value;
+	private final boolean roomLevel;
 
 	/**
 	 * Constructor for DeviceSettings.
 	 *
 	 * @param defaultName The name of the device property.
 	 * @param value The corresponding value in the device response.
+	 * @param roomLevel Whether the devices of a room pair share the setting.
 	 */
-	DeviceSettings(String defaultName, String group, String value) {
+	DeviceSettings(String defaultName, String group, String value, boolean roomLevel) {
 		this.propertyName = defaultName;
 		this.group = group;
 		this.value = value;
+		this.roomLevel = roomLevel;
 	}
 
 	/**
@@ -79,6 +82,15 @@ public enum DeviceSettings {
 		return value;
 	}
 
+	/**
+	 * Retrieves {@link #roomLevel}
+	 *
+	 * @return true if every device of the room pair holds the same value
+	 */
+	public boolean isRoomLevel() {
+		return roomLevel;
+	}
+
 	/**
 	 * Retrieves the DeviceSettings enum based on its default name.
 	 *
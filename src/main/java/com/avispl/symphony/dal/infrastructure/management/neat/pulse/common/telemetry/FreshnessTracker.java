@@ -0,0 +1,278 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks when the data of every device was last refreshed, per endpoint class, and the polling cycles.
+ * The staleness of a device is the age of its oldest endpoint class; a class never refreshed counts from the time the device
+ * was discovered. Devices are also counted per second of their oldest refresh, so the fleet staleness statistics walk
+ * the distinct seconds, bounded by the polling period, instead of the fleet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FreshnessTracker {
+
+	/**
+	 * Endpoint class refreshed by the polling
+	 */
+	public enum EndpointClass {
+		INFO("Info"), SENSOR("Sensor"), CONFIG("Config");
+
+		private final String name;
+
+		EndpointClass(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static final EndpointClass[] CLASSES = EndpointClass.values();
+	private static final int DISCOVERED = CLASSES.length;
+	private static final int OLDEST_SECOND = CLASSES.length + 1;
+
+	private final Map<String, long[]> devices = new HashMap<>();
+	private final TreeMap<Long, Integer> devicesByOldestSecond = new TreeMap<>();
+	private long refreshes;
+	private long failures;
+	private long cycleStart;
+	private long cycleStartRefreshes;
+	private long cycleStartFailures;
+	private long lastCycleDuration;
+	private int lastCycleDevices;
+	private long lastCycleRefreshes;
+	private long lastCycleFailures;
+
+	/**
+	 * Registers a device, its staleness counts from now until all its endpoint classes are refreshed
+	 *
+	 * @param deviceId id of the device
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void discover(String deviceId, long now) {
+		getOrCreate(deviceId, now);
+	}
+
+	/**
+	 * Records a successful refresh of an endpoint class of a device
+	 *
+	 * @param deviceId id of the device
+	 * @param endpointClass the refreshed endpoint class
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void recordRefresh(String deviceId, EndpointClass endpointClass, long now) {
+		long[] entry = getOrCreate(deviceId, now);
+		entry[endpointClass.ordinal()] = now;
+		refreshes++;
+		updateOldestSecond(entry);
+	}
+
+	/**
+	 * Restores the last refresh times of a device read from a snapshot, without counting them as refreshes
+	 *
+	 * @param deviceId id of the device
+	 * @param lastRefreshes times in milliseconds indexed by {@link EndpointClass#ordinal()}, 0 for a class never refreshed
+	 * @param now current time in milliseconds, the discovery time of a device not tracked yet
+	 */
+	public synchronized void restore(String deviceId, long[] lastRefreshes, long now) {
+		long[] entry = getOrCreate(deviceId, now);
+		for (int i = 0; i < CLASSES.length && i < lastRefreshes.length; i++) {
+			entry[i] = Math.max(entry[i], lastRefreshes[i]);
+		}
+		updateOldestSecond(entry);
+	}
+
+	/**
+	 * Records a failed refresh of an endpoint class
+	 */
+	public synchronized void recordFailure() {
+		failures++;
+	}
+
+	/**
+	 * Retrieves the time of the last successful refresh of every endpoint class of a device
+	 *
+	 * @param deviceId id of the device
+	 * @return times in milliseconds indexed by {@link EndpointClass#ordinal()}, 0 for a class never refreshed
+	 */
+	public synchronized long[] getLastRefreshes(String deviceId) {
+		long[] lastRefreshes = new long[CLASSES.length];
+		long[] entry = devices.get(deviceId);
+		if (entry != null) {
+			System.arraycopy(entry, 0, lastRefreshes, 0, CLASSES.length);
+		}
+		return lastRefreshes;
+	}
+
+	/**
+	 * Checks whether an endpoint class of every device of a list was refreshed since a time
+	 *
+	 * @param deviceIds ids of the devices
+	 * @param endpointClass the endpoint class
+	 * @param since time in milliseconds
+	 * @return true if every device was refreshed at or after the time
+	 */
+	public synchronized boolean isRefreshedSince(Collection<String> deviceIds, EndpointClass endpointClass, long since) {
+		for (String deviceId : deviceIds) {
+			long[] entry = devices.get(deviceId);
+			if (entry == null || entry[endpointClass.ordinal()] < since) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stops tracking the devices that are no longer part of the organization
+	 *
+	 * @param liveDevices ids of the devices in the organization
+	 */
+	public synchronized void retain(Collection<String> liveDevices) {
+		Set<String> live = liveDevices instanceof Set ? (Set<String>) liveDevices : new HashSet<>(liveDevices);
+		Iterator<Map.Entry<String, long[]>> iterator = devices.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, long[]> device = iterator.next();
+			if (!live.contains(device.getKey())) {
+				decrement(device.getValue()[OLDEST_SECOND]);
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes all devices and counters
+	 */
+	public synchronized void clear() {
+		devices.clear();
+		devicesByOldestSecond.clear();
+		refreshes = 0;
+		failures = 0;
+		cycleStartRefreshes = 0;
+		cycleStartFailures = 0;
+		lastCycleDuration = 0;
+		lastCycleDevices = 0;
+		lastCycleRefreshes = 0;
+		lastCycleFailures = 0;
+	}
+
+	/**
+	 * Marks the start of a polling cycle
+	 *
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void startCycle(long now) {
+		cycleStart = now;
+		cycleStartRefreshes = refreshes;
+		cycleStartFailures = failures;
+	}
+
+	/**
+	 * Marks the end of a polling cycle
+	 *
+	 * @param numberOfDevices number of devices polled by the cycle
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void endCycle(int numberOfDevices, long now) {
+		lastCycleDuration = now - cycleStart;
+		lastCycleDevices = numberOfDevices;
+		lastCycleRefreshes = refreshes - cycleStartRefreshes;
+		lastCycleFailures = failures - cycleStartFailures;
+	}
+
+	/**
+	 * Adds the last polling cycle and the fleet staleness to the statistics
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 * @param sloMillis staleness objective in milliseconds
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void populateStatistics(Map<String, String> stats, String group, long sloMillis, long now) {
+		long requests = lastCycleRefreshes + lastCycleFailures;
+		stats.put(group + "LastCycleDuration(s)", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(lastCycleDuration)));
+		stats.put(group + "LastCycleDevices", String.valueOf(lastCycleDevices));
+		stats.put(group + "DevicesRefreshedPerSecond", String.valueOf(lastCycleDuration == 0 ? 0 : Math.round(lastCycleDevices * 10000.0 / lastCycleDuration) / 10.0));
+		stats.put(group + "ErrorRate(%)", String.valueOf(requests == 0 ? 0 : Math.round(lastCycleFailures * 1000.0 / requests) / 10.0));
+
+		long nowSecond = TimeUnit.MILLISECONDS.toSeconds(now);
+		long sloCutoff = TimeUnit.MILLISECONDS.toSeconds(now - sloMillis);
+		long p95Rank = (long) Math.ceil(devices.size() * 0.05);
+		long maxStaleness = devicesByOldestSecond.isEmpty() ? 0 : nowSecond - devicesByOldestSecond.firstKey();
+		long p95Staleness = 0;
+		long overSlo = 0;
+		long seen = 0;
+		for (Map.Entry<Long, Integer> second : devicesByOldestSecond.entrySet()) {
+			if (seen < p95Rank) {
+				p95Staleness = nowSecond - second.getKey();
+			} else if (second.getKey() >= sloCutoff) {
+				break;
+			}
+			if (second.getKey() < sloCutoff) {
+				overSlo += second.getValue();
+			}
+			seen += second.getValue();
+		}
+		stats.put(group + "MaxStaleness(s)", String.valueOf(Math.max(maxStaleness, 0)));
+		stats.put(group + "P95Staleness(s)", String.valueOf(Math.max(p95Staleness, 0)));
+		stats.put(group + "DevicesOverStalenessSLO", String.valueOf(overSlo));
+		stats.put(group + "StalenessSLO(minutes)", String.valueOf(TimeUnit.MILLISECONDS.toMinutes(sloMillis)));
+	}
+
+	/**
+	 * Retrieves the entry of a device, registering it as discovered now if needed
+	 */
+	private long[] getOrCreate(String deviceId, long now) {
+		long[] entry = devices.get(deviceId);
+		if (entry == null) {
+			entry = new long[CLASSES.length + 2];
+			entry[DISCOVERED] = now;
+			entry[OLDEST_SECOND] = TimeUnit.MILLISECONDS.toSeconds(now);
+			devicesByOldestSecond.merge(entry[OLDEST_SECOND], 1, Integer::sum);
+			devices.put(deviceId, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Moves a device to the count of the second of its oldest endpoint class
+	 */
+	private void updateOldestSecond(long[] entry) {
+		long oldest = Long.MAX_VALUE;
+		for (int i = 0; i < CLASSES.length; i++) {
+			oldest = Math.min(oldest, entry[i] == 0 ? entry[DISCOVERED] : entry[i]);
+		}
+		long oldestSecond = TimeUnit.MILLISECONDS.toSeconds(oldest);
+		if (oldestSecond != entry[OLDEST_SECOND]) {
+			decrement(entry[OLDEST_SECOND]);
+			devicesByOldestSecond.merge(oldestSecond, 1, Integer::sum);
+			entry[OLDEST_SECOND] = oldestSecond;
+		}
+	}
+
+	/**
+	 * Removes a device from the count of its oldest refresh second
+	 */
+	private void decrement(long second) {
+		devicesByOldestSecond.computeIfPresent(second, (key, count) -> count > 1 ? count - 1 : null);
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in the style of HdrHistogram:
+ * values below 64 have their own bucket, larger values are grouped by power of two, each split into 32 sub-buckets,
+ * which keeps the relative error of a reported value under about 3% over the whole long range in less than 2k buckets.
+ * Recording is a single atomic increment; percentiles are computed over the values recorded since the previous window.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+	private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - SUB_BUCKET_BITS - 2) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final long[] windowStart = new long[BUCKET_COUNT];
+
+	/**
+	 * Records a value
+	 *
+	 * @param value the value, negative values are recorded as 0
+	 */
+	public void record(long value) {
+		counts.incrementAndGet(getBucketIndex(Math.max(value, 0)));
+	}
+
+	/**
+	 * Retrieves the bucket counts recorded since the previous call, and starts a new window
+	 *
+	 * @return count of each bucket in the window
+	 */
+	public synchronized long[] takeWindow() {
+		long[] window = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			long count = counts.get(i);
+			window[i] = count - windowStart[i];
+			windowStart[i] = count;
+		}
+		return window;
+	}
+
+	/**
+	 * Retrieves the number of values of a window
+	 *
+	 * @param window bucket counts of the window
+	 * @return number of values
+	 */
+	public static long getTotalCount(long[] window) {
+		long total = 0;
+		for (long count : window) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Retrieves the value at a percentile of a window, as the highest value of the bucket holding it
+	 *
+	 * @param window bucket counts of the window
+	 * @param percentile percentile between 0 and 100
+	 * @return value at the percentile, 0 for an empty window
+	 */
+	public static long getValueAtPercentile(long[] window, double percentile) {
+		long total = getTotalCount(window);
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < window.length; i++) {
+			seen += window[i];
+			if (seen >= rank) {
+				return getHighestValue(i);
+			}
+		}
+		return getHighestValue(window.length - 1);
+	}
+
+	/**
+	 * Retrieves the bucket of a non-negative value
+	 */
+	static int getBucketIndex(long value) {
+		if (value < LINEAR_LIMIT) {
+			return (int) value;
+		}
+		int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * Retrieves the highest value of a bucket
+	 */
+	static long getHighestValue(int index) {
+		if (index < LINEAR_LIMIT) {
+			return index;
+		}
+		int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+		long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
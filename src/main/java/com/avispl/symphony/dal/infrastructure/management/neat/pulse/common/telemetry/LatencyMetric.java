@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+
+/**
+ * Operations whose latency is measured: one per {@link NeatPulseCommand} endpoint, and the mapping phases of the aggregated devices.
+ * Requests are reported in milliseconds; the per-device mapping phases, which take a few microseconds, in microseconds.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum LatencyMetric {
+	ALL_DEVICE_ID("Endpoints", true, TimeUnit.MILLISECONDS),
+	ALL_ROOM("Rooms", true, TimeUnit.MILLISECONDS),
+	GET_DEVICE_INFO("EndpointInfo", true, TimeUnit.MILLISECONDS),
+	GET_DEVICE_SENSOR("EndpointSensor", true, TimeUnit.MILLISECONDS),
+	GET_DEVICE_SETTINGS("EndpointConfig", true, TimeUnit.MILLISECONDS),
+	CONTROL_DEVICE("ControlConfig", true, TimeUnit.MILLISECONDS),
+	REBOOT_DEVICE("Reboot", true, TimeUnit.MILLISECONDS),
+	POPULATE_DEVICE_INFO("PopulateDeviceInfo", false, TimeUnit.MICROSECONDS),
+	POPULATE_DEVICE_SENSOR("PopulateDeviceSensor", false, TimeUnit.MICROSECONDS),
+	POPULATE_DEVICE_SETTINGS("PopulateDeviceSettings", false, TimeUnit.MICROSECONDS),
+	CLONE_AND_POPULATE("CloneAndPopulateAggregatedDeviceList", false, TimeUnit.MILLISECONDS);
+
+	private static final String ENDPOINTS_PATH = "/endpoints";
+	private static final String ROOMS_PATH = "/rooms";
+	private static final String SENSOR_PATH = "/sensor";
+	private static final String CONFIG_PATH = "/config";
+	private static final String REBOOT_PATH = "/reboot";
+
+	private final String name;
+	private final boolean request;
+	private final TimeUnit unit;
+
+	LatencyMetric(String name, boolean request, TimeUnit unit) {
+		this.name = name;
+		this.request = request;
+		this.unit = unit;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #request}
+	 *
+	 * @return value of {@link #request}
+	 */
+	public boolean isRequest() {
+		return request;
+	}
+
+	/**
+	 * Retrieves {@link #unit}
+	 *
+	 * @return value of {@link #unit}
+	 */
+	public TimeUnit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Retrieves the endpoint of a request uri built from a {@link NeatPulseCommand}
+	 *
+	 * @param uri the request uri
+	 * @param post true for a POST request
+	 * @return the matching metric
+	 */
+	public static LatencyMetric forRequest(String uri, boolean post) {
+		int query = uri.indexOf('?');
+		String path = query < 0 ? uri : uri.substring(0, query);
+		if (path.endsWith(SENSOR_PATH)) {
+			return GET_DEVICE_SENSOR;
+		}
+		if (path.endsWith(CONFIG_PATH)) {
+			return post ? CONTROL_DEVICE : GET_DEVICE_SETTINGS;
+		}
+		if (path.endsWith(REBOOT_PATH)) {
+			return REBOOT_DEVICE;
+		}
+		if (path.endsWith(ENDPOINTS_PATH)) {
+			return ALL_DEVICE_ID;
+		}
+		if (path.endsWith(ROOMS_PATH)) {
+			return ALL_ROOM;
+		}
+		return GET_DEVICE_INFO;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histograms and request outcome counters of every {@link LatencyMetric}.
+ * Recording costs two clock reads and two atomic increments; statistics are published over the window since the previous publication,
+ * like the request lane statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyMetrics {
+	private static final LatencyMetric[] METRICS = LatencyMetric.values();
+	private static final RequestOutcome[] OUTCOMES = RequestOutcome.values();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[METRICS.length];
+	private final AtomicLongArray outcomes = new AtomicLongArray(METRICS.length * OUTCOMES.length);
+	private final long[] windowOutcomes = new long[METRICS.length * OUTCOMES.length];
+
+	/**
+	 * LatencyMetrics constructor
+	 */
+	public LatencyMetrics() {
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Records a successful operation
+	 *
+	 * @param metric the operation
+	 * @param startNanos {@link System#nanoTime()} at the start of the operation
+	 */
+	public void record(LatencyMetric metric, long startNanos) {
+		record(metric, startNanos, RequestOutcome.SUCCESS);
+	}
+
+	/**
+	 * Records an operation
+	 *
+	 * @param metric the operation
+	 * @param startNanos {@link System#nanoTime()} at the start of the operation
+	 * @param outcome outcome of the operation
+	 */
+	public void record(LatencyMetric metric, long startNanos, RequestOutcome outcome) {
+		histograms[metric.ordinal()].record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+		outcomes.incrementAndGet(metric.ordinal() * OUTCOMES.length + outcome.ordinal());
+	}
+
+	/**
+	 * Runs and records a request
+	 *
+	 * @param metric the endpoint of the request
+	 * @param request the request
+	 * @param <T> type of the response
+	 * @return the response
+	 * @throws Exception the failure of the request
+	 */
+	public <T> T measure(LatencyMetric metric, Callable<T> request) throws Exception {
+		long start = System.nanoTime();
+		try {
+			T response = request.call();
+			record(metric, start);
+			return response;
+		} catch (Exception e) {
+			record(metric, start, RequestOutcome.of(e));
+			throw e;
+		}
+	}
+
+	/**
+	 * Adds the count and p50/p95/p99 latency of every operation since the previous call to the statistics,
+	 * with the outcome counts of the requests, and starts a new window
+	 *
+	 * @param stats the statistics
+	 * @param group group prefix of the statistics, ending with #
+	 */
+	public synchronized void populateStatistics(Map<String, String> stats, String group) {
+		for (LatencyMetric metric : METRICS) {
+			long[] window = histograms[metric.ordinal()].takeWindow();
+			String prefix = group + metric.getName();
+			String unit = metric.getUnit() == TimeUnit.MICROSECONDS ? "(us)" : "(ms)";
+			stats.put(prefix + "Count", String.valueOf(LatencyHistogram.getTotalCount(window)));
+			stats.put(prefix + "P50" + unit, formatLatency(metric, LatencyHistogram.getValueAtPercentile(window, 50)));
+			stats.put(prefix + "P95" + unit, formatLatency(metric, LatencyHistogram.getValueAtPercentile(window, 95)));
+			stats.put(prefix + "P99" + unit, formatLatency(metric, LatencyHistogram.getValueAtPercentile(window, 99)));
+			for (RequestOutcome outcome : OUTCOMES) {
+				int index = metric.ordinal() * OUTCOMES.length + outcome.ordinal();
+				long count = outcomes.get(index);
+				if (metric.isRequest()) {
+					stats.put(prefix + outcome.getName(), String.valueOf(count - windowOutcomes[index]));
+				}
+				windowOutcomes[index] = count;
+			}
+		}
+	}
+
+	/**
+	 * Formats a latency recorded in microseconds in the unit of its metric
+	 */
+	private String formatLatency(LatencyMetric metric, long micros) {
+		if (metric.getUnit() == TimeUnit.MICROSECONDS) {
+			return String.valueOf(micros);
+		}
+		return String.valueOf(Math.round(micros / 100.0) / 10.0);
+	}
+}
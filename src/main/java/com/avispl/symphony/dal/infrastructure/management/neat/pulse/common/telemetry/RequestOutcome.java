@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.net.SocketTimeoutException;
+
+import javax.security.auth.login.FailedLoginException;
+
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+
+/**
+ * Outcome of a Neat Pulse API request
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum RequestOutcome {
+	SUCCESS("Success"), TIMEOUT("Timeout"), CLIENT_ERROR("4xx"), SERVER_ERROR("5xx"), OTHER_ERROR("OtherError");
+
+	private final String name;
+
+	RequestOutcome(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Classifies the failure of a request
+	 *
+	 * @param error the failure
+	 * @return outcome of the request
+	 */
+	public static RequestOutcome of(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException) {
+				return TIMEOUT;
+			}
+			if (cause instanceof FailedLoginException) {
+				return CLIENT_ERROR;
+			}
+			int status = 0;
+			if (cause instanceof CommandFailureException) {
+				status = ((CommandFailureException) cause).getStatusCode();
+			} else if (cause instanceof HttpStatusCodeException) {
+				status = ((HttpStatusCodeException) cause).getRawStatusCode();
+			}
+			if (status >= 500) {
+				return SERVER_ERROR;
+			}
+			if (status >= 400) {
+				return CLIENT_ERROR;
+			}
+		}
+		return OTHER_ERROR;
+	}
+}
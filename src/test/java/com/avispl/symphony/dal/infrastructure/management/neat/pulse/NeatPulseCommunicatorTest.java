@@ -17,6 +17,7 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
 
 /**
  * NeatPulseCommunicatorTest
@@ -53,7 +54,18 @@ public class NeatPulseCommunicatorTest {
 	void testGetAggregatorData() throws Exception {
 		extendedStatistic = (ExtendedStatistics) neatPulseCommunicator.getMultipleStatistics().get(0);
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(3, statistics.size());
+		Assert.assertEquals(3, countGroup(statistics, NeatPulseConstant.EMPTY));
+		Assert.assertEquals(14, countGroup(statistics, NeatPulseConstant.BULK_CONTROL_GROUP));
+		Assert.assertEquals(15, countGroup(statistics, NeatPulseConstant.ROLLING_REBOOT_GROUP));
+		Assert.assertEquals(12, countGroup(statistics, NeatPulseConstant.REQUEST_LANES_GROUP));
+		Assert.assertEquals(3, countGroup(statistics, NeatPulseConstant.CONTROL_WRITES_GROUP));
+		Assert.assertEquals(5, countGroup(statistics, NeatPulseConstant.ASYNC_CONTROL_GROUP));
+		Assert.assertEquals(79, countGroup(statistics, NeatPulseConstant.LATENCY_GROUP));
+		Assert.assertEquals(9, countGroup(statistics, NeatPulseConstant.POLLING_GROUP));
+		Assert.assertTrue(statistics.containsKey(NeatPulseConstant.FIRST_COMPLETE_DEVICE_LIST));
+		Assert.assertTrue(statistics.containsKey(NeatPulseConstant.CHANGE_DETECTION_GROUP + "MappedDevices"));
+		Assert.assertTrue(statistics.containsKey(NeatPulseConstant.CHANGE_DETECTION_GROUP + "ReusedDevices"));
+		Assert.assertTrue(statistics.containsKey(NeatPulseConstant.CHANGE_DETECTION_GROUP + "MappingHitRatio(%)"));
 	}
 
 	/**
@@ -416,4 +428,13 @@ public class NeatPulseCommunicatorTest {
 				property.equals(item.getName())).findFirst();
 		Assert.assertEquals(value, advancedControllableProperty.get().getValue());
 	}
+
+	/**
+	 * Counts the statistics of a group, or the statistics outside of any group when the group is empty
+	 */
+	private static long countGroup(Map<String, String> statistics, String group) {
+		return statistics.keySet().stream()
+				.filter(key -> group.isEmpty() ? !key.contains(NeatPulseConstant.HASH) : key.startsWith(group))
+				.count();
+	}
 }
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import javax.security.auth.login.FailedLoginException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.SimulatedFleet;
+
+/**
+ * NeatPulseRestApiClientTest
+ * Checks the streamed requests go through the REST stack of the communicator like {@code doGet}, against the simulated API.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NeatPulseRestApiClientTest {
+	private static final String ORGANIZATION_ID = "simulated-org";
+	private static final String API_KEY = "simulated-key";
+	private static final NeatPulseCommunicator.JsonStreamHandler<JsonNode> READ_TREE = parser -> parser.readValueAsTree();
+
+	private NeatPulseApiSimulator simulator;
+	private int port;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		simulator = new NeatPulseApiSimulator(new SimulatedFleet(4, 2, 0, 0), ORGANIZATION_ID, API_KEY);
+		port = simulator.start();
+	}
+
+	@AfterEach
+	void destroy() {
+		simulator.stop();
+	}
+
+	/**
+	 * Test case to verify the streamed and conditional requests read the responses, and answer 304 without a body.
+	 */
+	@Test
+	void testStreamedResponses() throws Exception {
+		simulator.setEntityTags(true);
+		NeatPulseCommunicator communicator = createCommunicator(API_KEY);
+		try {
+			NeatPulseRestApiClient client = new NeatPulseRestApiClient(communicator);
+			List<String> endpointIds = client.getEndpointIds();
+			Assert.assertEquals(4, endpointIds.size());
+			Assert.assertEquals(Integer.valueOf(2), client.getRoomCount());
+			String deviceId = endpointIds.get(1);
+			Assert.assertEquals("Room 0", client.getDeviceInfo(deviceId).getValue(DeviceInfo.ROOM_NAME));
+			Assert.assertEquals("Room 0", client.getDeviceInfoIfChanged(deviceId).getValue(DeviceInfo.ROOM_NAME));
+			Assert.assertNull(client.getDeviceInfoIfChanged(deviceId));
+			Assert.assertEquals(1, simulator.getNotModifiedCount());
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Test case to verify a non-2xx status of a streamed or conditional request is translated the same as by {@code doGet}.
+	 */
+	@Test
+	void testErrorStatusTranslatedLikeDoGet() throws Exception {
+		NeatPulseCommunicator communicator = createCommunicator(API_KEY);
+		try {
+			String uri = String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, ORGANIZATION_ID, "unknown-endpoint");
+			CommandFailureException expected = (CommandFailureException) catchFailure(() -> communicator.doGet(uri, JsonNode.class));
+			Assert.assertEquals(404, expected.getStatusCode());
+			assertSameFailure(expected, catchFailure(() -> communicator.doGetStreaming(uri, READ_TREE)));
+			assertSameFailure(expected, catchFailure(() -> communicator.doGetIfChanged(uri, "unknown-endpoint", EndpointClass.INFO, READ_TREE)));
+
+			simulator.setErrorRates(1, 0);
+			String deviceId = SimulatedFleet.getDeviceId(0);
+			String deviceUri = String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, ORGANIZATION_ID, deviceId);
+			CommandFailureException rateLimited = (CommandFailureException) catchFailure(() -> communicator.doGet(deviceUri, JsonNode.class));
+			Assert.assertEquals(429, rateLimited.getStatusCode());
+			assertSameFailure(rateLimited, catchFailure(() -> communicator.doGetStreaming(deviceUri, READ_TREE)));
+			assertSameFailure(rateLimited, catchFailure(() -> communicator.doGetIfChanged(deviceUri, deviceId, EndpointClass.INFO, READ_TREE)));
+		} finally {
+			communicator.destroy();
+		}
+
+		NeatPulseCommunicator unauthorized = createCommunicator("wrong-key");
+		try {
+			String uri = String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, ORGANIZATION_ID);
+			Exception expected = catchFailure(() -> unauthorized.doGet(uri, JsonNode.class));
+			Assert.assertTrue(expected instanceof FailedLoginException);
+			Exception actual = catchFailure(() -> unauthorized.doGetStreaming(uri, READ_TREE));
+			Assert.assertTrue(actual instanceof FailedLoginException);
+			Assert.assertEquals(expected.getMessage(), actual.getMessage());
+		} finally {
+			unauthorized.destroy();
+		}
+	}
+
+	/**
+	 * Creates a communicator of the simulated organization
+	 */
+	private NeatPulseCommunicator createCommunicator(String apiKey) throws Exception {
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("http");
+		communicator.setPort(port);
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword(apiKey);
+		communicator.init();
+		return communicator;
+	}
+
+	/**
+	 * Runs a request expected to fail and retrieves its failure
+	 */
+	private static Exception catchFailure(Callable<?> request) {
+		try {
+			request.call();
+		} catch (Exception e) {
+			return e;
+		}
+		throw new AssertionError("The request did not fail");
+	}
+
+	/**
+	 * Checks a failure is translated like the failure of {@code doGet}
+	 */
+	private static void assertSameFailure(CommandFailureException expected, Exception actual) {
+		Assert.assertEquals(CommandFailureException.class, actual.getClass());
+		CommandFailureException failure = (CommandFailureException) actual;
+		Assert.assertEquals(expected.getStatusCode(), failure.getStatusCode());
+		Assert.assertEquals(expected.getRequest(), failure.getRequest());
+		Assert.assertEquals(expected.getResponse(), failure.getResponse());
+		Assert.assertEquals(expected.getMessage(), failure.getMessage());
+	}
+}
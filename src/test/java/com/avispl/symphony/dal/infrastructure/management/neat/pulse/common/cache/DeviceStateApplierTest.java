@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * DeviceStateApplierTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateApplierTest {
+
+	/**
+	 * Test case to verify updates from concurrent producers are all applied and a control write is ordered after earlier poll results.
+	 */
+	@Test
+	void testConcurrentProducersAndOrderedControlWrite() throws Exception {
+		DeviceStateStore store = new DeviceStateStore();
+		DeviceStateApplier applier = new DeviceStateApplier(store);
+		applier.start();
+		try {
+			ExecutorService producers = Executors.newFixedThreadPool(8);
+			for (int i = 0; i < 2000; i++) {
+				String deviceId = "device-" + i;
+				String roomId = String.valueOf(i / 2);
+				producers.submit(() -> {
+					String[] info = new String[DeviceInfo.values().length];
+					info[DeviceInfo.ROOM_ID.ordinal()] = roomId;
+					applier.submit(DeviceStateUpdate.info(deviceId, info));
+					String[] settings = new String[DeviceSettings.values().length];
+					settings[DeviceSettings.TIME_ZONE.ordinal()] = "UTC";
+					applier.submit(DeviceStateUpdate.settings(deviceId, settings));
+				});
+			}
+			producers.shutdown();
+			Assert.assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+			Assert.assertTrue(applier.submitAndWait(DeviceStateUpdate.roomSetting("device-10", DeviceSettings.TIME_ZONE, "Europe/Berlin"), 5000));
+			Assert.assertEquals(2000, store.size());
+			Assert.assertEquals("Europe/Berlin", store.getSetting(store.getOrdinal("device-10"), DeviceSettings.TIME_ZONE));
+			Assert.assertEquals("Europe/Berlin", store.getSetting(store.getOrdinal("device-11"), DeviceSettings.TIME_ZONE));
+			Assert.assertEquals("UTC", store.getSetting(store.getOrdinal("device-12"), DeviceSettings.TIME_ZONE));
+			Assert.assertEquals(3, store.getVersion(store.getOrdinal("device-11")));
+			Assert.assertEquals(0, applier.getPendingCount());
+		} finally {
+			applier.stop();
+		}
+	}
+
+	/**
+	 * Test case to verify updates are rejected while the applier is stopped and a waiting producer is told its discarded update was not applied.
+	 */
+	@Test
+	void testStoppedApplierReportsUpdatesNotApplied() throws Exception {
+		CountDownLatch applying = new CountDownLatch(1);
+		CountDownLatch unblock = new CountDownLatch(1);
+		DeviceStateStore store = new DeviceStateStore() {
+			@Override
+			void apply(List<DeviceStateApplier.Entry> batch) {
+				applying.countDown();
+				try {
+					unblock.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.apply(batch);
+			}
+		};
+		DeviceStateApplier applier = new DeviceStateApplier(store);
+		Assert.assertFalse(applier.submit(DeviceStateUpdate.info("device-0", new String[DeviceInfo.values().length])));
+		Assert.assertFalse(applier.submitAndWait(DeviceStateUpdate.info("device-0", new String[DeviceInfo.values().length]), 1000));
+		Assert.assertEquals(0, applier.getPendingCount());
+
+		applier.start();
+		ExecutorService producer = Executors.newSingleThreadExecutor();
+		try {
+			Assert.assertTrue(applier.submit(DeviceStateUpdate.info("device-1", new String[DeviceInfo.values().length])));
+			Assert.assertTrue(applying.await(5, TimeUnit.SECONDS));
+			Future<Boolean> pending = producer.submit(() -> applier.submitAndWait(DeviceStateUpdate.info("device-2", new String[DeviceInfo.values().length]), 10000));
+			while (applier.getPendingCount() == 0) {
+				Thread.sleep(10);
+			}
+			applier.stop();
+			Assert.assertFalse(pending.get(5, TimeUnit.SECONDS));
+			Assert.assertEquals(0, applier.getPendingCount());
+			Assert.assertFalse(applier.submit(DeviceStateUpdate.info("device-3", new String[DeviceInfo.values().length])));
+			Assert.assertEquals(0, applier.getPendingCount());
+		} finally {
+			unblock.countDown();
+			producer.shutdownNow();
+		}
+		Assert.assertEquals(-1, store.getOrdinal("device-2"));
+		Assert.assertEquals(-1, store.getOrdinal("device-3"));
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.NeatPulseCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.InMemoryNeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.SimulatedFleet;
+
+/**
+ * DeviceStateSnapshotTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateSnapshotTest {
+
+	/**
+	 * Test case to verify a written snapshot restores the values, room pairs, sensors and last refresh times of the store.
+	 */
+	@Test
+	void testWriteAndRestore() throws Exception {
+		DeviceStateStore store = new DeviceStateStore();
+		for (int i = 0; i < 50; i++) {
+			populateDevice(store, i);
+		}
+		Path path = Files.createTempDirectory("snapshot").resolve("cache.snapshot");
+		List<String> endpointIds = Arrays.asList("device-0", "device-1", "device-2", "device-99");
+		DeviceStateSnapshot.capture(store, endpointIds, 25, deviceId -> new long[] { 1000, 0, Long.parseLong(deviceId.substring(7)) }, 5000).write(path);
+
+		DeviceStateSnapshot snapshot = DeviceStateSnapshot.read(path);
+		Assert.assertEquals(5000, snapshot.getTakenAt());
+		Assert.assertEquals(25, snapshot.getRoomCount());
+		Assert.assertEquals(endpointIds, snapshot.getEndpointIds());
+		Assert.assertEquals(store.getDeviceIds(), snapshot.getDeviceIds());
+		Assert.assertArrayEquals(new long[] { 1000, 0, 42 }, snapshot.getLastRefreshes(42));
+
+		DeviceStateStore restored = new DeviceStateStore();
+		snapshot.restoreTo(restored);
+		int ordinal = restored.getOrdinal("device-42");
+		Assert.assertEquals(42, ordinal);
+		Assert.assertEquals("Room 21", restored.getInfo(ordinal, DeviceInfo.ROOM_NAME));
+		Assert.assertNull(restored.getInfo(ordinal, DeviceInfo.FIRMWARE_CURRENT_VERSION));
+		Assert.assertEquals("true", restored.getSetting(ordinal, DeviceSettings.BLUETOOTH));
+		Assert.assertEquals("Europe/Berlin", restored.getSetting(ordinal, DeviceSettings.TIME_ZONE));
+		Assert.assertEquals(Arrays.asList("device-42", "device-43"), restored.getRoomPeers("device-42"));
+		Assert.assertEquals(2, restored.getSensorCount(ordinal));
+		Assert.assertEquals(420, restored.getSensorValue(ordinal, 1, DeviceSensor.CO2), 0.0);
+		Assert.assertTrue(Double.isNaN(restored.getSensorValue(ordinal, 1, DeviceSensor.VOC)));
+		Assert.assertEquals("null", restored.getSensorText(ordinal, 1, DeviceSensor.VOC));
+		Assert.assertNull(restored.getSensorText(ordinal, 1, DeviceSensor.CO2));
+		Assert.assertEquals(0, restored.getSensorCount(restored.getOrdinal("device-3")));
+	}
+
+	/**
+	 * Test case to verify a corrupted snapshot is rejected and a new snapshot replaces the previous one.
+	 */
+	@Test
+	void testCorruptedAndReplacedSnapshot() throws Exception {
+		DeviceStateStore store = new DeviceStateStore();
+		populateDevice(store, 0);
+		Path path = Files.createTempDirectory("snapshot").resolve("cache.snapshot");
+		DeviceStateSnapshot.capture(store, Collections.singletonList("device-0"), 1, deviceId -> new long[3], 1000).write(path);
+		populateDevice(store, 1);
+		DeviceStateSnapshot.capture(store, Arrays.asList("device-0", "device-1"), 1, deviceId -> new long[3], 2000).write(path);
+		Assert.assertEquals(2, DeviceStateSnapshot.read(path).size());
+		Assert.assertEquals(1, path.getParent().toFile().list().length);
+
+		try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+			file.seek(file.length() / 2);
+			int value = file.read();
+			file.seek(file.length() / 2);
+			file.write(value ^ 0xFF);
+		}
+		try {
+			DeviceStateSnapshot.read(path);
+			Assert.fail("A corrupted snapshot must be rejected");
+		} catch (IOException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Corrupted device state snapshot"));
+		}
+	}
+
+	/**
+	 * Test case to verify a communicator publishes the devices of the snapshot written by the previous one right after init.
+	 */
+	@Test
+	void testCommunicatorWarmStart() throws Exception {
+		Path path = Files.createTempDirectory("snapshot").resolve("cache.snapshot");
+		SimulatedFleet fleet = new SimulatedFleet(30, 2, 30, 10);
+		NeatPulseCommunicator previous = createCommunicator(new InMemoryNeatPulseApiClient(fleet), path);
+		previous.init();
+		try {
+			previous.getMultipleStatistics();
+			List<AggregatedDevice> devices = Collections.emptyList();
+			for (int i = 0; i < 60 && devices.size() < 30; i++) {
+				Thread.sleep(250);
+				devices = previous.retrieveMultipleStatistics();
+			}
+			Assert.assertEquals(30, devices.size());
+		} finally {
+			previous.destroy();
+		}
+		Assert.assertTrue(Files.exists(path));
+
+		NeatPulseCommunicator restarted = createCommunicator(new InMemoryNeatPulseApiClient(fleet), path);
+		restarted.init();
+		try {
+			List<AggregatedDevice> devices = restarted.retrieveMultipleStatistics();
+			Assert.assertEquals(30, devices.size());
+			Map<String, String> properties = devices.get(0).getProperties();
+			Assert.assertEquals(NeatPulseConstant.TRUE, properties.get(NeatPulseConstant.LAST_REFRESH_FROM_SNAPSHOT));
+			Assert.assertNotEquals(NeatPulseConstant.NONE, properties.get(NeatPulseConstant.LAST_REFRESH_GROUP + "Info"));
+		} finally {
+			restarted.destroy();
+		}
+	}
+
+	/**
+	 * Creates a communicator polling through a client and snapshotting its cache to a file
+	 */
+	private static NeatPulseCommunicator createCommunicator(InMemoryNeatPulseApiClient client, Path path) throws Exception {
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin("snapshot-org");
+		communicator.setPassword("");
+		communicator.setApiClient(client);
+		communicator.setCacheSnapshotFile(path.toString());
+		return communicator;
+	}
+
+	/**
+	 * Writes the values of a synthetic device, paired in rooms of two; even devices have sensors, one of them missing a reading
+	 */
+	private static void populateDevice(DeviceStateStore store, int index) {
+		String deviceId = "device-" + index;
+		String[] info = new String[DeviceInfo.values().length];
+		info[DeviceInfo.SERIAL.ordinal()] = String.format("NA%07d", index);
+		info[DeviceInfo.ROOM_ID.ordinal()] = String.valueOf(index / 2);
+		info[DeviceInfo.ROOM_NAME.ordinal()] = "Room " + index / 2;
+		info[DeviceInfo.CONNECTED.ordinal()] = "true";
+		String[] settings = new String[DeviceSettings.values().length];
+		settings[DeviceSettings.BLUETOOTH.ordinal()] = "true";
+		settings[DeviceSettings.TIME_ZONE.ordinal()] = index % 2 == 0 ? "Europe/Berlin" : "Asia/Tokyo";
+		store.putInfo(deviceId, info);
+		store.putSettings(deviceId, settings);
+		if (index % 2 == 0) {
+			double[][] sensors = new double[2][DeviceSensor.values().length];
+			Arrays.fill(sensors[0], 10);
+			Arrays.fill(sensors[1], 420);
+			sensors[1][DeviceSensor.VOC.ordinal()] = Double.NaN;
+			String[][] texts = new String[2][];
+			texts[1] = new String[DeviceSensor.values().length];
+			texts[1][DeviceSensor.VOC.ordinal()] = "null";
+			store.putSensors(deviceId, sensors, texts);
+		}
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * DeviceStateStoreTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateStoreTest {
+	private static final String[] TIME_ZONES = { "America/New_York", "Europe/Berlin", "Asia/Tokyo", "America/Los_Angeles" };
+	private static final String[] LANGUAGES = { "en-US", "de", "ja", "fr" };
+	private static final String[] MODELS = { "NF19B1", "NF19A1", "NF21D1", "NF22E1" };
+
+	/**
+	 * Test case to verify values are read back as written, including booleans, numbers and unexpected values.
+	 */
+	@Test
+	void testReadBackValues() {
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, 100);
+		int ordinal = store.getOrdinal("device-42");
+		Assert.assertEquals(100, store.size());
+		Assert.assertEquals("NA0000042", store.getInfo(ordinal, DeviceInfo.SERIAL));
+		Assert.assertEquals("Room 21", store.getInfo(ordinal, DeviceInfo.ROOM_NAME));
+		Assert.assertEquals("true", store.getInfo(ordinal, DeviceInfo.CONNECTED));
+		Assert.assertEquals("2024-05-03T05:04:12.345Z", store.getInfo(ordinal, DeviceInfo.CONNECTION_TIME));
+		Assert.assertEquals("Asia/Tokyo", store.getSetting(ordinal, DeviceSettings.TIME_ZONE));
+		Assert.assertEquals("true", store.getSetting(ordinal, DeviceSettings.BLUETOOTH));
+		Assert.assertEquals("false", store.getSetting(ordinal, DeviceSettings.USB_AUDIO));
+		Assert.assertEquals(0.5f, Float.parseFloat(store.getSetting(ordinal, DeviceSettings.SCREEN_BRIGHTNESS)), 0.0001f);
+		Assert.assertNull(store.getSetting(ordinal, DeviceSettings.REBOOT));
+		Assert.assertEquals(2, store.getSensorCount(ordinal));
+		Assert.assertEquals(420, store.getSensorValue(ordinal, 1, DeviceSensor.CO2), 0.0);
+		Assert.assertTrue(Double.isNaN(store.getSensorValue(ordinal, 1, DeviceSensor.VOC)));
+
+		store.putSetting("device-42", DeviceSettings.BLUETOOTH, "unexpected");
+		Assert.assertEquals("unexpected", store.getSetting(ordinal, DeviceSettings.BLUETOOTH));
+		store.putSetting("device-42", DeviceSettings.BLUETOOTH, NeatPulseConstant.EMPTY);
+		Assert.assertNull(store.getSetting(ordinal, DeviceSettings.BLUETOOTH));
+		Assert.assertEquals(-1, store.getOrdinal("unknown"));
+		Assert.assertNull(store.getInfo(-1, DeviceInfo.SERIAL));
+	}
+
+	/**
+	 * Test case to verify the room pair index is keyed on the room id, follows room moves, and config writes reach every device of the pair.
+	 */
+	@Test
+	void testRoomPairs() {
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, 6);
+		Assert.assertEquals(Arrays.asList("device-2", "device-3"), store.getRoomPeers("device-3"));
+		Assert.assertEquals(Arrays.asList("unknown"), store.getRoomPeers("unknown"));
+
+		store.putRoomSetting("device-3", DeviceSettings.LANGUAGE, "de");
+		Assert.assertEquals("de", store.getSetting(store.getOrdinal("device-2"), DeviceSettings.LANGUAGE));
+		Assert.assertEquals("en-US", store.getSetting(store.getOrdinal("device-4"), DeviceSettings.LANGUAGE));
+		store.putRoomSetting("device-3", DeviceSettings.REBOOT, "true");
+		Assert.assertEquals("true", store.getSetting(store.getOrdinal("device-3"), DeviceSettings.REBOOT));
+		Assert.assertNull(store.getSetting(store.getOrdinal("device-2"), DeviceSettings.REBOOT));
+
+		String[] info = new String[DeviceInfo.values().length];
+		info[DeviceInfo.ROOM_ID.ordinal()] = "2";
+		info[DeviceInfo.ROOM_NAME.ordinal()] = "Room 1";
+		store.putInfo("device-4", info);
+		Assert.assertEquals(Arrays.asList("device-2", "device-3"), store.getRoomPeers("device-3"));
+		Assert.assertEquals(Arrays.asList("device-4", "device-5"), store.getRoomPeers("device-4"));
+
+		info[DeviceInfo.ROOM_NAME.ordinal()] = "Room 2";
+		store.putInfo("device-3", info);
+		Assert.assertEquals(Arrays.asList("device-2"), store.getRoomPeers("device-2"));
+		Assert.assertEquals(Arrays.asList("device-3", "device-4", "device-5"), store.getRoomPeers("device-3"));
+
+		String[] settings = new String[DeviceSettings.values().length];
+		settings[DeviceSettings.TIME_ZONE.ordinal()] = "Europe/Paris";
+		settings[DeviceSettings.REBOOT.ordinal()] = "false";
+		store.putRoomSettings("device-5", settings);
+		for (String deviceId : store.getRoomPeers("device-5")) {
+			Assert.assertEquals("Europe/Paris", store.getSetting(store.getOrdinal(deviceId), DeviceSettings.TIME_ZONE));
+		}
+		Assert.assertEquals("false", store.getSetting(store.getOrdinal("device-5"), DeviceSettings.REBOOT));
+		Assert.assertEquals("true", store.getSetting(store.getOrdinal("device-3"), DeviceSettings.REBOOT));
+		Assert.assertEquals("Europe/Berlin", store.getSetting(store.getOrdinal("device-1"), DeviceSettings.TIME_ZONE));
+	}
+
+	/**
+	 * Test case to verify the columns grow by doubling their capacity and keep the values written before growing.
+	 */
+	@Test
+	void testColumnCapacity() {
+		DeviceStateStore store = new DeviceStateStore();
+		Assert.assertEquals(64, store.getCapacity());
+		populateStore(store, 64);
+		Assert.assertEquals(64, store.getCapacity());
+		populateStore(store, 50000);
+		Assert.assertEquals(50000, store.size());
+		Assert.assertEquals(65536, store.getCapacity());
+		Assert.assertEquals("NA0000042", store.getInfo(store.getOrdinal("device-42"), DeviceInfo.SERIAL));
+		Assert.assertEquals("NA0049999", store.getInfo(store.getOrdinal("device-49999"), DeviceInfo.SERIAL));
+		Assert.assertEquals(2, store.getSensorCount(store.getOrdinal("device-49999")));
+	}
+
+	/**
+	 * Test case to verify equal strings of all devices and columns share one dictionary entry, so that only the room ids and names grow with the fleet.
+	 */
+	@Test
+	void testDictionarySharing() {
+		DeviceStateStore smallStore = new DeviceStateStore();
+		populateStore(smallStore, 4);
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, 10000);
+		Assert.assertEquals(smallStore.getDictionarySize() + 2 * (5000 - 2), store.getDictionarySize());
+
+		String timeZone = store.getSetting(store.getOrdinal("device-2"), DeviceSettings.TIME_ZONE);
+		Assert.assertSame(timeZone, store.getSetting(store.getOrdinal("device-9998"), DeviceSettings.TIME_ZONE));
+		Assert.assertSame(store.getInfo(store.getOrdinal("device-1"), DeviceInfo.MODEL), store.getInfo(store.getOrdinal("device-9997"), DeviceInfo.MODEL));
+	}
+
+	/**
+	 * Test case to verify values replaced over time do not grow the dictionary without bound, and reads and room pairs survive its compaction.
+	 */
+	@Test
+	void testDictionaryCompaction() {
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, 4);
+		int initialSize = store.getDictionarySize();
+		String[] info = new String[DeviceInfo.values().length];
+		createValues(3).forEach((key, value) -> {
+			if (key instanceof DeviceInfo) {
+				info[key.ordinal()] = value;
+			}
+		});
+		for (int i = 0; i < 5000; i++) {
+			info[DeviceInfo.FIRMWARE_CURRENT_VERSION.ordinal()] = "NFA1.2024." + i;
+			store.putInfo("device-3", info);
+			store.putSetting("device-2", DeviceSettings.TIME_ZONE, "Etc/GMT+" + i);
+		}
+		Assert.assertTrue(store.getDictionarySize() <= 1024);
+		Assert.assertTrue(store.getDictionarySize() >= initialSize);
+		Assert.assertEquals("NFA1.2024.4999", store.getInfo(store.getOrdinal("device-3"), DeviceInfo.FIRMWARE_CURRENT_VERSION));
+		Assert.assertEquals("Etc/GMT+4999", store.getSetting(store.getOrdinal("device-2"), DeviceSettings.TIME_ZONE));
+		Assert.assertEquals("Room 0", store.getInfo(store.getOrdinal("device-0"), DeviceInfo.ROOM_NAME));
+		Assert.assertEquals(Arrays.asList("device-2", "device-3"), store.getRoomPeers("device-3"));
+	}
+
+	/**
+	 * Test case to verify the store takes at least 5 times less heap than the map based cache for 10k endpoints.
+	 */
+	@Test
+	void testHeapFootprintWith10kEndpoints() throws Exception {
+		assertFootprintReduction(10000);
+	}
+
+	/**
+	 * Test case to verify the store takes at least 5 times less heap than the map based cache for 50k endpoints.
+	 */
+	@Test
+	void testHeapFootprintWith50kEndpoints() throws Exception {
+		assertFootprintReduction(50000);
+	}
+
+	/**
+	 * Test case to verify only values that do not fit the type of their column are kept in the overflow maps.
+	 */
+	@Test
+	void testOverflowValues() {
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, 1000);
+		Assert.assertEquals(0, store.getOverflowCount());
+
+		store.putSetting("device-42", DeviceSettings.BLUETOOTH, "unexpected");
+		store.putSetting("device-43", DeviceSettings.SCREEN_BRIGHTNESS, "bright");
+		String[] info = new String[DeviceInfo.values().length];
+		info[DeviceInfo.CONNECTION_TIME.ordinal()] = "yesterday";
+		store.putInfo("device-44", info);
+		Assert.assertEquals(3, store.getOverflowCount());
+		Assert.assertEquals("bright", store.getSetting(store.getOrdinal("device-43"), DeviceSettings.SCREEN_BRIGHTNESS));
+		Assert.assertEquals("yesterday", store.getInfo(store.getOrdinal("device-44"), DeviceInfo.CONNECTION_TIME));
+
+		store.putSetting("device-42", DeviceSettings.BLUETOOTH, "true");
+		store.putSetting("device-43", DeviceSettings.SCREEN_BRIGHTNESS, "0.5");
+		Assert.assertEquals(1, store.getOverflowCount());
+		store.clear();
+		Assert.assertEquals(0, store.getOverflowCount());
+	}
+
+	/**
+	 * Counts the heap retained by both cache layouts and asserts the reduction ratio, reported in the failure message
+	 *
+	 * @param numberOfDevices number of simulated endpoints
+	 */
+	private void assertFootprintReduction(int numberOfDevices) throws Exception {
+		Map<String, Map<String, String>> legacyCache = new HashMap<>();
+		for (int i = 0; i < numberOfDevices; i++) {
+			legacyCache.put("device-" + i, createLegacyEntry(i));
+		}
+		long legacyBytes = HeapFootprint.measure(legacyCache);
+		legacyCache = null;
+
+		DeviceStateStore store = new DeviceStateStore();
+		populateStore(store, numberOfDevices);
+		long storeBytes = HeapFootprint.measure(store);
+		Assert.assertEquals(numberOfDevices, store.size());
+
+		String report = String.format("%d endpoints: map cache %d bytes/device, columnar store %d bytes/device, ratio %.1f", numberOfDevices,
+				legacyBytes / numberOfDevices, storeBytes / numberOfDevices, (double) legacyBytes / storeBytes);
+		Assert.assertTrue(report, legacyBytes >= 5 * storeBytes);
+	}
+
+	/**
+	 * Creates the entry of a synthetic endpoint in the map based cache the store replaced: property names to text values,
+	 * sensor readings kept as their JSON text
+	 */
+	private Map<String, String> createLegacyEntry(int index) {
+		Map<String, String> entry = new HashMap<>();
+		createValues(index).forEach((key, value) -> {
+			String name = key instanceof DeviceInfo ? ((DeviceInfo) key).getPropertyName()
+					: ((DeviceSettings) key).getGroup() + NeatPulseConstant.HASH + ((DeviceSettings) key).getPropertyName();
+			entry.put(name, value);
+		});
+		entry.put(NeatPulseConstant.DEVICE_SENSOR, new String("[{\"co2\":415,\"humidity\":41.2,\"illumination\":312,\"people\":2,\"temp\":22.4,\"vocIndex\":87,"
+				+ "\"timestamp\":1717400000},{\"co2\":420,\"humidity\":40.8,\"illumination\":298,\"people\":0,\"temp\":22.9,\"vocIndex\":91,\"timestamp\":1717400000}]"));
+		return entry;
+	}
+
+	/**
+	 * Populates the store with synthetic endpoints
+	 */
+	private void populateStore(DeviceStateStore store, int numberOfDevices) {
+		for (int i = 0; i < numberOfDevices; i++) {
+			String deviceId = "device-" + i;
+			String[] info = new String[DeviceInfo.values().length];
+			String[] settings = new String[DeviceSettings.values().length];
+			createValues(i).forEach((key, value) -> {
+				if (key instanceof DeviceInfo) {
+					info[key.ordinal()] = value;
+				} else {
+					settings[key.ordinal()] = value;
+				}
+			});
+			store.putInfo(deviceId, info);
+			store.putSettings(deviceId, settings);
+			store.putSensors(deviceId, createSensors());
+		}
+	}
+
+	/**
+	 * Creates the property values of a synthetic endpoint, every value is a new string instance as produced by json parsing
+	 */
+	private Map<Enum<?>, String> createValues(int index) {
+		Map<Enum<?>, String> values = new HashMap<>();
+		values.put(DeviceInfo.SERIAL, String.format("NA%07d", index));
+		values.put(DeviceInfo.CONNECTED, new String("true"));
+		values.put(DeviceInfo.MODEL, new String(MODELS[index % MODELS.length]));
+		values.put(DeviceInfo.FIRMWARE_CURRENT_VERSION, new String("NFA1.20240312.0503"));
+		values.put(DeviceInfo.FIRMWARE_UPDATE_VERSION, new String("NFA1.20240512.0101"));
+		values.put(DeviceInfo.ROOM_ID, String.valueOf(index / 2));
+		values.put(DeviceInfo.ROOM_NAME, "Room " + index / 2);
+		values.put(DeviceInfo.CONTROLLER_MODE, new String("Room Controller"));
+		values.put(DeviceInfo.LOCAL_IP_ADDRESS, "10.10." + index / 250 + "." + index % 250);
+		values.put(DeviceInfo.IN_CALL_STATUS, new String("IDLE"));
+		values.put(DeviceInfo.OTA_CHANNEL, new String("stable"));
+		values.put(DeviceInfo.CONNECTION_TIME, new String("2024-05-03T05:04:12.345Z"));
+		values.put(DeviceInfo.PRIMARY_MODE, new String("msteams"));
+		for (DeviceSettings item : DeviceSettings.values()) {
+			values.put(item, new String(index % 3 == 1 ? "false" : "true"));
+		}
+		values.put(DeviceSettings.USB_AUDIO, new String("false"));
+		values.put(DeviceSettings.SCREEN_STANDBY, new String("300000"));
+		values.put(DeviceSettings.SCREEN_BRIGHTNESS, new String("0.5"));
+		values.put(DeviceSettings.DATE_FORMAT, new String("MM/dd/yyyy"));
+		values.put(DeviceSettings.NTP_SERVER, new String("time.google.com"));
+		values.put(DeviceSettings.TIME_ZONE, new String(TIME_ZONES[index % TIME_ZONES.length]));
+		values.put(DeviceSettings.LANGUAGE, new String(LANGUAGES[index % LANGUAGES.length]));
+		values.put(DeviceSettings.FONT_SIZE, new String("default"));
+		values.put(DeviceSettings.COLOR_CORRECTION, new String("disabled"));
+		values.put(DeviceSettings.REBOOT, new String(NeatPulseConstant.EMPTY));
+		return values;
+	}
+
+	/**
+	 * Creates the readings of a two-sensor endpoint
+	 */
+	private double[][] createSensors() {
+		double[][] sensors = new double[2][DeviceSensor.values().length];
+		for (double[] sensor : sensors) {
+			Arrays.fill(sensor, Double.NaN);
+			sensor[DeviceSensor.HUMIDITY.ordinal()] = 41.2;
+			sensor[DeviceSensor.ILLUMINATION.ordinal()] = 312;
+			sensor[DeviceSensor.PEOPLE_COUNT.ordinal()] = 2;
+			sensor[DeviceSensor.TEMPERATURE.ordinal()] = 22.4;
+			sensor[DeviceSensor.VOC_INDEX.ordinal()] = 87;
+			sensor[DeviceSensor.TIMESTAMP.ordinal()] = 1717400000;
+		}
+		sensors[0][DeviceSensor.CO2.ordinal()] = 415;
+		sensors[1][DeviceSensor.CO2.ordinal()] = 420;
+		return sensors;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deterministic estimate of the heap retained by an object graph, counted the way JOL lays objects out on a 64-bit JVM
+ * with compressed references: 12 byte object headers, 16 byte array headers, 4 byte references, 8 byte alignment.
+ * Every object is counted once, however many references point to it, so shared strings count once.
+ * <p>
+ * The JDK types the caches are made of (strings, boxes, {@link HashMap}, {@link ArrayList}, {@link BitSet}) are sized from
+ * their public state, as their fields are not accessible; other JDK objects count their own fields only.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+final class HeapFootprint {
+	private static final int HEADER = 12;
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+	private static final int ALIGNMENT = 8;
+	private static final int HASH_MAP = 48;
+	private static final int HASH_MAP_NODE = 32;
+	private static final int ARRAY_LIST = 24;
+	private static final int BIT_SET = 24;
+	private static final int STRING = 24;
+
+	private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Deque<Object> pending = new ArrayDeque<>();
+
+	private HeapFootprint() {
+	}
+
+	/**
+	 * Estimates the bytes retained by an object graph
+	 *
+	 * @param root root of the graph
+	 * @return number of bytes
+	 */
+	static long measure(Object root) throws IllegalAccessException {
+		HeapFootprint footprint = new HeapFootprint();
+		footprint.add(root);
+		long bytes = 0;
+		while (!footprint.pending.isEmpty()) {
+			bytes += footprint.sizeOf(footprint.pending.pop());
+		}
+		return bytes;
+	}
+
+	/**
+	 * Queues an object unless it was counted already; enums and classes are shared by the whole JVM and not counted
+	 */
+	private void add(Object object) {
+		if (object != null && !(object instanceof Enum) && !(object instanceof Class) && visited.add(object)) {
+			pending.push(object);
+		}
+	}
+
+	/**
+	 * Counts an object and queues the objects it refers to
+	 */
+	private long sizeOf(Object object) throws IllegalAccessException {
+		Class<?> type = object.getClass();
+		if (type.isArray()) {
+			int length = Array.getLength(object);
+			if (!type.getComponentType().isPrimitive()) {
+				for (int i = 0; i < length; i++) {
+					add(Array.get(object, i));
+				}
+			}
+			return align(ARRAY_HEADER + (long) length * fieldSize(type.getComponentType()));
+		}
+		if (object instanceof String) {
+			String value = (String) object;
+			boolean latin1 = value.chars().allMatch(c -> c < 256);
+			return STRING + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+		}
+		if (object instanceof HashMap) {
+			Map<?, ?> map = (Map<?, ?>) object;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				add(entry.getKey());
+				add(entry.getValue());
+			}
+			return HASH_MAP + (map.isEmpty() ? 0 : align(ARRAY_HEADER + (long) tableSize(map.size()) * REFERENCE)) + (long) map.size() * HASH_MAP_NODE;
+		}
+		if (object instanceof ArrayList) {
+			ArrayList<?> list = (ArrayList<?>) object;
+			list.forEach(this::add);
+			return ARRAY_LIST + align(ARRAY_HEADER + (long) list.size() * REFERENCE);
+		}
+		if (object instanceof BitSet) {
+			return BIT_SET + align(ARRAY_HEADER + (long) ((BitSet) object).size() / Byte.SIZE);
+		}
+		long size = HEADER;
+		boolean jdkType = type.getName().startsWith("java.");
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				size += fieldSize(field.getType());
+				if (!jdkType && !field.getType().isPrimitive()) {
+					field.setAccessible(true);
+					add(field.get(object));
+				}
+			}
+		}
+		return align(size);
+	}
+
+	/**
+	 * Retrieves the size of a field or array element of a type
+	 */
+	private static int fieldSize(Class<?> type) {
+		if (type == long.class || type == double.class) {
+			return 8;
+		}
+		if (type == int.class || type == float.class) {
+			return 4;
+		}
+		if (type == short.class || type == char.class) {
+			return 2;
+		}
+		if (type == byte.class || type == boolean.class) {
+			return 1;
+		}
+		return REFERENCE;
+	}
+
+	/**
+	 * Retrieves the table length of a {@link HashMap} filled to a size, doubled whenever it exceeds the 0.75 load factor
+	 */
+	private static int tableSize(int size) {
+		int tableSize = 16;
+		while (size > tableSize * 3 / 4) {
+			tableSize *= 2;
+		}
+		return tableSize;
+	}
+
+	/**
+	 * Rounds a size up to the object alignment
+	 */
+	private static long align(long size) {
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+}
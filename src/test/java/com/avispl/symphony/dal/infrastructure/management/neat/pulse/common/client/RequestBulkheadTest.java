@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestBulkheadTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestBulkheadTest {
+
+	/**
+	 * Test case to verify interactive requests use their reserved permits while the sweep saturates its own.
+	 */
+	@Test
+	void testInteractiveIsNotQueuedBehindSweep() throws Exception {
+		RequestBulkhead bulkhead = new RequestBulkhead(2, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch sweepStarted = new CountDownLatch(2);
+		ExecutorService sweep = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 4; i++) {
+			sweep.submit(() -> bulkhead.execute(() -> {
+				sweepStarted.countDown();
+				return release.await(5, TimeUnit.SECONDS);
+			}));
+		}
+		Assert.assertTrue(sweepStarted.await(5, TimeUnit.SECONDS));
+
+		long start = System.nanoTime();
+		String response = bulkhead.callInLane(RequestLane.INTERACTIVE, () -> bulkhead.execute(() -> "ok"));
+		Assert.assertEquals("ok", response);
+		Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+
+		Map<String, String> stats = new HashMap<>();
+		bulkhead.populateStatistics(stats, "Lanes#");
+		Assert.assertEquals("2", stats.get("Lanes#SweepInFlight"));
+		Assert.assertEquals("1", stats.get("Lanes#InteractiveRequests"));
+		Assert.assertEquals("0", stats.get("Lanes#InteractiveInFlight"));
+
+		release.countDown();
+		sweep.shutdown();
+		Assert.assertTrue(sweep.awaitTermination(5, TimeUnit.SECONDS));
+		bulkhead.populateStatistics(stats, "Lanes#");
+		Assert.assertEquals("4", stats.get("Lanes#SweepRequests"));
+		Assert.assertEquals("0", stats.get("Lanes#SweepInFlight"));
+	}
+}
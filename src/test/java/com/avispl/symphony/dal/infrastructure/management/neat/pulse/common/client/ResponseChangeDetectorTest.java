@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+
+/**
+ * ResponseChangeDetectorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ResponseChangeDetectorTest {
+
+	/**
+	 * Test case to verify unchanged bodies and responses not modified are detected per device and endpoint class, and counted.
+	 */
+	@Test
+	void testChangeDetection() {
+		ResponseChangeDetector detector = new ResponseChangeDetector();
+		Assert.assertFalse(detector.isUnchanged("device-1", EndpointClass.INFO, 42));
+		detector.record("device-1", EndpointClass.INFO, null, -1, 42);
+		Assert.assertTrue(detector.isUnchanged("device-1", EndpointClass.INFO, 42));
+		Assert.assertFalse(detector.isUnchanged("device-1", EndpointClass.INFO, 43));
+		Assert.assertFalse(detector.isUnchanged("device-1", EndpointClass.CONFIG, 42));
+		Assert.assertFalse(detector.isUnchanged("device-2", EndpointClass.INFO, 42));
+
+		detector.record("device-1", EndpointClass.CONFIG, "\"v1\"", 1000, 7);
+		Assert.assertEquals("\"v1\"", detector.getEntityTag("device-1", EndpointClass.CONFIG));
+		Assert.assertEquals(1000, detector.getLastModified("device-1", EndpointClass.CONFIG));
+		Assert.assertNull(detector.getEntityTag("device-1", EndpointClass.INFO));
+		Assert.assertTrue(detector.recordNotModified("device-1", EndpointClass.CONFIG));
+
+		Map<String, String> stats = new HashMap<>();
+		detector.populateStatistics(stats, "ChangeDetection#");
+		Assert.assertEquals("4", stats.get("ChangeDetection#InfoRequests"));
+		Assert.assertEquals("1", stats.get("ChangeDetection#InfoUnchangedBodies"));
+		Assert.assertEquals("25.0", stats.get("ChangeDetection#InfoHitRatio(%)"));
+		Assert.assertEquals("1", stats.get("ChangeDetection#ConfigNotModified"));
+		Assert.assertEquals("50.0", stats.get("ChangeDetection#ConfigHitRatio(%)"));
+		Assert.assertFalse(stats.containsKey("ChangeDetection#SensorRequests"));
+	}
+
+	/**
+	 * Test case to verify a reset or removed device is fetched in full again, even when the API reports it not modified.
+	 */
+	@Test
+	void testResetAndRetain() {
+		ResponseChangeDetector detector = new ResponseChangeDetector();
+		detector.record("device-1", EndpointClass.CONFIG, "\"v1\"", -1, 7);
+		detector.record("device-2", EndpointClass.CONFIG, "\"v2\"", -1, 8);
+		detector.reset("device-1", EndpointClass.CONFIG);
+		Assert.assertFalse(detector.recordNotModified("device-1", EndpointClass.CONFIG));
+		Assert.assertFalse(detector.isUnchanged("device-1", EndpointClass.CONFIG, 7));
+
+		detector.retain(Collections.singletonList("device-3"));
+		Assert.assertNull(detector.getEntityTag("device-2", EndpointClass.CONFIG));
+		detector.clear();
+		Map<String, String> stats = new HashMap<>();
+		detector.populateStatistics(stats, "ChangeDetection#");
+		Assert.assertTrue(stats.isEmpty());
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.capture;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.NeatPulseCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.InMemoryNeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.SimulatedFleet;
+
+/**
+ * TrafficCaptureTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficCaptureTest {
+	private static final String ORGANIZATION_ID = "capture-org";
+
+	/**
+	 * Test case to verify captured calls, failures included, are served back the same, across capture sessions.
+	 */
+	@Test
+	void testCaptureAndReplay() throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(10, 2, 30, 10);
+		int padIndex = findDeviceWithoutSensor(fleet);
+		Path path = Files.createTempDirectory("capture").resolve("traffic.npc");
+		CapturingNeatPulseApiClient capturing = new CapturingNeatPulseApiClient(new InMemoryNeatPulseApiClient(fleet), ORGANIZATION_ID, new TrafficCaptureWriter(path));
+		List<String> endpointIds = capturing.getEndpointIds();
+		Integer roomCount = capturing.getRoomCount();
+		DeviceInfoResponse info = capturing.getDeviceInfo(SimulatedFleet.getDeviceId(3));
+		String brightness = capturing.getDeviceSettings(SimulatedFleet.getDeviceId(3)).getValues()[0];
+		try {
+			capturing.getDeviceSensor(SimulatedFleet.getDeviceId(padIndex));
+			Assert.fail("A device without sensor must fail");
+		} catch (CommandFailureException e) {
+			Assert.assertEquals(404, e.getStatusCode());
+		}
+		capturing.close();
+		capturing = new CapturingNeatPulseApiClient(new InMemoryNeatPulseApiClient(fleet), ORGANIZATION_ID, new TrafficCaptureWriter(path));
+		capturing.postDeviceConfig(SimulatedFleet.getDeviceId(3), Collections.singletonMap("brightness", 0.5));
+		capturing.close();
+
+		List<TrafficRecord> records = TrafficCaptureReader.read(path);
+		Assert.assertEquals(6, records.size());
+		Assert.assertEquals("api/v1/orgs/capture-org/endpoints", records.get(0).getPath());
+		Assert.assertEquals(404, records.get(4).getStatus());
+		Assert.assertTrue(records.get(5).isPost());
+
+		ReplayNeatPulseApiClient replay = new ReplayNeatPulseApiClient(path, ORGANIZATION_ID, Double.POSITIVE_INFINITY);
+		Assert.assertEquals(endpointIds, replay.getEndpointIds());
+		Assert.assertEquals(roomCount, replay.getRoomCount());
+		DeviceInfoResponse replayedInfo = replay.getDeviceInfo(SimulatedFleet.getDeviceId(3));
+		for (DeviceInfo item : DeviceInfo.values()) {
+			Assert.assertEquals(item.name(), info.getValue(item), replayedInfo.getValue(item));
+		}
+		Assert.assertEquals(brightness, replay.getDeviceSettings(SimulatedFleet.getDeviceId(3)).getValues()[0]);
+		Assert.assertEquals(0.5, replay.postDeviceConfig(SimulatedFleet.getDeviceId(3), Collections.emptyMap()).get("config").get("brightness").asDouble(), 0.001);
+		assertFailure(replay, SimulatedFleet.getDeviceId(padIndex), 404);
+		assertFailure(replay, SimulatedFleet.getDeviceId(99), 404);
+		Assert.assertEquals(6, replay.getReplayedCount());
+		Assert.assertEquals(1, replay.getMissedCount());
+	}
+
+	/**
+	 * Test case to verify the polling requests keep the change detection of the delegate and an unchanged response is replayed as unchanged.
+	 */
+	@Test
+	void testCaptureKeepsChangeDetection() throws Exception {
+		String deviceId = SimulatedFleet.getDeviceId(3);
+		Path path = Files.createTempDirectory("capture").resolve("traffic.npc");
+		InMemoryNeatPulseApiClient delegate = new InMemoryNeatPulseApiClient(new SimulatedFleet(10, 2, 30, 10)) {
+			private final AtomicInteger calls = new AtomicInteger();
+
+			@Override
+			public DeviceSettingsResponse getDeviceSettingsIfChanged(String id) throws Exception {
+				return calls.getAndIncrement() == 0 ? getDeviceSettings(id) : null;
+			}
+		};
+		try (CapturingNeatPulseApiClient capturing = new CapturingNeatPulseApiClient(delegate, ORGANIZATION_ID, new TrafficCaptureWriter(path))) {
+			Assert.assertNotNull(capturing.getDeviceSettingsIfChanged(deviceId));
+			Assert.assertNull(capturing.getDeviceSettingsIfChanged(deviceId));
+		}
+
+		List<TrafficRecord> records = TrafficCaptureReader.read(path);
+		Assert.assertEquals(2, records.size());
+		Assert.assertNull(records.get(1).getBody());
+		ReplayNeatPulseApiClient replay = new ReplayNeatPulseApiClient(records, ORGANIZATION_ID, Double.POSITIVE_INFINITY);
+		Assert.assertNotNull(replay.getDeviceSettingsIfChanged(deviceId));
+		Assert.assertNull(replay.getDeviceSettingsIfChanged(deviceId));
+	}
+
+	/**
+	 * Test case to verify the captured latency is waited for, divided by the replay speed.
+	 */
+	@Test
+	void testReplaySpeed() throws Exception {
+		List<TrafficRecord> records = Collections.singletonList(new TrafficRecord(0, false, "api/v1/orgs/capture-org/rooms", 200, 300_000, "4"));
+		ReplayNeatPulseApiClient original = new ReplayNeatPulseApiClient(records, ORGANIZATION_ID, 1);
+		long start = System.nanoTime();
+		Assert.assertEquals(Integer.valueOf(4), original.getRoomCount());
+		Assert.assertTrue(System.nanoTime() - start >= 300_000_000L);
+
+		ReplayNeatPulseApiClient accelerated = new ReplayNeatPulseApiClient(records, ORGANIZATION_ID, 100);
+		start = System.nanoTime();
+		Assert.assertEquals(Integer.valueOf(4), accelerated.getRoomCount());
+		Assert.assertTrue(System.nanoTime() - start < 250_000_000L);
+	}
+
+	/**
+	 * Test case to verify a capture cut in the middle of a record is read up to its last complete record.
+	 */
+	@Test
+	void testTruncatedCapture() throws Exception {
+		Path path = Files.createTempDirectory("capture").resolve("traffic.npc");
+		try (TrafficCaptureWriter writer = new TrafficCaptureWriter(path)) {
+			for (int i = 0; i < 100; i++) {
+				writer.append(new TrafficRecord(i, false, "api/v1/orgs/capture-org/endpoints/" + i, 200, 1000, "{\"index\":" + i + "}"));
+			}
+		}
+		try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+			file.setLength(file.length() - 20);
+		}
+		List<TrafficRecord> records = TrafficCaptureReader.read(path);
+		Assert.assertTrue(records.size() >= 90 && records.size() < 100);
+		Assert.assertEquals("{\"index\":42}", records.get(42).getBody());
+	}
+
+	/**
+	 * Test case to verify a communicator replaying the capture of another one publishes the same devices.
+	 */
+	@Test
+	void testCommunicatorReplaysCapture() throws Exception {
+		Path path = Files.createTempDirectory("capture").resolve("traffic.npc");
+		NeatPulseCommunicator capturing = createCommunicator(new InMemoryNeatPulseApiClient(new SimulatedFleet(30, 2, 30, 10)));
+		capturing.setApiTrafficCaptureFile(path.toString());
+		List<AggregatedDevice> captured = poll(capturing, 30);
+		Assert.assertFalse(capturing.getApiClient() instanceof CapturingNeatPulseApiClient);
+
+		NeatPulseCommunicator replaying = createCommunicator(new ReplayNeatPulseApiClient(path, ORGANIZATION_ID, Double.POSITIVE_INFINITY));
+		List<AggregatedDevice> replayed = poll(replaying, 30);
+		Assert.assertEquals(toNames(captured), toNames(replayed));
+	}
+
+	/**
+	 * Creates a communicator polling through a client
+	 */
+	private static NeatPulseCommunicator createCommunicator(NeatPulseApiClient client) throws Exception {
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword("");
+		communicator.setApiClient(client);
+		return communicator;
+	}
+
+	/**
+	 * Polls until every device is published, then destroys the communicator
+	 */
+	private static List<AggregatedDevice> poll(NeatPulseCommunicator communicator, int numberOfDevices) throws Exception {
+		communicator.init();
+		try {
+			communicator.getMultipleStatistics();
+			List<AggregatedDevice> devices = Collections.emptyList();
+			for (int i = 0; i < 60 && devices.size() < numberOfDevices; i++) {
+				Thread.sleep(250);
+				devices = communicator.retrieveMultipleStatistics();
+			}
+			Assert.assertEquals(numberOfDevices, devices.size());
+			return devices;
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Retrieves the sorted names of devices
+	 */
+	private static List<String> toNames(List<AggregatedDevice> devices) {
+		return devices.stream().map(AggregatedDevice::getDeviceName).sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Asserts the sensor command of a device fails with a status
+	 */
+	private static void assertFailure(NeatPulseApiClient client, String deviceId, int status) throws Exception {
+		try {
+			client.getDeviceSensor(deviceId);
+			Assert.fail("The sensor command must fail");
+		} catch (CommandFailureException e) {
+			Assert.assertEquals(status, e.getStatusCode());
+		}
+	}
+
+	/**
+	 * Finds a device of the fleet without sensor
+	 */
+	private static int findDeviceWithoutSensor(SimulatedFleet fleet) {
+		for (int i = 0; i < fleet.getNumberOfEndpoints(); i++) {
+			if (!fleet.hasSensor(i)) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Every device has a sensor");
+	}
+}
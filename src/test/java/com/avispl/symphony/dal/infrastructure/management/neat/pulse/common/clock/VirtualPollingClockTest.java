@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * VirtualPollingClockTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class VirtualPollingClockTest {
+
+	/**
+	 * Test case to verify a sleeping thread only wakes once the time is advanced past its wake-up time.
+	 */
+	@Test
+	void testSleepWakesOnAdvance() throws Exception {
+		VirtualPollingClock clock = new VirtualPollingClock(1000);
+		AtomicLong wokenAt = new AtomicLong();
+		CountDownLatch woken = new CountDownLatch(1);
+		Thread sleeper = new Thread(() -> {
+			try {
+				clock.sleep(60000);
+				wokenAt.set(clock.currentTimeMillis());
+				woken.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		sleeper.start();
+
+		Assert.assertTrue(clock.awaitSleeping(1, 5000));
+		clock.advance(59999);
+		Assert.assertFalse(woken.await(100, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(1, clock.getSleepingCount());
+		clock.advance(1);
+		Assert.assertTrue(woken.await(5, TimeUnit.SECONDS));
+		Assert.assertEquals(61000, wokenAt.get());
+		Assert.assertEquals(0, clock.getSleepingCount());
+	}
+
+	/**
+	 * Test case to verify the time advances to the earliest wake-up time without going past the limit.
+	 */
+	@Test
+	void testAdvanceToNextWakeUp() throws Exception {
+		VirtualPollingClock clock = new VirtualPollingClock(0);
+		Thread first = startSleeper(clock, 500);
+		Thread second = startSleeper(clock, 1000);
+		Assert.assertTrue(clock.awaitSleeping(2, 5000));
+
+		Assert.assertEquals(500, clock.advanceToNextWakeUp(10000));
+		first.join(5000);
+		Assert.assertFalse(first.isAlive());
+		Assert.assertEquals(800, clock.advanceToNextWakeUp(800));
+		Assert.assertEquals(1000, clock.advanceToNextWakeUp(10000));
+		second.join(5000);
+		Assert.assertFalse(second.isAlive());
+		Assert.assertEquals(10000, clock.advanceToNextWakeUp(10000));
+	}
+
+	/**
+	 * Test case to verify waiting for sleeping threads times out on real time.
+	 */
+	@Test
+	void testAwaitSleepingTimeout() throws Exception {
+		VirtualPollingClock clock = new VirtualPollingClock(0);
+		Assert.assertFalse(clock.awaitSleeping(1, 50));
+		clock.sleep(0);
+		Assert.assertEquals(0, clock.currentTimeMillis());
+	}
+
+	/**
+	 * Starts a thread sleeping on the clock
+	 */
+	private static Thread startSleeper(PollingClock clock, long millis) {
+		Thread thread = new Thread(() -> {
+			try {
+				clock.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		return thread;
+	}
+}
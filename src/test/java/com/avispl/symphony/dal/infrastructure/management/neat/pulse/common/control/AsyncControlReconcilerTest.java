@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AsyncControlReconcilerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AsyncControlReconcilerTest {
+
+	/**
+	 * Test case to verify a burst of writes to the same property sends only the last one, in order with other writes of the device.
+	 */
+	@Test
+	void testBurstSendsLatestWrite() throws Exception {
+		AsyncControlReconciler reconciler = new AsyncControlReconciler("test-async", 2);
+		List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		for (int i = 0; i < 5; i++) {
+			String value = String.valueOf(i * 10);
+			reconciler.submit("device-1", "device-1#brightness", "0", 100, "brightness", () -> sent.add("brightness=" + value), restored -> Assert.fail());
+		}
+		reconciler.submit("device-1", "device-1#language", "en", 0, "language", () -> sent.add("language=de"), restored -> Assert.fail());
+		Assert.assertEquals(6, reconciler.getPendingCount());
+		awaitIdle(reconciler);
+
+		Map<String, String> stats = new HashMap<>();
+		reconciler.populateStatistics(stats, "Async#");
+		Assert.assertEquals(Arrays.asList("brightness=40", "language=de"), sent);
+		Assert.assertEquals("2", stats.get("Async#Confirmed"));
+		Assert.assertEquals("4", stats.get("Async#Superseded"));
+		Assert.assertEquals("0", stats.get("Async#Pending"));
+		reconciler.stop();
+	}
+
+	/**
+	 * Test case to verify a write that is not confirmed restores the value cached before the first unsent write.
+	 */
+	@Test
+	void testFailedWriteRestoresBaseline() throws Exception {
+		AsyncControlReconciler reconciler = new AsyncControlReconciler("test-async", 1);
+		AtomicReference<String> restored = new AtomicReference<>();
+		reconciler.submit("device-1", "device-1#timezone", "America/New_York", 100, "timezone", () -> Assert.fail(), restored::set);
+		reconciler.submit("device-1", "device-1#timezone", "Europe/Berlin", 100, "timezone", () -> {
+			throw new IllegalArgumentException("not confirmed");
+		}, restored::set);
+		awaitIdle(reconciler);
+
+		Map<String, String> stats = new HashMap<>();
+		reconciler.populateStatistics(stats, "Async#");
+		Assert.assertEquals("America/New_York", restored.get());
+		Assert.assertEquals("1", stats.get("Async#Reverted"));
+		Assert.assertEquals("timezone: not confirmed", stats.get("Async#LastError"));
+		reconciler.stop();
+	}
+
+	/**
+	 * Waits for the pending writes to complete
+	 */
+	private void awaitIdle(AsyncControlReconciler reconciler) throws InterruptedException {
+		for (int i = 0; i < 100 && reconciler.getPendingCount() > 0; i++) {
+			Thread.sleep(20);
+		}
+		Assert.assertEquals(0, reconciler.getPendingCount());
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+
+/**
+ * BulkControlExecutorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class BulkControlExecutorTest {
+
+	/**
+	 * Test case to verify parallelism stays bounded, transient failures are retried and other failures are counted once.
+	 */
+	@Test
+	void testBoundedParallelismAndRetries() throws Exception {
+		BulkControlExecutor executor = new BulkControlExecutor("test-bulk", RateLimiter.create(1000));
+		List<String> deviceIds = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			deviceIds.add("device-" + i);
+		}
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+		Assert.assertTrue(executor.start("test", deviceIds, 3, deviceId -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+				if ("device-7".equals(deviceId) && failedOnce.add(deviceId)) {
+					throw new CommandFailureException("host", "uri", "{}", 503, null);
+				}
+				if ("device-9".equals(deviceId)) {
+					throw new CommandFailureException("host", "uri", "{}", 409, null);
+				}
+			} finally {
+				running.decrementAndGet();
+			}
+		}));
+		Assert.assertFalse(executor.start("second", deviceIds, 3, deviceId -> {
+		}));
+		for (int i = 0; i < 100 && executor.isRunning(); i++) {
+			Thread.sleep(50);
+		}
+		Map<String, String> stats = new HashMap<>();
+		executor.populateStatistics(stats, "Bulk#");
+		Assert.assertEquals("Completed", stats.get("Bulk#Status"));
+		Assert.assertEquals("39", stats.get("Bulk#Succeeded"));
+		Assert.assertEquals("1", stats.get("Bulk#Failed"));
+		Assert.assertEquals("1", stats.get("Bulk#Retries"));
+		Assert.assertTrue(maxRunning.get() <= 3);
+	}
+}
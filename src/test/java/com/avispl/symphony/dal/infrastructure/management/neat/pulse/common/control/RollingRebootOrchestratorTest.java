@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * RollingRebootOrchestratorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RollingRebootOrchestratorTest {
+
+	/**
+	 * Test case to verify devices are rebooted in waves and a wave starts only once the previous one reconnected.
+	 */
+	@Test
+	void testWavesWaitForReconnection() throws Exception {
+		RollingRebootOrchestrator orchestrator = new RollingRebootOrchestrator("test-reboot", RateLimiter.create(1000), 10, 10, 2000);
+		Set<String> offline = ConcurrentHashMap.newKeySet();
+		Map<String, Integer> probes = new ConcurrentHashMap<>();
+		List<String> rebootOrder = Collections.synchronizedList(new ArrayList<>());
+		Assert.assertTrue(orchestrator.start(Arrays.asList("a", "b", "c", "d", "e"), 2, deviceId -> {
+			Assert.assertTrue("more devices offline than the wave size", offline.size() < 2);
+			rebootOrder.add(deviceId);
+			offline.add(deviceId);
+		}, deviceId -> {
+			if (probes.merge(deviceId, 1, Integer::sum) >= 3) {
+				offline.remove(deviceId);
+			}
+			return !offline.contains(deviceId);
+		}));
+		awaitEnd(orchestrator);
+		Map<String, String> stats = new HashMap<>();
+		orchestrator.populateStatistics(stats, "Reboot#");
+		Assert.assertEquals("Completed", stats.get("Reboot#Status"));
+		Assert.assertEquals("3", stats.get("Reboot#TotalWaves"));
+		Assert.assertEquals("5", stats.get("Reboot#Recovered"));
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), rebootOrder);
+	}
+
+	/**
+	 * Test case to verify the rollout halts when a wave does not reconnect in time.
+	 */
+	@Test
+	void testRolloutHaltsWhenWaveDoesNotReconnect() throws Exception {
+		RollingRebootOrchestrator orchestrator = new RollingRebootOrchestrator("test-reboot", RateLimiter.create(1000), 10, 10, 100);
+		List<String> rebootOrder = Collections.synchronizedList(new ArrayList<>());
+		Assert.assertTrue(orchestrator.start(Arrays.asList("a", "b", "c"), 1, rebootOrder::add, deviceId -> !"a".equals(deviceId)));
+		awaitEnd(orchestrator);
+		Map<String, String> stats = new HashMap<>();
+		orchestrator.populateStatistics(stats, "Reboot#");
+		Assert.assertEquals("Halted", stats.get("Reboot#Status"));
+		Assert.assertEquals("1", stats.get("Reboot#Failed"));
+		Assert.assertEquals(Collections.singletonList("a"), rebootOrder);
+	}
+
+	/**
+	 * Test case to verify cancelling in the middle of a wave reboots no further device, even when the reboot request swallows the interrupt.
+	 */
+	@Test
+	void testCancelInMiddleOfWave() throws Exception {
+		RollingRebootOrchestrator orchestrator = new RollingRebootOrchestrator("test-reboot", RateLimiter.create(1000), 10, 10, 2000);
+		List<String> rebootOrder = Collections.synchronizedList(new ArrayList<>());
+		Assert.assertTrue(orchestrator.start(Arrays.asList("a", "b", "c", "d", "e", "f"), 3, deviceId -> {
+			rebootOrder.add(deviceId);
+			if ("b".equals(deviceId)) {
+				orchestrator.stop();
+				Thread.interrupted();
+			}
+		}, deviceId -> true));
+		awaitEnd(orchestrator);
+		Map<String, String> stats = new HashMap<>();
+		orchestrator.populateStatistics(stats, "Reboot#");
+		Assert.assertEquals("Cancelled", stats.get("Reboot#Status"));
+		Assert.assertEquals("1", stats.get("Reboot#CurrentWave"));
+		Assert.assertEquals(Arrays.asList("a", "b"), rebootOrder);
+	}
+
+	/**
+	 * Waits until the rollout is over
+	 */
+	private void awaitEnd(RollingRebootOrchestrator orchestrator) throws InterruptedException {
+		for (int i = 0; i < 200 && orchestrator.isRunning(); i++) {
+			Thread.sleep(25);
+		}
+		Assert.assertFalse(orchestrator.isRunning());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * DeviceResponseParsingTest
+ * Checks the typed records bind the values of the generic JsonNode mapping they replaced; their parse time and
+ * allocation are compared by DeviceResponseParsingBenchmark.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceResponseParsingTest {
+	private static final byte[] DEVICE_INFO_RESPONSE = ("{\"id\":\"58fdaf7d-beb6-4d5c-ad35-aa28e84e4358\",\"serial\":\"NA12225002340\",\"connected\":true,"
+			+ "\"model\":\"NF19A1\",\"firmwareVersion\":\"NFA1.20240312.0503\",\"latestVersion\":\"NFA1.20240312.0503\",\"roomId\":1022,"
+			+ "\"roomName\":\"Symphony Lab\",\"controllerMode\":\"Room Controller\",\"localIpAddress\":\"10.10.2.11\",\"inCallStatus\":\"IDLE\","
+			+ "\"otaChannel\":\"stable\",\"connectionTime\":\"2024-05-03T05:04:12.345Z\",\"primaryMode\":\"msteams\",\"regionId\":\"us\","
+			+ "\"macAddresses\":[\"aa:bb:cc:dd:ee:ff\",\"aa:bb:cc:dd:ee:00\"],\"capabilities\":{\"sensor\":true,\"camera\":false,\"audio\":[\"usb\",\"hdmi\"]}}")
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] DEVICE_SETTINGS_RESPONSE = ("{\"screenStandby\":300000,\"autoWakeup\":true,\"nightMode\":false,\"brightness\":0.5,"
+			+ "\"hdmiCecControl\":true,\"screenStayOn\":false,\"frameRatePreferred\":true,\"bluetooth\":true,\"byodMode\":false,\"time24h\":true,"
+			+ "\"dateFormat\":\"MM/dd/yyyy\",\"ntpServer\":\"time.google.com\",\"timezone\":\"America/New_York\",\"language\":\"en-US\","
+			+ "\"usbAudio\":false,\"highContrast\":false,\"screenReader\":false,\"fontSize\":\"default\",\"colorCorrection\":\"disabled\","
+			+ "\"profileId\":\"p-1\",\"locked\":[\"timezone\",\"language\"],\"wifi\":{\"ssid\":\"lab\",\"band\":5}}").getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectReader deviceInfoReader = objectMapper.readerFor(DeviceInfoResponse.class);
+	private final ObjectReader deviceSettingsReader = objectMapper.readerFor(DeviceSettingsResponse.class);
+
+	/**
+	 * Test case to verify the typed record binds the same values as the JsonNode mapping.
+	 */
+	@Test
+	void testTypedRecordsMatchJsonNodeMapping() throws Exception {
+		DeviceInfoResponse info = deviceInfoReader.readValue(DEVICE_INFO_RESPONSE);
+		Map<DeviceInfo, String> expectedInfo = mapInfoWithJsonNode(DEVICE_INFO_RESPONSE);
+		for (DeviceInfo item : DeviceInfo.values()) {
+			Assert.assertEquals(expectedInfo.get(item), info.getValue(item));
+		}
+		DeviceSettingsResponse settings = deviceSettingsReader.readValue(DEVICE_SETTINGS_RESPONSE);
+		Map<DeviceSettings, String> expectedSettings = mapSettingsWithJsonNode(DEVICE_SETTINGS_RESPONSE);
+		for (DeviceSettings item : DeviceSettings.values()) {
+			String expected = expectedSettings.get(item);
+			Assert.assertEquals(NeatPulseConstant.EMPTY.equals(expected) ? null : expected, settings.getValue(item));
+		}
+	}
+
+	/**
+	 * Test case to verify null and non-numeric values keep the text the JsonNode mapping rendered.
+	 */
+	@Test
+	void testNullAndNonNumericValues() throws Exception {
+		byte[] infoResponse = "{\"roomName\":null,\"firmwareVersion\":\"\",\"connected\":true}".getBytes(StandardCharsets.UTF_8);
+		DeviceInfoResponse info = deviceInfoReader.readValue(infoResponse);
+		Map<DeviceInfo, String> expectedInfo = mapInfoWithJsonNode(infoResponse);
+		Assert.assertEquals("null", info.getValue(DeviceInfo.ROOM_NAME));
+		for (DeviceInfo item : DeviceInfo.values()) {
+			String value = info.getValue(item);
+			Assert.assertEquals(expectedInfo.get(item), value == null ? NeatPulseConstant.EMPTY : value);
+		}
+		byte[] settingsResponse = "{\"brightness\":0.50,\"timezone\":null,\"nightMode\":\"n/a\"}".getBytes(StandardCharsets.UTF_8);
+		DeviceSettingsResponse settings = deviceSettingsReader.readValue(settingsResponse);
+		Map<DeviceSettings, String> expectedSettings = mapSettingsWithJsonNode(settingsResponse);
+		Assert.assertEquals("null", settings.getValue(DeviceSettings.TIME_ZONE));
+		Assert.assertEquals("0.5", settings.getValue(DeviceSettings.SCREEN_BRIGHTNESS));
+		for (DeviceSettings item : DeviceSettings.values()) {
+			String expected = expectedSettings.get(item);
+			Assert.assertEquals(NeatPulseConstant.EMPTY.equals(expected) ? null : expected, settings.getValue(item));
+		}
+
+		JsonNode sensorData = objectMapper.readTree("[{\"co2\":null,\"temp\":\"n/a\",\"humidity\":\"45.5\",\"voc\":412,\"people\":\"unknown\"},{\"co2\":400}]");
+		DeviceSensorResponse sensors = DeviceSensorResponse.parse(sensorData);
+		Assert.assertEquals(2, sensors.getSensorCount());
+		Assert.assertTrue(Double.isNaN(sensors.getValue(0, DeviceSensor.CO2)));
+		Assert.assertEquals("null", sensors.getText(0, DeviceSensor.CO2));
+		Assert.assertTrue(Double.isNaN(sensors.getValue(0, DeviceSensor.TEMPERATURE)));
+		Assert.assertEquals("n/a", sensors.getText(0, DeviceSensor.TEMPERATURE));
+		Assert.assertEquals("unknown", sensors.getText(0, DeviceSensor.PEOPLE_COUNT));
+		Assert.assertEquals(45.5, sensors.getValue(0, DeviceSensor.HUMIDITY), 0.0);
+		Assert.assertNull(sensors.getText(0, DeviceSensor.HUMIDITY));
+		Assert.assertEquals(412, sensors.getValue(0, DeviceSensor.VOC), 0.0);
+		Assert.assertTrue(Double.isNaN(sensors.getValue(0, DeviceSensor.ILLUMINATION)));
+		Assert.assertNull(sensors.getText(0, DeviceSensor.ILLUMINATION));
+		Assert.assertEquals(400, sensors.getValue(1, DeviceSensor.CO2), 0.0);
+		Assert.assertNull(sensors.getTexts()[1]);
+	}
+
+	/**
+	 * Maps the info response the way the communicator did before the typed records
+	 */
+	private Map<DeviceInfo, String> mapInfoWithJsonNode(byte[] body) throws Exception {
+		JsonNode response = objectMapper.readTree(body);
+		Map<DeviceInfo, String> mappingValue = new EnumMap<>(DeviceInfo.class);
+		for (DeviceInfo item : DeviceInfo.values()) {
+			String value = NeatPulseConstant.EMPTY;
+			JsonNode itemValueNode = response.get(item.getValue());
+			if (itemValueNode != null) {
+				value = itemValueNode.isArray() ? itemValueNode.toString() : itemValueNode.asText();
+			}
+			mappingValue.put(item, value);
+		}
+		return mappingValue;
+	}
+
+	/**
+	 * Maps the config response the way the communicator did before the typed records
+	 */
+	private Map<DeviceSettings, String> mapSettingsWithJsonNode(byte[] body) throws Exception {
+		JsonNode response = objectMapper.readTree(body);
+		Map<DeviceSettings, String> mappingValue = new EnumMap<>(DeviceSettings.class);
+		for (DeviceSettings item : DeviceSettings.values()) {
+			String value = NeatPulseConstant.EMPTY;
+			if (response.has(item.getValue())) {
+				value = response.get(item.getValue()).asText();
+			}
+			mappingValue.put(item, value);
+		}
+		return mappingValue;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.FreshnessTracker.EndpointClass;
+
+/**
+ * FreshnessTrackerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FreshnessTrackerTest {
+	private static final long START = 1_700_000_000_000L;
+
+	/**
+	 * Test case to verify the staleness of a device is the age of its oldest endpoint class, counted from discovery when never refreshed.
+	 */
+	@Test
+	void testStalenessOfOldestEndpointClass() {
+		FreshnessTracker tracker = new FreshnessTracker();
+		List<String> deviceIds = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			deviceIds.add("device-" + i);
+			tracker.discover("device-" + i, START);
+		}
+		for (int i = 0; i < 100; i++) {
+			long now = START + TimeUnit.MINUTES.toMillis(i);
+			for (EndpointClass endpointClass : EndpointClass.values()) {
+				if (i != 99 || endpointClass != EndpointClass.CONFIG) {
+					tracker.recordRefresh("device-" + i, endpointClass, now);
+				}
+			}
+		}
+		Assert.assertEquals(START + TimeUnit.MINUTES.toMillis(42), tracker.getLastRefreshes("device-42")[EndpointClass.SENSOR.ordinal()]);
+		Assert.assertEquals(0, tracker.getLastRefreshes("device-99")[EndpointClass.CONFIG.ordinal()]);
+
+		Map<String, String> stats = new HashMap<>();
+		long now = START + TimeUnit.MINUTES.toMillis(100);
+		tracker.populateStatistics(stats, "Polling#", TimeUnit.MINUTES.toMillis(30), now);
+		Assert.assertEquals(String.valueOf(TimeUnit.MINUTES.toSeconds(100)), stats.get("Polling#MaxStaleness(s)"));
+		Assert.assertEquals(String.valueOf(TimeUnit.MINUTES.toSeconds(97)), stats.get("Polling#P95Staleness(s)"));
+		Assert.assertEquals("71", stats.get("Polling#DevicesOverStalenessSLO"));
+
+		deviceIds.remove("device-99");
+		deviceIds.remove("device-0");
+		tracker.retain(deviceIds);
+		tracker.populateStatistics(stats, "Polling#", TimeUnit.MINUTES.toMillis(30), now);
+		Assert.assertEquals(String.valueOf(TimeUnit.MINUTES.toSeconds(99)), stats.get("Polling#MaxStaleness(s)"));
+		Assert.assertEquals("69", stats.get("Polling#DevicesOverStalenessSLO"));
+	}
+
+	/**
+	 * Test case to verify the statistics of the last polling cycle.
+	 */
+	@Test
+	void testCycleStatistics() {
+		FreshnessTracker tracker = new FreshnessTracker();
+		tracker.startCycle(START);
+		for (int i = 0; i < 20; i++) {
+			tracker.recordRefresh("device-" + i, EndpointClass.INFO, START);
+			tracker.recordRefresh("device-" + i, EndpointClass.SENSOR, START);
+			if (i < 5) {
+				tracker.recordFailure();
+			} else {
+				tracker.recordRefresh("device-" + i, EndpointClass.CONFIG, START);
+			}
+		}
+		tracker.endCycle(20, START + 4000);
+
+		Map<String, String> stats = new HashMap<>();
+		tracker.populateStatistics(stats, "Polling#", TimeUnit.MINUTES.toMillis(30), START + 4000);
+		Assert.assertEquals("4", stats.get("Polling#LastCycleDuration(s)"));
+		Assert.assertEquals("20", stats.get("Polling#LastCycleDevices"));
+		Assert.assertEquals("5.0", stats.get("Polling#DevicesRefreshedPerSecond"));
+		Assert.assertEquals("8.3", stats.get("Polling#ErrorRate(%)"));
+		Assert.assertEquals("0", stats.get("Polling#DevicesOverStalenessSLO"));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseCommand;
+
+/**
+ * LatencyMetricsTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyMetricsTest {
+
+	/**
+	 * Test case to verify every value falls in a bucket whose highest value is within 3.2% of it.
+	 */
+	@Test
+	void testBucketPrecision() {
+		for (long value = 0; value < 10_000_000_000L; value = value * 3 / 2 + 1) {
+			long highest = LatencyHistogram.getHighestValue(LatencyHistogram.getBucketIndex(value));
+			Assert.assertTrue(highest >= value);
+			Assert.assertTrue(highest - value <= Math.max(1, value * 0.032));
+		}
+		Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.getHighestValue(LatencyHistogram.getBucketIndex(Long.MAX_VALUE)));
+	}
+
+	/**
+	 * Test case to verify percentiles are computed over the window since the previous call.
+	 */
+	@Test
+	void testPercentilesPerWindow() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		long[] window = histogram.takeWindow();
+		Assert.assertEquals(1000, LatencyHistogram.getTotalCount(window));
+		assertClose(500_000, LatencyHistogram.getValueAtPercentile(window, 50));
+		assertClose(950_000, LatencyHistogram.getValueAtPercentile(window, 95));
+		assertClose(990_000, LatencyHistogram.getValueAtPercentile(window, 99));
+
+		histogram.record(42);
+		window = histogram.takeWindow();
+		Assert.assertEquals(1, LatencyHistogram.getTotalCount(window));
+		Assert.assertEquals(42, LatencyHistogram.getValueAtPercentile(window, 99));
+		Assert.assertEquals(0, LatencyHistogram.getValueAtPercentile(histogram.takeWindow(), 50));
+	}
+
+	/**
+	 * Test case to verify requests are attributed to their endpoint and outcome.
+	 */
+	@Test
+	void testRequestOutcomes() throws Exception {
+		String info = String.format(NeatPulseCommand.GET_DEVICE_INFO_COMMAND, "org", "device-1");
+		String config = String.format(NeatPulseCommand.GET_DEVICE_SETTINGS_COMMAND, "org", "device-1");
+		Assert.assertEquals(LatencyMetric.GET_DEVICE_INFO, LatencyMetric.forRequest(info, false));
+		Assert.assertEquals(LatencyMetric.GET_DEVICE_SETTINGS, LatencyMetric.forRequest(config, false));
+		Assert.assertEquals(LatencyMetric.CONTROL_DEVICE, LatencyMetric.forRequest(config, true));
+		Assert.assertEquals(LatencyMetric.ALL_DEVICE_ID, LatencyMetric.forRequest(String.format(NeatPulseCommand.ALL_DEVICE_ID_COMMAND, "org"), false));
+
+		LatencyMetrics metrics = new LatencyMetrics();
+		Assert.assertEquals("ok", metrics.measure(LatencyMetric.GET_DEVICE_INFO, () -> "ok"));
+		for (int status : new int[] { 404, 429, 503 }) {
+			try {
+				metrics.measure(LatencyMetric.GET_DEVICE_INFO, () -> {
+					throw new CommandFailureException("host", info, "{}", status, null);
+				});
+				Assert.fail();
+			} catch (CommandFailureException e) {
+				Assert.assertEquals(status, e.getStatusCode());
+			}
+		}
+		metrics.record(LatencyMetric.POPULATE_DEVICE_INFO, System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(20));
+
+		Map<String, String> stats = new HashMap<>();
+		metrics.populateStatistics(stats, "Latency#");
+		Assert.assertEquals("4", stats.get("Latency#EndpointInfoCount"));
+		Assert.assertEquals("1", stats.get("Latency#EndpointInfoSuccess"));
+		Assert.assertEquals("2", stats.get("Latency#EndpointInfo4xx"));
+		Assert.assertEquals("1", stats.get("Latency#EndpointInfo5xx"));
+		Assert.assertEquals("0", stats.get("Latency#EndpointInfoTimeout"));
+		Assert.assertEquals("1", stats.get("Latency#PopulateDeviceInfoCount"));
+		Assert.assertTrue(Long.parseLong(stats.get("Latency#PopulateDeviceInfoP99(us)")) >= 20);
+		Assert.assertNull(stats.get("Latency#PopulateDeviceInfoSuccess"));
+
+		metrics.populateStatistics(stats, "Latency#");
+		Assert.assertEquals("0", stats.get("Latency#EndpointInfoCount"));
+		Assert.assertEquals("0", stats.get("Latency#EndpointInfo4xx"));
+	}
+
+	/**
+	 * Asserts a percentile is within the bucket precision of the expected value
+	 */
+	private void assertClose(long expected, long actual) {
+		Assert.assertTrue(String.format("expected about %d but was %d", expected, actual), Math.abs(actual - expected) <= expected * 0.032);
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.client.NeatPulseApiClient;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock.PollingClock;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceInfoResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.dto.DeviceSettingsResponse;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator.Route;
+
+/**
+ * InMemoryNeatPulseApiClient
+ * {@link NeatPulseApiClient} answering from a {@link SimulatedFleet} without any network I/O,
+ * to profile scheduling, caching and mapping of the communicator on their own.
+ * Response times are read from a {@link PollingClock}, the one of the communicator when it runs on virtual time.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class InMemoryNeatPulseApiClient implements NeatPulseApiClient, SimulatedApi {
+	private static final String HOST = "in-memory";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Route, LongAdder> requestCounts = new EnumMap<>(Route.class);
+	private final Map<Route, LongAdder> answeredCounts = new EnumMap<>(Route.class);
+	private final Map<Route, AtomicLongArray> lastResponses = new EnumMap<>(Route.class);
+	private final SimulatedFleet fleet;
+	private final PollingClock clock;
+
+	/**
+	 * InMemoryNeatPulseApiClient constructor, on the wall clock
+	 *
+	 * @param fleet the endpoints of the organization
+	 */
+	public InMemoryNeatPulseApiClient(SimulatedFleet fleet) {
+		this(fleet, PollingClock.SYSTEM);
+	}
+
+	/**
+	 * InMemoryNeatPulseApiClient constructor
+	 *
+	 * @param fleet the endpoints of the organization
+	 * @param clock source of the response times
+	 */
+	public InMemoryNeatPulseApiClient(SimulatedFleet fleet, PollingClock clock) {
+		this.fleet = fleet;
+		this.clock = clock;
+		for (Route route : Route.values()) {
+			requestCounts.put(route, new LongAdder());
+			answeredCounts.put(route, new LongAdder());
+		}
+		lastResponses.put(Route.INFO, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+		lastResponses.put(Route.SENSOR, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+		lastResponses.put(Route.CONFIG, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRequestCount(Route route) {
+		return requestCounts.get(route).sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAnsweredCount(Route route) {
+		return answeredCounts.get(route).sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getLastResponse(Route route, int index) {
+		AtomicLongArray responses = lastResponses.get(route);
+		if (responses == null) {
+			throw new IllegalArgumentException("Responses of " + route + " are not tracked per endpoint");
+		}
+		return responses.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The in-memory client never rate limits.
+	 */
+	@Override
+	public long getRateLimitedCount() {
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The in-memory client never fails.
+	 */
+	@Override
+	public long getServerErrorCount() {
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> getEndpointIds() {
+		requestCounts.get(Route.ENDPOINTS).increment();
+		answeredCounts.get(Route.ENDPOINTS).increment();
+		List<String> endpointIds = new ArrayList<>(fleet.getNumberOfEndpoints());
+		for (int i = 0; i < fleet.getNumberOfEndpoints(); i++) {
+			endpointIds.add(SimulatedFleet.getDeviceId(i));
+		}
+		return endpointIds;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer getRoomCount() {
+		requestCounts.get(Route.ROOMS).increment();
+		answeredCounts.get(Route.ROOMS).increment();
+		return fleet.getNumberOfRooms();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceInfoResponse getDeviceInfo(String deviceId) throws Exception {
+		int index = getIndex(Route.INFO, deviceId);
+		DeviceInfoResponse response = objectMapper.treeToValue(fleet.createInfo(index), DeviceInfoResponse.class);
+		answered(Route.INFO, index);
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode getDeviceSensor(String deviceId) throws Exception {
+		int index = getIndex(Route.SENSOR, deviceId);
+		answered(Route.SENSOR, index);
+		if (!fleet.hasSensor(index)) {
+			throw new CommandFailureException(HOST, deviceId, "{\"message\":\"Sensor data is not supported\"}", 404, null);
+		}
+		return fleet.createSensor(index, clock.currentTimeMillis());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DeviceSettingsResponse getDeviceSettings(String deviceId) throws Exception {
+		int index = getIndex(Route.CONFIG, deviceId);
+		DeviceSettingsResponse response = objectMapper.treeToValue(fleet.createConfig(index), DeviceSettingsResponse.class);
+		answered(Route.CONFIG, index);
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode postDeviceConfig(String deviceId, Map<String, Object> fields) throws Exception {
+		int index = getIndex(Route.CONTROL, deviceId);
+		JsonNode response = fleet.applyConfig(index, objectMapper.valueToTree(fields));
+		answered(Route.CONTROL, index);
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JsonNode rebootDevice(String deviceId) throws Exception {
+		answered(Route.REBOOT, getIndex(Route.REBOOT, deviceId));
+		return objectMapper.createObjectNode().put(NeatPulseConstant.STATUS, 200).put(NeatPulseConstant.MESSAGE, "Reboot requested");
+	}
+
+	/**
+	 * Counts a successful call and updates the last response time of the endpoint
+	 *
+	 * @param route the command
+	 * @param index index of the endpoint
+	 */
+	private void answered(Route route, int index) {
+		answeredCounts.get(route).increment();
+		AtomicLongArray responses = lastResponses.get(route);
+		if (responses != null) {
+			responses.set(index, clock.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * Counts a call and resolves the endpoint it targets
+	 *
+	 * @param route the command
+	 * @param deviceId id of the endpoint
+	 * @return index of the endpoint
+	 * @throws CommandFailureException if the organization has no such endpoint
+	 */
+	private int getIndex(Route route, String deviceId) throws CommandFailureException {
+		requestCounts.get(route).increment();
+		int index = fleet.getIndex(deviceId);
+		if (index < 0) {
+			throw new CommandFailureException(HOST, deviceId, "{\"message\":\"Endpoint not found\"}", 404, null);
+		}
+		return index;
+	}
+}
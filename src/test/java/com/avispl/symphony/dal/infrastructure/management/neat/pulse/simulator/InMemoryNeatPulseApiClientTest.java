@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.NeatPulseCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator.Route;
+
+/**
+ * InMemoryNeatPulseApiClientTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class InMemoryNeatPulseApiClientTest {
+
+	/**
+	 * Test case to verify the communicator polls and controls through a plugged in client, without network I/O.
+	 */
+	@Test
+	void testCommunicatorUsesPluggedClient() throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(40, 2, 30, 10);
+		InMemoryNeatPulseApiClient client = new InMemoryNeatPulseApiClient(fleet);
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin("in-memory-org");
+		communicator.setPassword("");
+		communicator.setApiClient(client);
+		communicator.init();
+		try {
+			Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertEquals("40", statistics.get("NumberOfDevices"));
+			Assert.assertEquals("20", statistics.get("NumberOfPulseRooms"));
+
+			List<AggregatedDevice> devices = Collections.emptyList();
+			for (int i = 0; i < 60 && devices.size() < 40; i++) {
+				Thread.sleep(250);
+				devices = communicator.retrieveMultipleStatistics();
+			}
+			Assert.assertEquals(40, devices.size());
+			Assert.assertEquals(40, client.getRequestCount(Route.INFO));
+
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setDeviceId(SimulatedFleet.getDeviceId(6));
+			controllableProperty.setProperty("Display#ScreenBrightness(%)");
+			controllableProperty.setValue("85");
+			communicator.controlProperty(controllableProperty);
+			Assert.assertEquals(1, client.getRequestCount(Route.CONTROL));
+			Assert.assertEquals(0.85, fleet.createConfig(7).get("brightness").asDouble(), 0.001);
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Test case to verify a slider burst returning to the cached value within the debounce window leaves the device on that value.
+	 */
+	@Test
+	void testBurstBackToCachedValue() throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(4, 2, 30, 10);
+		InMemoryNeatPulseApiClient client = new InMemoryNeatPulseApiClient(fleet);
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin("in-memory-org");
+		communicator.setPassword("");
+		communicator.setControlDebounceWindow(300);
+		communicator.setApiClient(client);
+		communicator.init();
+		ExecutorService controls = Executors.newFixedThreadPool(2);
+		try {
+			communicator.getMultipleStatistics();
+			List<AggregatedDevice> devices = Collections.emptyList();
+			for (int i = 0; i < 60 && devices.size() < 4; i++) {
+				Thread.sleep(250);
+				devices = communicator.retrieveMultipleStatistics();
+			}
+			Assert.assertEquals(4, devices.size());
+
+			Future<?> first = controls.submit(() -> controlBrightness(communicator, "60"));
+			Thread.sleep(50);
+			Future<?> second = controls.submit(() -> controlBrightness(communicator, "50"));
+			first.get(5, TimeUnit.SECONDS);
+			second.get(5, TimeUnit.SECONDS);
+			Assert.assertEquals(0, client.getRequestCount(Route.CONTROL));
+			Assert.assertEquals(0.5, fleet.createConfig(2).get("brightness").asDouble(), 0.001);
+		} finally {
+			controls.shutdownNow();
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Test case to verify sensor readings that are null or not numeric are rendered as they are reported.
+	 */
+	@Test
+	void testNonNumericSensorReadings() throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(2, 2, 0, 0);
+		InMemoryNeatPulseApiClient client = new InMemoryNeatPulseApiClient(fleet) {
+			@Override
+			public JsonNode getDeviceSensor(String deviceId) throws Exception {
+				ObjectNode response = (ObjectNode) super.getDeviceSensor(deviceId);
+				ObjectNode reading = (ObjectNode) response.get(NeatPulseConstant.ENDPOINT_DATA).get(NeatPulseConstant.DATA).get(0);
+				reading.putNull(DeviceSensor.CO2.getValue());
+				reading.put(DeviceSensor.PEOPLE_COUNT.getValue(), "unknown");
+				reading.put(DeviceSensor.TEMPERATURE.getValue(), "n/a");
+				return response;
+			}
+		};
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin("in-memory-org");
+		communicator.setPassword("");
+		communicator.setApiClient(client);
+		communicator.init();
+		try {
+			communicator.getMultipleStatistics();
+			Assert.assertTrue(fleet.hasSensor(0));
+			String group = NeatPulseConstant.SENSOR_INFORMATION + NeatPulseConstant.HASH;
+			Map<String, String> properties = Collections.emptyMap();
+			for (int i = 0; i < 60 && !properties.containsKey(group + DeviceSensor.CO2.getPropertyName()); i++) {
+				Thread.sleep(250);
+				for (AggregatedDevice device : communicator.retrieveMultipleStatistics()) {
+					if (SimulatedFleet.getDeviceId(0).equals(device.getDeviceId())) {
+						properties = device.getProperties();
+					}
+				}
+			}
+			Assert.assertEquals("null", properties.get(group + DeviceSensor.CO2.getPropertyName()));
+			Assert.assertEquals("unknown", properties.get(group + DeviceSensor.PEOPLE_COUNT.getPropertyName()));
+			Assert.assertEquals(NeatPulseConstant.NONE, properties.get(group + DeviceSensor.TEMPERATURE.getPropertyName()));
+			Assert.assertNotNull(properties.get(group + DeviceSensor.VOC.getPropertyName()));
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Test case to verify only a sensor command rejected as not supported counts as a refresh, rate limiting and server errors are failures.
+	 */
+	@Test
+	void testSensorErrorStatuses() throws Exception {
+		Assert.assertEquals("0.0", retrieveErrorRate(404));
+		Assert.assertNotEquals("0.0", retrieveErrorRate(429));
+		Assert.assertNotEquals("0.0", retrieveErrorRate(503));
+	}
+
+	/**
+	 * Polls a room pair whose sensor command fails with a status, and retrieves the error rate of the first polling cycle
+	 */
+	private static String retrieveErrorRate(int sensorStatus) throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(2, 2, 0, 0);
+		InMemoryNeatPulseApiClient client = new InMemoryNeatPulseApiClient(fleet) {
+			@Override
+			public JsonNode getDeviceSensor(String deviceId) throws Exception {
+				super.getDeviceSensor(deviceId);
+				throw new CommandFailureException("localhost", deviceId, "{\"message\":\"Sensor request failed\"}", sensorStatus, null);
+			}
+		};
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("localhost");
+		communicator.setLogin("in-memory-org");
+		communicator.setPassword("");
+		communicator.setApiClient(client);
+		communicator.init();
+		try {
+			Map<String, String> statistics = Collections.emptyMap();
+			for (int i = 0; i < 60 && !"2".equals(statistics.get(NeatPulseConstant.POLLING_GROUP + "LastCycleDevices")); i++) {
+				communicator.retrieveMultipleStatistics();
+				statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+				Thread.sleep(250);
+			}
+			Assert.assertEquals("2", statistics.get(NeatPulseConstant.POLLING_GROUP + "LastCycleDevices"));
+			return statistics.get(NeatPulseConstant.POLLING_GROUP + "ErrorRate(%)");
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Sets the screen brightness of the third endpoint
+	 */
+	private static Void controlBrightness(NeatPulseCommunicator communicator, String value) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(SimulatedFleet.getDeviceId(2));
+		controllableProperty.setProperty("Display#ScreenBrightness(%)");
+		controllableProperty.setValue(value);
+		communicator.controlProperty(controllableProperty);
+		return null;
+	}
+}
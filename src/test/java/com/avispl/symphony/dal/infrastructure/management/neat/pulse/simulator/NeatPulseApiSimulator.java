@@ -0,0 +1,487 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+
+/**
+ * NeatPulseApiSimulator
+ * Localhost stand-in for the Neat Pulse API commands of {@code NeatPulseCommand}, serving a {@link SimulatedFleet},
+ * so the polling engine can be load tested offline at 10k+ endpoints.
+ * Latency follows a log-normal distribution with an optional slow tail, and a share of the requests can fail with 429 or 5xx.
+ * Responses are completed by a scheduler once their latency elapsed, so slow requests don't hold a server thread.
+ * Latency and error settings can be changed while the simulator runs.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NeatPulseApiSimulator implements SimulatedApi {
+	/**
+	 * API commands served by the simulator
+	 */
+	public enum Route {
+		ENDPOINTS, ROOMS, INFO, SENSOR, CONFIG, CONTROL, REBOOT
+	}
+
+	private static final String API_PREFIX = "/api/v1/orgs/";
+	private static final int[] SERVER_ERRORS = { 500, 502, 503 };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Route, LongAdder> requestCounts = new EnumMap<>(Route.class);
+	private final Map<Route, LongAdder> answeredCounts = new EnumMap<>(Route.class);
+	private final LongAdder rateLimitedCount = new LongAdder();
+	private final LongAdder serverErrorCount = new LongAdder();
+	private final LongAdder notModifiedCount = new LongAdder();
+	private final Map<Route, AtomicLongArray> lastResponses = new EnumMap<>(Route.class);
+	private final SimulatedFleet fleet;
+	private final String organizationId;
+	private final String apiKey;
+
+	private volatile double latencyMedianMillis;
+	private volatile double latencySigma;
+	private volatile double slowTailRatio;
+	private volatile long slowTailMillis;
+	private volatile double rateLimitRatio;
+	private volatile double serverErrorRatio;
+	private volatile boolean entityTags;
+	private volatile byte[] endpointList;
+	private volatile byte[] roomList;
+	private HttpServer server;
+	private ExecutorService dispatcher;
+	private ScheduledExecutorService responder;
+
+	/**
+	 * NeatPulseApiSimulator constructor
+	 *
+	 * @param fleet the endpoints of the organization
+	 * @param organizationId organization id, expected as the username of the communicator
+	 * @param apiKey API key, expected as the password of the communicator
+	 */
+	public NeatPulseApiSimulator(SimulatedFleet fleet, String organizationId, String apiKey) {
+		this.fleet = fleet;
+		this.organizationId = organizationId;
+		this.apiKey = apiKey;
+		for (Route route : Route.values()) {
+			requestCounts.put(route, new LongAdder());
+			answeredCounts.put(route, new LongAdder());
+		}
+		lastResponses.put(Route.INFO, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+		lastResponses.put(Route.SENSOR, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+		lastResponses.put(Route.CONFIG, new AtomicLongArray(fleet.getNumberOfEndpoints()));
+	}
+
+	/**
+	 * Sets the latency distribution of the responses
+	 *
+	 * @param medianMillis median latency in milliseconds, 0 to respond immediately
+	 * @param sigma standard deviation of the log of the latency, 0 for a constant latency
+	 */
+	public void setLatency(double medianMillis, double sigma) {
+		this.latencyMedianMillis = medianMillis;
+		this.latencySigma = sigma;
+	}
+
+	/**
+	 * Sets the slow tail of the latency distribution
+	 *
+	 * @param ratio share of the requests delayed further, between 0 and 1
+	 * @param millis extra latency of those requests in milliseconds
+	 */
+	public void setSlowTail(double ratio, long millis) {
+		this.slowTailRatio = ratio;
+		this.slowTailMillis = millis;
+	}
+
+	/**
+	 * Sets the share of the requests failing
+	 *
+	 * @param rateLimitRatio share of the requests answered with 429, between 0 and 1
+	 * @param serverErrorRatio share of the requests answered with 500, 502 or 503, between 0 and 1
+	 */
+	public void setErrorRates(double rateLimitRatio, double serverErrorRatio) {
+		this.rateLimitRatio = rateLimitRatio;
+		this.serverErrorRatio = serverErrorRatio;
+	}
+
+	/**
+	 * Sets whether the info and config responses carry an entity tag, and are answered with 304 when the request
+	 * holds the current one in If-None-Match
+	 *
+	 * @param entityTags true to send entity tags
+	 */
+	public void setEntityTags(boolean entityTags) {
+		this.entityTags = entityTags;
+	}
+
+	/**
+	 * Starts the simulator on a free port of the loopback interface
+	 *
+	 * @return the port
+	 * @throws IOException if the server can't be bound
+	 */
+	public int start() throws IOException {
+		return start(0);
+	}
+
+	/**
+	 * Starts the simulator on the loopback interface
+	 *
+	 * @param port the port, 0 for a free port
+	 * @return the bound port
+	 * @throws IOException if the server can't be bound
+	 */
+	public synchronized int start(int port) throws IOException {
+		if (server != null) {
+			throw new IllegalStateException("Simulator is already started");
+		}
+		dispatcher = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), daemon("dispatcher"));
+		responder = Executors.newScheduledThreadPool(2, daemon("responder"));
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+		server.createContext("/", this::handle);
+		server.setExecutor(dispatcher);
+		server.start();
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Stops the simulator, pending responses are dropped
+	 */
+	public synchronized void stop() {
+		if (server == null) {
+			return;
+		}
+		server.stop(0);
+		responder.shutdownNow();
+		dispatcher.shutdownNow();
+		server = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRequestCount(Route route) {
+		return requestCounts.get(route).sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAnsweredCount(Route route) {
+		return answeredCounts.get(route).sum();
+	}
+
+	/**
+	 * Retrieves the number of requests answered with 304
+	 *
+	 * @return number of requests
+	 */
+	public long getNotModifiedCount() {
+		return notModifiedCount.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRateLimitedCount() {
+		return rateLimitedCount.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getServerErrorCount() {
+		return serverErrorCount.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getLastResponse(Route route, int index) {
+		AtomicLongArray responses = lastResponses.get(route);
+		if (responses == null) {
+			throw new IllegalArgumentException("Responses of " + route + " are not tracked per endpoint");
+		}
+		return responses.get(index);
+	}
+
+	/**
+	 * Handles a request: checks the API key and path, injects errors, builds the response and schedules it
+	 *
+	 * @param exchange the request
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+			if (!("Bearer " + apiKey).equals(authorization)) {
+				respond(exchange, 401, message("Unauthorized"));
+				return;
+			}
+			String[] path = parsePath(exchange.getRequestURI().getPath());
+			boolean post = "POST".equalsIgnoreCase(exchange.getRequestMethod());
+			Route route = path == null ? null : getRoute(path, post);
+			if (route == null) {
+				respond(exchange, 404, message("Not found"));
+				return;
+			}
+			int index = path.length > 1 ? fleet.getIndex(path[1]) : -1;
+			if (path.length > 1 && index < 0) {
+				respond(exchange, 404, message("Endpoint not found"));
+				return;
+			}
+			requestCounts.get(route).increment();
+			JsonNode requestBody = post ? readBody(exchange.getRequestBody()) : null;
+
+			Random random = ThreadLocalRandom.current();
+			double errorRoll = random.nextDouble();
+			long delayMicros = sampleLatencyMicros(random);
+			if (errorRoll < rateLimitRatio) {
+				rateLimitedCount.increment();
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				schedule(exchange, 429, message("Too many requests"), delayMicros, null, index);
+			} else if (errorRoll < rateLimitRatio + serverErrorRatio) {
+				serverErrorCount.increment();
+				schedule(exchange, SERVER_ERRORS[random.nextInt(SERVER_ERRORS.length)], message("Service unavailable"), delayMicros, null, index);
+			} else if (route == Route.SENSOR && !fleet.hasSensor(index)) {
+				schedule(exchange, 404, message("Sensor data is not supported"), delayMicros, route, index);
+			} else {
+				byte[] response = createResponse(route, index, requestBody);
+				if (entityTags && (route == Route.INFO || route == Route.CONFIG)) {
+					String entityTag = "\"" + Integer.toHexString(Arrays.hashCode(response)) + "\"";
+					exchange.getResponseHeaders().set("ETag", entityTag);
+					if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+						notModifiedCount.increment();
+						schedule(exchange, 304, new byte[0], delayMicros, route, index);
+						return;
+					}
+				}
+				schedule(exchange, 200, response, delayMicros, route, index);
+			}
+		} catch (Exception e) {
+			respond(exchange, 500, message(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Builds the successful response of a command
+	 *
+	 * @param route the command
+	 * @param index index of the endpoint, -1 for organization commands
+	 * @param requestBody body of a POST request
+	 * @return the response body
+	 */
+	private byte[] createResponse(Route route, int index, JsonNode requestBody) throws IOException {
+		switch (route) {
+			case ENDPOINTS:
+				if (endpointList == null) {
+					endpointList = objectMapper.writeValueAsBytes(fleet.createEndpointList());
+				}
+				return endpointList;
+			case ROOMS:
+				if (roomList == null) {
+					roomList = objectMapper.writeValueAsBytes(fleet.createRoomList());
+				}
+				return roomList;
+			case INFO:
+				return objectMapper.writeValueAsBytes(fleet.createInfo(index));
+			case SENSOR:
+				return objectMapper.writeValueAsBytes(fleet.createSensor(index, System.currentTimeMillis()));
+			case CONFIG:
+				return objectMapper.writeValueAsBytes(fleet.createConfig(index));
+			case CONTROL:
+				return objectMapper.writeValueAsBytes(fleet.applyConfig(index, requestBody == null ? objectMapper.createObjectNode() : requestBody));
+			case REBOOT:
+				return objectMapper.writeValueAsBytes(objectMapper.createObjectNode().put(NeatPulseConstant.STATUS, 200).put(NeatPulseConstant.MESSAGE, "Reboot requested"));
+			default:
+				throw new IllegalStateException("Unsupported route " + route);
+		}
+	}
+
+	/**
+	 * Splits a request path below the organization
+	 *
+	 * @param path the request path
+	 * @return the segments after the organization id, or null if the path belongs to another organization
+	 */
+	private String[] parsePath(String path) {
+		String prefix = API_PREFIX + organizationId + "/";
+		if (path == null || !path.startsWith(prefix)) {
+			return null;
+		}
+		return path.substring(prefix.length()).split("/");
+	}
+
+	/**
+	 * Retrieves the command of a request
+	 *
+	 * @param path segments after the organization id
+	 * @param post whether the request is a POST
+	 * @return the command, or null if the path is unknown
+	 */
+	private Route getRoute(String[] path, boolean post) {
+		if (path.length == 1 && !post) {
+			return NeatPulseConstant.ENDPOINTS.equals(path[0]) ? Route.ENDPOINTS : NeatPulseConstant.ROOMS.equals(path[0]) ? Route.ROOMS : null;
+		}
+		if (!NeatPulseConstant.ENDPOINTS.equals(path[0])) {
+			return null;
+		}
+		if (path.length == 2) {
+			return post ? null : Route.INFO;
+		}
+		if (path.length == 3) {
+			switch (path[2]) {
+				case "sensor":
+					return post ? null : Route.SENSOR;
+				case NeatPulseConstant.CONFIG:
+					return post ? Route.CONTROL : Route.CONFIG;
+				case "reboot":
+					return post ? Route.REBOOT : null;
+				default:
+					return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Samples the latency of a response
+	 *
+	 * @param random source of randomness
+	 * @return latency in microseconds
+	 */
+	private long sampleLatencyMicros(Random random) {
+		double millis = latencyMedianMillis;
+		if (millis > 0 && latencySigma > 0) {
+			millis *= Math.exp(latencySigma * random.nextGaussian());
+		}
+		if (slowTailRatio > 0 && random.nextDouble() < slowTailRatio) {
+			millis += slowTailMillis;
+		}
+		return (long) (millis * 1000);
+	}
+
+	/**
+	 * Sends a response once its latency elapsed
+	 *
+	 * @param exchange the request
+	 * @param status response status
+	 * @param body response body
+	 * @param delayMicros latency of the response
+	 * @param answered the command whose last response time is updated once sent, null for failed requests
+	 * @param index index of the endpoint
+	 */
+	private void schedule(HttpExchange exchange, int status, byte[] body, long delayMicros, Route answered, int index) {
+		if (delayMicros <= 0) {
+			respond(exchange, status, body, answered, index);
+			return;
+		}
+		responder.schedule(() -> respond(exchange, status, body, answered, index), delayMicros, TimeUnit.MICROSECONDS);
+	}
+
+	/**
+	 * Sends a response and closes the exchange
+	 */
+	private void respond(HttpExchange exchange, int status, byte[] body) {
+		respond(exchange, status, body, null, -1);
+	}
+
+	/**
+	 * Sends a response, closes the exchange and updates the last response time of the endpoint
+	 */
+	private void respond(HttpExchange exchange, int status, byte[] body, Route answered, int index) {
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, status == 304 ? -1 : body.length);
+			outputStream.write(body);
+			if (answered != null) {
+				answeredCounts.get(answered).increment();
+				AtomicLongArray responses = lastResponses.get(answered);
+				if (responses != null) {
+					responses.set(index, System.currentTimeMillis());
+				}
+			}
+		} catch (IOException e) {
+			// The client gave up on the request, nothing left to answer
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Reads the json body of a request
+	 */
+	private JsonNode readBody(InputStream inputStream) throws IOException {
+		try (InputStream body = inputStream) {
+			return objectMapper.readTree(body);
+		}
+	}
+
+	/**
+	 * Builds an error body
+	 */
+	private byte[] message(String message) {
+		try {
+			return objectMapper.writeValueAsBytes(objectMapper.createObjectNode().put(NeatPulseConstant.MESSAGE, message));
+		} catch (IOException e) {
+			return new byte[0];
+		}
+	}
+
+	/**
+	 * Creates daemon threads for the simulator pools
+	 */
+	private static ThreadFactory daemon(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, "neat-pulse-simulator-" + name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Runs a standalone simulator: {@code NeatPulseApiSimulator <endpoints> <port> [latencyMedianMillis] [serverErrorRatio]},
+	 * the organization id is {@code simulated-org} and the API key {@code simulated-key}.
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) throws Exception {
+		int numberOfEndpoints = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 18443;
+		NeatPulseApiSimulator simulator = new NeatPulseApiSimulator(new SimulatedFleet(numberOfEndpoints, 2, 30, 10), "simulated-org", "simulated-key");
+		simulator.setLatency(args.length > 2 ? Double.parseDouble(args[2]) : 120, 0.5);
+		simulator.setSlowTail(0.01, 2000);
+		simulator.setErrorRates(0.005, args.length > 3 ? Double.parseDouble(args[3]) : 0.005);
+		System.out.println("Neat Pulse API simulator listening on http://127.0.0.1:" + simulator.start(port) + " with " + numberOfEndpoints + " endpoints");
+		Thread.currentThread().join();
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.NeatPulseCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator.Route;
+
+/**
+ * NeatPulseApiSimulatorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NeatPulseApiSimulatorTest {
+	private static final String ORGANIZATION_ID = "simulated-org";
+	private static final String API_KEY = "simulated-key";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private NeatPulseApiSimulator simulator;
+	private int port;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		simulator = new NeatPulseApiSimulator(new SimulatedFleet(1000, 2, 30, 10), ORGANIZATION_ID, API_KEY);
+		port = simulator.start();
+	}
+
+	@AfterEach
+	void destroy() {
+		simulator.stop();
+	}
+
+	/**
+	 * Test case to verify the communicator reads the simulated organization.
+	 */
+	@Test
+	void testCommunicatorReadsSimulatedFleet() throws Exception {
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("http");
+		communicator.setPort(port);
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword(API_KEY);
+		communicator.init();
+		try {
+			Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertEquals("1000", statistics.get("NumberOfDevices"));
+			Assert.assertEquals("500", statistics.get("NumberOfPulseRooms"));
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Test case to verify the endpoint responses, and config writes shared by the endpoints of a room.
+	 */
+	@Test
+	void testEndpointResponses() throws Exception {
+		String endpoint = "/api/v1/orgs/" + ORGANIZATION_ID + "/endpoints/";
+		JsonNode info = objectMapper.readTree(request("GET", endpoint + SimulatedFleet.getDeviceId(2), null, 200));
+		Assert.assertEquals("NF19B1", info.get("model").asText());
+		Assert.assertEquals("Room 1", info.get("roomName").asText());
+
+		JsonNode sensor = objectMapper.readTree(request("GET", endpoint + SimulatedFleet.getDeviceId(0) + "/sensor", null, 200));
+		Assert.assertTrue(sensor.get("endpointData").get("data").size() > 0);
+		request("GET", endpoint + SimulatedFleet.getDeviceId(3) + "/sensor", null, 404);
+		request("GET", endpoint + SimulatedFleet.getDeviceId(1000), null, 404);
+
+		JsonNode written = objectMapper.readTree(request("POST", endpoint + SimulatedFleet.getDeviceId(4) + "/config", "{\"language\":\"ja\"}", 200));
+		Assert.assertEquals("ja", written.get("config").get("language").asText());
+		JsonNode peerConfig = objectMapper.readTree(request("GET", endpoint + SimulatedFleet.getDeviceId(5) + "/config", null, 200));
+		Assert.assertEquals("ja", peerConfig.get("language").asText());
+		Assert.assertEquals(1, simulator.getRequestCount(Route.CONTROL));
+		Assert.assertEquals(1, simulator.getRequestCount(Route.CONFIG));
+	}
+
+	/**
+	 * Test case to verify injected latency and errors.
+	 */
+	@Test
+	void testInjectedLatencyAndErrors() throws Exception {
+		String endpoints = "/api/v1/orgs/" + ORGANIZATION_ID + "/endpoints";
+		simulator.setLatency(100, 0);
+		long start = System.nanoTime();
+		request("GET", endpoints, null, 200);
+		Assert.assertTrue((System.nanoTime() - start) / 1_000_000 >= 100);
+
+		simulator.setLatency(0, 0);
+		simulator.setErrorRates(1, 0);
+		request("GET", endpoints, null, 429);
+		simulator.setErrorRates(0, 1);
+		request("GET", endpoints, null, -1);
+		Assert.assertEquals(1, simulator.getRateLimitedCount());
+		Assert.assertEquals(1, simulator.getServerErrorCount());
+		Assert.assertEquals(3, simulator.getRequestCount(Route.ENDPOINTS));
+
+		simulator.setErrorRates(0, 0);
+		request("GET", "/api/v1/orgs/another-org/endpoints", null, 404);
+	}
+
+	/**
+	 * Test case to verify the polling skips the info and config that did not change, through their body hash first,
+	 * then through entity tags once the API sends them, and keeps publishing every device.
+	 */
+	@Test
+	void testConditionalPolling() throws Exception {
+		NeatPulseApiSimulator smallSimulator = new NeatPulseApiSimulator(new SimulatedFleet(20, 2, 30, 10), ORGANIZATION_ID, API_KEY);
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("http");
+		communicator.setPort(smallSimulator.start());
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword(API_KEY);
+		communicator.setDevicePollingInterval(10);
+		communicator.init();
+		try {
+			Map<String, String> statistics = pollUntil(communicator, "ChangeDetection#InfoUnchangedBodies");
+			Assert.assertTrue(Double.parseDouble(statistics.get("ChangeDetection#InfoHitRatio(%)")) > 0);
+			Assert.assertTrue(Long.parseLong(statistics.get("ChangeDetection#ReusedDevices")) > 0);
+
+			smallSimulator.setEntityTags(true);
+			statistics = pollUntil(communicator, "ChangeDetection#ConfigNotModified");
+			Assert.assertTrue(smallSimulator.getNotModifiedCount() > 0);
+			Assert.assertTrue(Double.parseDouble(statistics.get("ChangeDetection#ConfigHitRatio(%)")) > 0);
+			Assert.assertEquals(20, communicator.retrieveMultipleStatistics().size());
+			Assert.assertTrue(communicator.retrieveMultipleStatistics().stream().allMatch(device -> device.getDeviceName() != null));
+		} finally {
+			communicator.destroy();
+			smallSimulator.stop();
+		}
+	}
+
+	/**
+	 * Test case to verify bulk writes do not re-fetch every written device, while an interactive control re-fetches its device.
+	 */
+	@Test
+	void testTargetedRefreshOnlyAfterInteractiveControl() throws Exception {
+		NeatPulseApiSimulator smallSimulator = new NeatPulseApiSimulator(new SimulatedFleet(10, 2, 30, 10), ORGANIZATION_ID, API_KEY);
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("http");
+		communicator.setPort(smallSimulator.start());
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword(API_KEY);
+		communicator.init();
+		try {
+			communicator.getMultipleStatistics();
+			for (int i = 0; i < 60 && communicator.retrieveMultipleStatistics().size() < 10; i++) {
+				Thread.sleep(250);
+			}
+			Assert.assertEquals(10, communicator.retrieveMultipleStatistics().size());
+
+			control(communicator, null, NeatPulseConstant.BULK_CONTROL_SETTING, "ScreenBrightness(%)");
+			control(communicator, null, NeatPulseConstant.BULK_CONTROL_VALUE, "40");
+			control(communicator, null, NeatPulseConstant.BULK_CONTROL_APPLY, "1");
+			Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			for (int i = 0; i < 60 && !"Completed".equals(statistics.get(NeatPulseConstant.BULK_CONTROL_GROUP + "Status")); i++) {
+				Thread.sleep(250);
+				statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			}
+			Assert.assertEquals("10", statistics.get(NeatPulseConstant.BULK_CONTROL_GROUP + "Succeeded"));
+			Thread.sleep(NeatPulseConstant.CONFIG_REFRESH_DELAY + 500);
+			statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertEquals("0", statistics.get(NeatPulseConstant.REQUEST_LANES_GROUP + "TargetedRefreshRequests"));
+
+			control(communicator, SimulatedFleet.getDeviceId(3), "Display#ScreenBrightness(%)", "85");
+			Thread.sleep(NeatPulseConstant.CONFIG_REFRESH_DELAY + 500);
+			statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertEquals("1", statistics.get(NeatPulseConstant.REQUEST_LANES_GROUP + "TargetedRefreshRequests"));
+		} finally {
+			communicator.destroy();
+			smallSimulator.stop();
+		}
+	}
+
+	/**
+	 * Sends a single control to a communicator
+	 */
+	private static void control(NeatPulseCommunicator communicator, String deviceId, String property, String value) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(deviceId);
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		communicator.controlProperty(controllableProperty);
+	}
+
+	/**
+	 * Polls a communicator until a counter of its statistics is positive
+	 *
+	 * @return the statistics
+	 */
+	private static Map<String, String> pollUntil(NeatPulseCommunicator communicator, String counter) throws Exception {
+		for (int i = 0; i < 120; i++) {
+			Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+			if (Long.parseLong(statistics.getOrDefault(counter, "0")) > 0) {
+				return statistics;
+			}
+			communicator.retrieveMultipleStatistics();
+			Thread.sleep(250);
+		}
+		throw new AssertionError(counter + " stayed at 0");
+	}
+
+	/**
+	 * Sends a request to the simulator and checks its status
+	 *
+	 * @param method http method
+	 * @param path request path
+	 * @param body request body, null for none
+	 * @param expectedStatus expected status, -1 for any server error
+	 * @return the response body
+	 */
+	private String request(String method, String path, String body, int expectedStatus) throws Exception {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + path).openConnection();
+		connection.setRequestMethod(method);
+		connection.setRequestProperty("Authorization", "Bearer " + API_KEY);
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			try (OutputStream outputStream = connection.getOutputStream()) {
+				outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int status = connection.getResponseCode();
+		if (expectedStatus < 0) {
+			Assert.assertTrue(status >= 500);
+		} else {
+			Assert.assertEquals(expectedStatus, status);
+		}
+		try (InputStream inputStream = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+			return new String(readAll(inputStream), StandardCharsets.UTF_8);
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * Reads a stream fully
+	 */
+	private static byte[] readAll(InputStream inputStream) throws Exception {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		int read;
+		while ((read = inputStream.read(chunk)) > 0) {
+			buffer.write(chunk, 0, read);
+		}
+		return buffer.toByteArray();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator.Route;
+
+/**
+ * SimulatedApi
+ * API side view of a simulated organization, whatever serves it: request volume and the last time each endpoint was answered.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface SimulatedApi {
+
+	/**
+	 * Retrieves the number of requests of a command, failed ones included
+	 *
+	 * @param route the command
+	 * @return number of requests
+	 */
+	long getRequestCount(Route route);
+
+	/**
+	 * Retrieves the number of requests of a command answered successfully
+	 *
+	 * @param route the command
+	 * @return number of requests
+	 */
+	long getAnsweredCount(Route route);
+
+	/**
+	 * Retrieves the time an endpoint was last answered successfully, a sensor command of a device without sensor included
+	 *
+	 * @param route {@link Route#INFO}, {@link Route#SENSOR} or {@link Route#CONFIG}
+	 * @param index index of the endpoint
+	 * @return time in milliseconds, 0 if never answered
+	 */
+	long getLastResponse(Route route, int index);
+
+	/**
+	 * Retrieves the number of requests answered with 429
+	 *
+	 * @return number of requests
+	 */
+	long getRateLimitedCount();
+
+	/**
+	 * Retrieves the number of requests answered with a server error
+	 *
+	 * @return number of requests
+	 */
+	long getServerErrorCount();
+}
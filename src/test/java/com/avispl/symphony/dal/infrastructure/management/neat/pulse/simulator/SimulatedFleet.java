@@ -0,0 +1,352 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseConstant;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.NeatPulseModel;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSensor;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.information.DeviceSettings;
+
+/**
+ * SimulatedFleet
+ * Deterministic synthetic Neat Pulse organization: the endpoint at a given index always has the same identity,
+ * model and room, so runs with the same settings are comparable.
+ * Models are assigned round-robin over {@link NeatPulseModel}, Neat Pads have no sensor.
+ * Config is kept per room, as the devices of a room share it, and control writes are merged into it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SimulatedFleet {
+	private static final NeatPulseModel[] MODELS = NeatPulseModel.values();
+	private static final String[] TIME_ZONES = { "America/New_York", "Europe/Berlin", "Asia/Tokyo", "America/Los_Angeles" };
+	private static final String[] LANGUAGES = { "en-US", "de", "ja", "fr" };
+	private static final String ID_PREFIX = "5e1a7ed0-0000-4000-8000-";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Integer, ObjectNode> deviceConfigs = new ConcurrentHashMap<>();
+	private final Map<Integer, ObjectNode> roomConfigs = new ConcurrentHashMap<>();
+	private final int numberOfEndpoints;
+	private final int devicesPerRoom;
+	private final int multiSensorPercent;
+	private final int offlinePercent;
+
+	/**
+	 * SimulatedFleet constructor
+	 *
+	 * @param numberOfEndpoints number of endpoints of the organization
+	 * @param devicesPerRoom number of endpoints sharing a room
+	 * @param multiSensorPercent percentage of the endpoints with an extra external sensor
+	 * @param offlinePercent percentage of the endpoints reported as disconnected
+	 */
+	public SimulatedFleet(int numberOfEndpoints, int devicesPerRoom, int multiSensorPercent, int offlinePercent) {
+		if (numberOfEndpoints < 0 || devicesPerRoom < 1) {
+			throw new IllegalArgumentException("Number of endpoints must not be negative and rooms must hold at least one endpoint");
+		}
+		this.numberOfEndpoints = numberOfEndpoints;
+		this.devicesPerRoom = devicesPerRoom;
+		this.multiSensorPercent = multiSensorPercent;
+		this.offlinePercent = offlinePercent;
+	}
+
+	/**
+	 * Retrieves {@link #numberOfEndpoints}
+	 *
+	 * @return value of {@link #numberOfEndpoints}
+	 */
+	public int getNumberOfEndpoints() {
+		return numberOfEndpoints;
+	}
+
+	/**
+	 * Retrieves the number of rooms of the organization
+	 *
+	 * @return number of rooms
+	 */
+	public int getNumberOfRooms() {
+		return (numberOfEndpoints + devicesPerRoom - 1) / devicesPerRoom;
+	}
+
+	/**
+	 * Retrieves the id of an endpoint
+	 *
+	 * @param index index of the endpoint
+	 * @return the endpoint id
+	 */
+	public static String getDeviceId(int index) {
+		return ID_PREFIX + String.format("%012x", index);
+	}
+
+	/**
+	 * Retrieves the index of an endpoint
+	 *
+	 * @param deviceId id of the endpoint
+	 * @return index of the endpoint, or -1 if the organization has no such endpoint
+	 */
+	public int getIndex(String deviceId) {
+		if (deviceId == null || deviceId.length() != ID_PREFIX.length() + 12 || !deviceId.startsWith(ID_PREFIX)) {
+			return -1;
+		}
+		try {
+			long index = Long.parseLong(deviceId.substring(ID_PREFIX.length()), 16);
+			return index < numberOfEndpoints ? (int) index : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Checks whether an endpoint has a sensor
+	 *
+	 * @param index index of the endpoint
+	 * @return true if the sensor endpoint is supported
+	 */
+	public boolean hasSensor(int index) {
+		return getModel(index) != NeatPulseModel.NEAT_PAD;
+	}
+
+	/**
+	 * Checks whether an endpoint is disconnected
+	 *
+	 * @param index index of the endpoint
+	 * @return true if the endpoint is reported as disconnected
+	 */
+	public boolean isOffline(int index) {
+		return spread(index, 31) < offlinePercent;
+	}
+
+	/**
+	 * Builds the response of the endpoint list
+	 *
+	 * @return {@code {"endpoints": [{"id": ...}, ...]}}
+	 */
+	public ObjectNode createEndpointList() {
+		ObjectNode response = objectMapper.createObjectNode();
+		ArrayNode endpoints = response.putArray(NeatPulseConstant.ENDPOINTS);
+		for (int i = 0; i < numberOfEndpoints; i++) {
+			endpoints.addObject().put(NeatPulseConstant.ID, getDeviceId(i)).put(DeviceInfo.SERIAL.getValue(), getSerial(i));
+		}
+		return response;
+	}
+
+	/**
+	 * Builds the response of the room list
+	 *
+	 * @return {@code {"rooms": [{"id": ..., "name": ..., "endpoints": [...]}, ...]}}
+	 */
+	public ObjectNode createRoomList() {
+		ObjectNode response = objectMapper.createObjectNode();
+		ArrayNode rooms = response.putArray(NeatPulseConstant.ROOMS);
+		for (int room = 0; room < getNumberOfRooms(); room++) {
+			ObjectNode roomNode = rooms.addObject().put(NeatPulseConstant.ID, room).put("name", getRoomName(room));
+			ArrayNode endpoints = roomNode.putArray(NeatPulseConstant.ENDPOINTS);
+			for (int i = room * devicesPerRoom; i < Math.min(numberOfEndpoints, (room + 1) * devicesPerRoom); i++) {
+				endpoints.addObject().put(NeatPulseConstant.ID, getDeviceId(i));
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Builds the info response of an endpoint
+	 *
+	 * @param index index of the endpoint
+	 * @return the endpoint info
+	 */
+	public ObjectNode createInfo(int index) {
+		ObjectNode info = objectMapper.createObjectNode();
+		info.put(NeatPulseConstant.ID, getDeviceId(index));
+		info.put(DeviceInfo.SERIAL.getValue(), getSerial(index));
+		info.put(DeviceInfo.CONNECTED.getValue(), !isOffline(index));
+		info.put(DeviceInfo.MODEL.getValue(), getModel(index).getValue());
+		info.put(DeviceInfo.FIRMWARE_CURRENT_VERSION.getValue(), "NFA1.20240312.0503");
+		info.put(DeviceInfo.FIRMWARE_UPDATE_VERSION.getValue(), index % 5 == 0 ? "NFA1.20240512.0101" : "NFA1.20240312.0503");
+		info.put(DeviceInfo.ROOM_ID.getValue(), index / devicesPerRoom);
+		info.put(DeviceInfo.ROOM_NAME.getValue(), getRoomName(index / devicesPerRoom));
+		info.put(DeviceInfo.CONTROLLER_MODE.getValue(), getModel(index) == NeatPulseModel.NEAT_PAD ? "Controller" : "Room Controller");
+		info.put(DeviceInfo.LOCAL_IP_ADDRESS.getValue(), "10." + index / 62500 + "." + index / 250 % 250 + "." + index % 250);
+		info.put(DeviceInfo.IN_CALL_STATUS.getValue(), index % 7 == 0 ? "TEAMS" : "IDLE");
+		info.put(DeviceInfo.OTA_CHANNEL.getValue(), "stable");
+		info.put(DeviceInfo.CONNECTION_TIME.getValue(), "2024-05-03T05:04:12.345Z");
+		info.put(DeviceInfo.PRIMARY_MODE.getValue(), "msteams");
+		return info;
+	}
+
+	/**
+	 * Builds the sensor response of an endpoint, readings drift slowly with the time
+	 *
+	 * @param index index of the endpoint
+	 * @param now current time in milliseconds
+	 * @return {@code {"endpointData": {"data": [...]}}}
+	 */
+	public ObjectNode createSensor(int index, long now) {
+		ObjectNode response = objectMapper.createObjectNode();
+		ArrayNode data = response.putObject(NeatPulseConstant.ENDPOINT_DATA).putArray(NeatPulseConstant.DATA);
+		long minute = TimeUnit.MILLISECONDS.toMinutes(now);
+		long timestamp = TimeUnit.MILLISECONDS.toSeconds(isOffline(index) ? now - TimeUnit.DAYS.toMillis(1) : now);
+		int numberOfSensors = spread(index, 17) < multiSensorPercent ? 2 : 1;
+		for (int sensor = 0; sensor < numberOfSensors; sensor++) {
+			ObjectNode reading = data.addObject();
+			reading.put(DeviceSensor.CO2.getValue(), 400 + (index * 7 + minute + sensor * 13) % 400);
+			reading.put(DeviceSensor.HUMIDITY.getValue(), 35 + (index + minute) % 200 / 10.0);
+			reading.put(DeviceSensor.ILLUMINATION.getValue(), 150 + (index * 3 + minute) % 300);
+			reading.put(DeviceSensor.PEOPLE_COUNT.getValue(), (index + minute / 15) % 6);
+			reading.put(DeviceSensor.TEMPERATURE.getValue(), 20 + (index + minute) % 60 / 10.0);
+			reading.put(DeviceSensor.VOC.getValue(), 100 + (index * 5 + minute) % 500);
+			reading.put(DeviceSensor.VOC_INDEX.getValue(), 50 + (index + minute) % 150);
+			reading.put(DeviceSensor.TIMESTAMP.getValue(), timestamp);
+		}
+		return response;
+	}
+
+	/**
+	 * Builds the config response of an endpoint, the room-level fields are shared by the endpoints of its room
+	 *
+	 * @param index index of the endpoint
+	 * @return the config
+	 */
+	public ObjectNode createConfig(int index) {
+		ObjectNode config = objectMapper.createObjectNode();
+		ObjectNode deviceConfig = getDeviceConfig(index);
+		synchronized (deviceConfig) {
+			config.setAll(deviceConfig);
+		}
+		ObjectNode roomConfig = getRoomConfig(index / devicesPerRoom);
+		synchronized (roomConfig) {
+			config.setAll(roomConfig);
+		}
+		return config;
+	}
+
+	/**
+	 * Applies a config write to an endpoint, room-level fields are written for its whole room
+	 *
+	 * @param index index of the endpoint
+	 * @param change the written config fields
+	 * @return {@code {"config": ...}} holding the resulting config of the endpoint
+	 */
+	public ObjectNode applyConfig(int index, JsonNode change) {
+		ObjectNode deviceConfig = getDeviceConfig(index);
+		ObjectNode roomConfig = getRoomConfig(index / devicesPerRoom);
+		for (Iterator<Map.Entry<String, JsonNode>> fields = change.fields(); fields.hasNext(); ) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			ObjectNode config = roomConfig.has(field.getKey()) ? roomConfig : deviceConfig;
+			synchronized (config) {
+				config.set(field.getKey(), field.getValue());
+			}
+		}
+		ObjectNode response = objectMapper.createObjectNode();
+		response.set(NeatPulseConstant.CONFIG, createConfig(index));
+		return response;
+	}
+
+	/**
+	 * Retrieves the device-level config of an endpoint, created on first access
+	 *
+	 * @param index index of the endpoint
+	 * @return the config fields that belong to the endpoint alone
+	 */
+	private ObjectNode getDeviceConfig(int index) {
+		return deviceConfigs.computeIfAbsent(index, key -> createDefaultConfig(index / devicesPerRoom, false));
+	}
+
+	/**
+	 * Retrieves the room-level config of a room, created on first access
+	 *
+	 * @param room index of the room
+	 * @return the config fields shared by the endpoints of the room
+	 */
+	private ObjectNode getRoomConfig(int room) {
+		return roomConfigs.computeIfAbsent(room, key -> createDefaultConfig(room, true));
+	}
+
+	/**
+	 * Creates the initial config fields of the endpoints of a room
+	 *
+	 * @param room index of the room
+	 * @param roomLevel true for the room-level fields, false for the device-level ones
+	 * @return the config fields
+	 */
+	private ObjectNode createDefaultConfig(int room, boolean roomLevel) {
+		ObjectNode defaults = objectMapper.createObjectNode();
+		for (DeviceSettings item : DeviceSettings.values()) {
+			if (!item.getValue().isEmpty()) {
+				defaults.put(item.getValue(), room % 3 != 1);
+			}
+		}
+		defaults.put(DeviceSettings.SCREEN_STANDBY.getValue(), 300000);
+		defaults.put(DeviceSettings.SCREEN_BRIGHTNESS.getValue(), 0.5);
+		defaults.put(DeviceSettings.DATE_FORMAT.getValue(), "MM/dd/yyyy");
+		defaults.put(DeviceSettings.NTP_SERVER.getValue(), "time.google.com");
+		defaults.put(DeviceSettings.TIME_ZONE.getValue(), TIME_ZONES[room % TIME_ZONES.length]);
+		defaults.put(DeviceSettings.LANGUAGE.getValue(), LANGUAGES[room % LANGUAGES.length]);
+		defaults.put(DeviceSettings.FONT_SIZE.getValue(), "default");
+		defaults.put(DeviceSettings.COLOR_CORRECTION.getValue(), "disabled");
+		ObjectNode config = objectMapper.createObjectNode();
+		for (DeviceSettings item : DeviceSettings.values()) {
+			if (!item.getValue().isEmpty() && item.isRoomLevel() == roomLevel) {
+				config.set(item.getValue(), defaults.get(item.getValue()));
+			}
+		}
+		return config;
+	}
+
+	/**
+	 * Retrieves the model of an endpoint
+	 *
+	 * @param index index of the endpoint
+	 * @return the model
+	 */
+	private NeatPulseModel getModel(int index) {
+		return MODELS[index % MODELS.length];
+	}
+
+	/**
+	 * Retrieves the serial number of an endpoint
+	 *
+	 * @param index index of the endpoint
+	 * @return the serial number
+	 */
+	private String getSerial(int index) {
+		return String.format("NA%011d", index);
+	}
+
+	/**
+	 * Retrieves the name of a room
+	 *
+	 * @param room index of the room
+	 * @return the room name
+	 */
+	private String getRoomName(int room) {
+		return "Room " + room;
+	}
+
+	/**
+	 * Spreads the endpoints evenly over the range 0-99, independently of their model
+	 *
+	 * @param index index of the endpoint
+	 * @param salt distinct value per property, so offline and multi-sensor endpoints don't coincide
+	 * @return value in the range 0-99
+	 */
+	private static int spread(int index, int salt) {
+		long hash = (index + 1L) * 0x9E3779B97F4A7C15L + salt;
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		return (int) Math.floorMod(hash, 100L);
+	}
+}
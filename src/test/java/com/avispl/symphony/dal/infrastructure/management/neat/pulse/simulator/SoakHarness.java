@@ -0,0 +1,469 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.NeatPulseCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock.PollingClock;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.clock.VirtualPollingClock;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.common.telemetry.LatencyHistogram;
+import com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator.NeatPulseApiSimulator.Route;
+
+/**
+ * SoakHarness
+ * Runs the full {@link NeatPulseCommunicator} lifecycle against a {@link NeatPulseApiSimulator}, once per combination of
+ * {@code numberThreads} and {@code devicePollingInterval}: init, a Symphony monitoring cycle of getMultipleStatistics and
+ * retrieveMultipleStatistics with a periodic controlProperty, then destroy.
+ * The monitoring cycle is compressed by {@link #timeScale}, so a long soak of the Symphony side runs in a fraction of the time.
+ * <p>
+ * Freshness is measured from the API side: the staleness of an endpoint is the age of the oldest of its last info and sensor
+ * responses, sampled every cycle, and a sweep is complete once every endpoint was answered since the sweep started.
+ * Each run records devices per second, sweep times, heap high-water mark, thread counts and staleness percentiles,
+ * and the report is written as json so releases can be compared.
+ * <p>
+ * On {@link #virtualTime} the communicator polls an {@link InMemoryNeatPulseApiClient} on a {@link VirtualPollingClock}:
+ * the harness advances the time from one wake-up of the scheduler to the next, so hours of polling policy run in seconds,
+ * without latency nor errors. Times of the report are then virtual, except {@code realSeconds}.
+ * <p>
+ * Standalone: {@code java ... SoakHarness [report path]}, settings are read from {@code soak.*} system properties,
+ * e.g. {@code -Dsoak.endpoints=10000 -Dsoak.runMinutes=120 -Dsoak.numberThreads=8,16 -Dsoak.devicePollingInterval=1,5},
+ * add {@code -Dsoak.virtualTime=true} to simulate the time.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SoakHarness {
+	private static final String ORGANIZATION_ID = "soak-org";
+	private static final String API_KEY = "soak-key";
+	private static final String CONTROL_PROPERTY = "Display#ScreenBrightness(%)";
+	private static final long SCHEDULER_TIMEOUT = TimeUnit.MINUTES.toMillis(2);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private int numberOfEndpoints = 10000;
+	private long runMillis = TimeUnit.MINUTES.toMillis(10);
+	private int[] numberThreads = { 8 };
+	private int[] devicePollingIntervals = { 1 };
+	private long monitoringCycleMillis = TimeUnit.SECONDS.toMillis(30);
+	private int timeScale = 10;
+	private int controlEveryCycles = 10;
+	private double latencyMedianMillis = 120;
+	private double latencySigma = 0.5;
+	private double slowTailRatio = 0.01;
+	private long slowTailMillis = 2000;
+	private double rateLimitRatio = 0.005;
+	private double serverErrorRatio = 0.005;
+	private boolean virtualTime;
+	private boolean fastFirstSweep;
+
+	/**
+	 * Sets {@link #numberOfEndpoints}
+	 *
+	 * @param numberOfEndpoints number of endpoints of the simulated organization
+	 */
+	public void setNumberOfEndpoints(int numberOfEndpoints) {
+		this.numberOfEndpoints = numberOfEndpoints;
+	}
+
+	/**
+	 * Sets {@link #runMillis}
+	 *
+	 * @param runMillis duration of each run in milliseconds
+	 */
+	public void setRunMillis(long runMillis) {
+		this.runMillis = runMillis;
+	}
+
+	/**
+	 * Sets {@link #numberThreads}
+	 *
+	 * @param numberThreads values of the numberThreads property to run
+	 */
+	public void setNumberThreads(int... numberThreads) {
+		this.numberThreads = numberThreads;
+	}
+
+	/**
+	 * Sets {@link #devicePollingIntervals}
+	 *
+	 * @param devicePollingIntervals values of the devicePollingInterval property to run
+	 */
+	public void setDevicePollingIntervals(int... devicePollingIntervals) {
+		this.devicePollingIntervals = devicePollingIntervals;
+	}
+
+	/**
+	 * Sets the Symphony monitoring cycle and its compression
+	 *
+	 * @param monitoringCycleMillis period of the Symphony monitoring cycle in milliseconds
+	 * @param timeScale factor the cycle is shortened by
+	 */
+	public void setMonitoringCycle(long monitoringCycleMillis, int timeScale) {
+		this.monitoringCycleMillis = monitoringCycleMillis;
+		this.timeScale = Math.max(1, timeScale);
+	}
+
+	/**
+	 * Sets {@link #controlEveryCycles}
+	 *
+	 * @param controlEveryCycles number of monitoring cycles between two controls, 0 for none
+	 */
+	public void setControlEveryCycles(int controlEveryCycles) {
+		this.controlEveryCycles = controlEveryCycles;
+	}
+
+	/**
+	 * Sets the latency of the simulated API, see {@link NeatPulseApiSimulator#setLatency(double, double)} and
+	 * {@link NeatPulseApiSimulator#setSlowTail(double, long)}
+	 */
+	public void setLatency(double latencyMedianMillis, double latencySigma, double slowTailRatio, long slowTailMillis) {
+		this.latencyMedianMillis = latencyMedianMillis;
+		this.latencySigma = latencySigma;
+		this.slowTailRatio = slowTailRatio;
+		this.slowTailMillis = slowTailMillis;
+	}
+
+	/**
+	 * Sets the error rates of the simulated API, see {@link NeatPulseApiSimulator#setErrorRates(double, double)}
+	 */
+	public void setErrorRates(double rateLimitRatio, double serverErrorRatio) {
+		this.rateLimitRatio = rateLimitRatio;
+		this.serverErrorRatio = serverErrorRatio;
+	}
+
+	/**
+	 * Sets {@link #virtualTime}
+	 *
+	 * @param virtualTime true to poll an in-memory API on virtual time
+	 */
+	public void setVirtualTime(boolean virtualTime) {
+		this.virtualTime = virtualTime;
+	}
+
+	/**
+	 * Sets {@link #fastFirstSweep}
+	 *
+	 * @param fastFirstSweep value of the fastFirstSweep property
+	 */
+	public void setFastFirstSweep(boolean fastFirstSweep) {
+		this.fastFirstSweep = fastFirstSweep;
+	}
+
+	/**
+	 * Runs every combination of {@link #numberThreads} and {@link #devicePollingIntervals}
+	 *
+	 * @return the report
+	 * @throws Exception if the simulator can't be started
+	 */
+	public ObjectNode run() throws Exception {
+		ObjectNode report = objectMapper.createObjectNode();
+		report.put("createdAt", Instant.now().toString());
+		report.put("javaVersion", System.getProperty("java.version"));
+		report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+		report.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+		ObjectNode settings = report.putObject("settings");
+		settings.put("endpoints", numberOfEndpoints);
+		settings.put("virtualTime", virtualTime);
+		settings.put("fastFirstSweep", fastFirstSweep);
+		settings.put("runSeconds", TimeUnit.MILLISECONDS.toSeconds(runMillis));
+		settings.put("monitoringCycleMillis", monitoringCycleMillis);
+		settings.put("timeScale", timeScale);
+		settings.put("controlEveryCycles", controlEveryCycles);
+		settings.put("latencyMedianMillis", latencyMedianMillis);
+		settings.put("latencySigma", latencySigma);
+		settings.put("slowTailRatio", slowTailRatio);
+		settings.put("slowTailMillis", slowTailMillis);
+		settings.put("rateLimitRatio", rateLimitRatio);
+		settings.put("serverErrorRatio", serverErrorRatio);
+		ArrayNode runs = report.putArray("runs");
+		for (int threads : numberThreads) {
+			for (int interval : devicePollingIntervals) {
+				runs.add(runScenario(threads, interval));
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Writes a report, replacing the file atomically
+	 *
+	 * @param report the report
+	 * @param path the report file
+	 * @throws IOException if the file can't be written
+	 */
+	public void writeReport(ObjectNode report, Path path) throws IOException {
+		Path directory = path.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), report);
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Runs the lifecycle of a communicator against a fresh simulated organization
+	 *
+	 * @param threads value of the numberThreads property
+	 * @param interval value of the devicePollingInterval property
+	 * @return the result of the run
+	 */
+	private ObjectNode runScenario(int threads, int interval) throws Exception {
+		SimulatedFleet fleet = new SimulatedFleet(numberOfEndpoints, 2, 30, 10);
+		NeatPulseApiSimulator simulator = null;
+		VirtualPollingClock virtualClock = null;
+		PollingClock clock = PollingClock.SYSTEM;
+		SimulatedApi api;
+		if (virtualTime) {
+			clock = virtualClock = new VirtualPollingClock(System.currentTimeMillis());
+			api = new InMemoryNeatPulseApiClient(fleet, virtualClock);
+		} else {
+			simulator = new NeatPulseApiSimulator(fleet, ORGANIZATION_ID, API_KEY);
+			simulator.setLatency(latencyMedianMillis, latencySigma);
+			simulator.setSlowTail(slowTailRatio, slowTailMillis);
+			simulator.setErrorRates(rateLimitRatio, serverErrorRatio);
+			api = simulator;
+		}
+		int port = simulator == null ? 0 : simulator.start();
+
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		System.gc();
+		resetHeapPeak();
+		int baselineThreads = threadBean.getThreadCount();
+		threadBean.resetPeakThreadCount();
+
+		NeatPulseCommunicator communicator = new NeatPulseCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("http");
+		communicator.setPort(port);
+		communicator.setLogin(ORGANIZATION_ID);
+		communicator.setPassword(API_KEY);
+		communicator.setNumberThreads(threads);
+		communicator.setDevicePollingInterval(interval);
+		communicator.setFastFirstSweep(fastFirstSweep);
+		if (virtualClock != null) {
+			communicator.setApiClient((InMemoryNeatPulseApiClient) api);
+			communicator.setClock(virtualClock);
+		}
+
+		long cycleMillis = virtualClock != null ? monitoringCycleMillis : Math.max(1, monitoringCycleMillis / timeScale);
+		LatencyHistogram staleness = new LatencyHistogram();
+		List<Long> sweepMillis = new ArrayList<>();
+		long[] endpointStaleness = new long[numberOfEndpoints];
+		long maxStaleness = 0;
+		int cycles = 0;
+		int controlsSent = 0;
+		int controlsFailed = 0;
+		int publishedDevices = 0;
+		long realStart = System.currentTimeMillis();
+		long start = clock.currentTimeMillis();
+		long sweepStart = start;
+		long firstCompleteList = -1;
+		try {
+			communicator.init();
+			for (long nextCycle = start; clock.currentTimeMillis() - start < runMillis; nextCycle += cycleMillis) {
+				communicator.getMultipleStatistics();
+				List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+				publishedDevices = devices.size();
+				if (firstCompleteList < 0 && publishedDevices == numberOfEndpoints) {
+					firstCompleteList = clock.currentTimeMillis() - start;
+				}
+				cycles++;
+				if (controlEveryCycles > 0 && cycles % controlEveryCycles == 0 && !devices.isEmpty()) {
+					controlsSent++;
+					if (!control(communicator, devices)) {
+						controlsFailed++;
+					}
+				}
+
+				long now = clock.currentTimeMillis();
+				boolean sweepComplete = true;
+				for (int i = 0; i < numberOfEndpoints; i++) {
+					long lastResponse = Math.min(api.getLastResponse(Route.INFO, i), api.getLastResponse(Route.SENSOR, i));
+					sweepComplete &= lastResponse >= sweepStart;
+					endpointStaleness[i] = now - Math.max(lastResponse, start);
+					staleness.record(endpointStaleness[i]);
+				}
+				maxStaleness = Math.max(maxStaleness, Arrays.stream(endpointStaleness).max().orElse(0));
+				if (sweepComplete) {
+					sweepMillis.add(now - sweepStart);
+					sweepStart = now;
+				}
+
+				if (virtualClock != null) {
+					advance(virtualClock, nextCycle + cycleMillis);
+				} else {
+					long sleep = nextCycle + cycleMillis - System.currentTimeMillis();
+					if (sleep > 0) {
+						TimeUnit.MILLISECONDS.sleep(sleep);
+					}
+				}
+			}
+		} finally {
+			communicator.destroy();
+		}
+		long elapsed = clock.currentTimeMillis() - start;
+		if (virtualClock != null) {
+			// the stopped scheduler only leaves its wait for the next collection once that time is reached
+			virtualClock.advance(TimeUnit.MINUTES.toMillis(interval) + cycleMillis);
+		}
+		long realElapsed = System.currentTimeMillis() - realStart;
+		long heapHighWater = getHeapPeak();
+		int peakThreads = threadBean.getPeakThreadCount();
+		if (simulator != null) {
+			simulator.stop();
+		}
+
+		ObjectNode run = objectMapper.createObjectNode();
+		run.put("numberThreads", threads);
+		run.put("devicePollingInterval", interval);
+		run.put("elapsedSeconds", elapsed / 1000.0);
+		run.put("realSeconds", realElapsed / 1000.0);
+		run.put("monitoringCycles", cycles);
+		run.put("publishedDevices", publishedDevices);
+		run.put("firstCompleteListSeconds", firstCompleteList < 0 ? null : firstCompleteList / 1000.0);
+		run.put("devicesPerSecond", round(api.getAnsweredCount(Route.INFO) * 1000.0 / elapsed));
+		ObjectNode sweeps = run.putObject("sweeps");
+		sweeps.put("completed", sweepMillis.size());
+		sweeps.put("meanSeconds", sweepMillis.isEmpty() ? null : round(sweepMillis.stream().mapToLong(Long::longValue).average().getAsDouble() / 1000));
+		sweeps.put("maxSeconds", sweepMillis.isEmpty() ? null : round(sweepMillis.stream().mapToLong(Long::longValue).max().getAsLong() / 1000.0));
+		long[] window = staleness.takeWindow();
+		ObjectNode stalenessNode = run.putObject("stalenessSeconds");
+		stalenessNode.put("p50", round(LatencyHistogram.getValueAtPercentile(window, 50) / 1000.0));
+		stalenessNode.put("p95", round(LatencyHistogram.getValueAtPercentile(window, 95) / 1000.0));
+		stalenessNode.put("p99", round(LatencyHistogram.getValueAtPercentile(window, 99) / 1000.0));
+		stalenessNode.put("max", round(maxStaleness / 1000.0));
+		run.put("heapHighWaterBytes", heapHighWater);
+		run.put("baselineThreads", baselineThreads);
+		run.put("peakThreads", peakThreads);
+		ObjectNode requests = run.putObject("requests");
+		for (Route route : Route.values()) {
+			requests.put(route.name(), api.getRequestCount(route));
+		}
+		run.put("rateLimited", api.getRateLimitedCount());
+		run.put("serverErrors", api.getServerErrorCount());
+		run.put("controlsSent", controlsSent);
+		run.put("controlsFailed", controlsFailed);
+		return run;
+	}
+
+	/**
+	 * Advances a virtual clock to a time, one wake-up of the polling scheduler after the other,
+	 * letting the scheduler finish its work before each step
+	 *
+	 * @param clock the clock of the communicator
+	 * @param target the time to reach
+	 * @throws InterruptedException if interrupted while waiting for the scheduler
+	 * @throws IllegalStateException if the scheduler doesn't go back to sleep
+	 */
+	private static void advance(VirtualPollingClock clock, long target) throws InterruptedException {
+		while (clock.currentTimeMillis() < target) {
+			if (!clock.awaitSleeping(1, SCHEDULER_TIMEOUT)) {
+				throw new IllegalStateException("The polling scheduler did not go back to sleep within " + SCHEDULER_TIMEOUT + "ms");
+			}
+			clock.advanceToNextWakeUp(target);
+		}
+	}
+
+	/**
+	 * Changes the brightness of a random published device
+	 *
+	 * @return true if the control succeeded
+	 */
+	private boolean control(NeatPulseCommunicator communicator, List<AggregatedDevice> devices) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(devices.get(random.nextInt(devices.size())).getDeviceId());
+		controllableProperty.setProperty(CONTROL_PROPERTY);
+		controllableProperty.setValue(String.valueOf(10 + random.nextInt(90)));
+		try {
+			communicator.controlProperty(controllableProperty);
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resets the peak usage of the heap memory pools
+	 */
+	private static void resetHeapPeak() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the sum of the peak usage of the heap memory pools since the last reset
+	 */
+	private static long getHeapPeak() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	/**
+	 * Rounds a value to one decimal
+	 */
+	private static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+
+	/**
+	 * Parses a comma separated list of integers
+	 */
+	private static int[] parseList(String value) {
+		return Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+	}
+
+	/**
+	 * Runs the soak harness and writes its report, by default to {@code target/soak-report.json}
+	 *
+	 * @param args optional report path
+	 */
+	public static void main(String[] args) throws Exception {
+		SoakHarness harness = new SoakHarness();
+		harness.setNumberOfEndpoints(Integer.getInteger("soak.endpoints", 10000));
+		harness.setRunMillis(TimeUnit.MINUTES.toMillis(Integer.getInteger("soak.runMinutes", 10)));
+		harness.setNumberThreads(parseList(System.getProperty("soak.numberThreads", "8")));
+		harness.setDevicePollingIntervals(parseList(System.getProperty("soak.devicePollingInterval", "1")));
+		harness.setMonitoringCycle(TimeUnit.SECONDS.toMillis(Integer.getInteger("soak.monitoringCycleSeconds", 30)), Integer.getInteger("soak.timeScale", 10));
+		harness.setControlEveryCycles(Integer.getInteger("soak.controlEveryCycles", 10));
+		harness.setLatency(Double.parseDouble(System.getProperty("soak.latencyMedianMillis", "120")), Double.parseDouble(System.getProperty("soak.latencySigma", "0.5")),
+				Double.parseDouble(System.getProperty("soak.slowTailRatio", "0.01")), Long.getLong("soak.slowTailMillis", 2000));
+		harness.setErrorRates(Double.parseDouble(System.getProperty("soak.rateLimitRatio", "0.005")), Double.parseDouble(System.getProperty("soak.serverErrorRatio", "0.005")));
+		harness.setVirtualTime(Boolean.getBoolean("soak.virtualTime"));
+		harness.setFastFirstSweep(Boolean.getBoolean("soak.fastFirstSweep"));
+		Path reportPath = Paths.get(args.length > 0 ? args[0] : "target/soak-report.json");
+		harness.writeReport(harness.run(), reportPath);
+		System.out.println("Soak report written to " + reportPath.toAbsolutePath());
+		System.exit(0);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.neat.pulse.simulator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * SoakHarnessTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SoakHarnessTest {
+
+	/**
+	 * Test case to verify a short run completes sweeps and writes a readable report.
+	 */
+	@Test
+	void testShortRunReport() throws Exception {
+		SoakHarness harness = new SoakHarness();
+		harness.setNumberOfEndpoints(100);
+		harness.setRunMillis(TimeUnit.SECONDS.toMillis(10));
+		harness.setNumberThreads(4);
+		harness.setDevicePollingIntervals(10);
+		harness.setMonitoringCycle(TimeUnit.SECONDS.toMillis(30), 60);
+		harness.setControlEveryCycles(5);
+		harness.setLatency(5, 0.2, 0, 0);
+		harness.setErrorRates(0, 0);
+		ObjectNode report = harness.run();
+
+		Path path = Files.createTempDirectory("soak").resolve("soak-report.json");
+		harness.writeReport(report, path);
+		JsonNode run = new ObjectMapper().readTree(path.toFile()).get("runs").get(0);
+		Assert.assertEquals(4, run.get("numberThreads").asInt());
+		Assert.assertEquals(100, run.get("publishedDevices").asInt());
+		Assert.assertTrue(run.get("sweeps").get("completed").asInt() >= 1);
+		Assert.assertTrue(run.get("devicesPerSecond").asDouble() > 0);
+		Assert.assertTrue(run.get("heapHighWaterBytes").asLong() > 0);
+		Assert.assertTrue(run.get("controlsSent").asInt() > 0);
+		Assert.assertEquals(0, run.get("controlsFailed").asInt());
+		Assert.assertTrue(run.get("stalenessSeconds").get("max").asDouble() >= run.get("stalenessSeconds").get("p50").asDouble());
+	}
+
+	/**
+	 * Test case to verify hours of polling run on virtual time, every device refreshed within its polling interval.
+	 */
+	@Test
+	void testVirtualTimeRun() throws Exception {
+		SoakHarness harness = new SoakHarness();
+		harness.setVirtualTime(true);
+		harness.setNumberOfEndpoints(200);
+		harness.setRunMillis(TimeUnit.HOURS.toMillis(3));
+		harness.setNumberThreads(8);
+		harness.setDevicePollingIntervals(10);
+		harness.setMonitoringCycle(TimeUnit.SECONDS.toMillis(30), 1);
+		harness.setControlEveryCycles(0);
+		JsonNode run = harness.run().get("runs").get(0);
+
+		Assert.assertTrue(run.get("elapsedSeconds").asDouble() >= TimeUnit.HOURS.toSeconds(3));
+		Assert.assertTrue(run.get("realSeconds").asDouble() < run.get("elapsedSeconds").asDouble() / 100);
+		Assert.assertEquals(200, run.get("publishedDevices").asInt());
+		Assert.assertTrue(run.get("sweeps").get("completed").asInt() >= 2);
+		Assert.assertTrue(run.get("devicesPerSecond").asDouble() > 0);
+		Assert.assertEquals(0, run.get("serverErrors").asInt());
+	}
+
+	/**
+	 * Test case to verify the fast first sweep publishes the whole device list within the first monitoring cycles.
+	 */
+	@Test
+	void testFastFirstSweep() throws Exception {
+		double regular = runStartup(false).get("firstCompleteListSeconds").asDouble();
+		double fast = runStartup(true).get("firstCompleteListSeconds").asDouble();
+		Assert.assertTrue(regular >= 120);
+		Assert.assertTrue(fast <= 60);
+	}
+
+	/**
+	 * Runs the first minutes of 500 endpoints polled in chunks of 55 devices per monitoring cycle, on virtual time
+	 */
+	private static JsonNode runStartup(boolean fastFirstSweep) throws Exception {
+		SoakHarness harness = new SoakHarness();
+		harness.setVirtualTime(true);
+		harness.setFastFirstSweep(fastFirstSweep);
+		harness.setNumberOfEndpoints(500);
+		harness.setRunMillis(TimeUnit.MINUTES.toMillis(10));
+		harness.setNumberThreads(8);
+		harness.setDevicePollingIntervals(10);
+		harness.setMonitoringCycle(TimeUnit.SECONDS.toMillis(30), 1);
+		harness.setControlEveryCycles(0);
+		JsonNode run = harness.run().get("runs").get(0);
+		Assert.assertEquals(500, run.get("publishedDevices").asInt());
+		return run;
+	}
+}